@@ -4,12 +4,13 @@ import { provideHttpClient, withInterceptors } from '@angular/common/http';
 
 import { routes } from './app.routes';
 import { jsonParserInterceptor } from './interceptors/json-parser.interceptor';
+import { authTokenInterceptor } from './interceptors/auth-token.interceptor';
 
 export const appConfig: ApplicationConfig = {
   providers: [
     provideBrowserGlobalErrorListeners(),
     provideZonelessChangeDetection(),
     provideRouter(routes),
-    provideHttpClient(withInterceptors([jsonParserInterceptor]))
+    provideHttpClient(withInterceptors([authTokenInterceptor, jsonParserInterceptor]))
   ]
 };
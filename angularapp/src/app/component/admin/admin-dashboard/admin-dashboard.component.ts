@@ -6,10 +6,12 @@ import { GoalService } from '../../../service/goal.service';
 import { FeedbackService } from '../../../service/feedback.service';
 import { AppraisalService } from '../../../service/appraisal.service';
 import { AuthService } from '../../../service/auth.service';
+import { DashboardService } from '../../../service/dashboard.service';
 import { EmployeeProfile } from '../../../model/employee-profile.model';
 import { Goal } from '../../../model/goal.model';
 import { Feedback } from '../../../model/feedback.model';
 import { Appraisal } from '../../../model/appraisal.model';
+import { AdminDashboardSummary } from '../../../model/dashboard.model';
 
 
 interface PerformanceMetric {
@@ -82,13 +84,38 @@ export class AdminDashboardComponent implements OnInit {
     private goalService: GoalService,
     private feedbackService: FeedbackService,
     private appraisalService: AppraisalService,
-    private authService: AuthService
+    private authService: AuthService,
+    private dashboardService: DashboardService
   ) {}
 
   ngOnInit() {
+    this.loadSummary();
     this.loadManagerData();
   }
 
+  // Headline figures come pre-aggregated from the server
+  loadSummary() {
+    this.dashboardService.getAdminSummary().subscribe({
+      next: (summary) => this.applySummary(summary),
+      error: (error) => console.error('Error loading dashboard summary:', error)
+    });
+  }
+
+  applySummary(summary: AdminDashboardSummary) {
+    this.employeeStats = {
+      totalEmployees: summary.totalEmployees,
+      newlyJoined: summary.newlyJoined,
+      activeEmployees: summary.totalEmployees, // All are active for now
+      employeesOnLeave: 0, // No leave tracking for now
+      totalDepartments: summary.totalDepartments
+    };
+    this.performanceMetrics = [
+      { label: 'Review Completion Rate', value: Math.round(summary.appraisalCompletionRate), target: 90, unit: '%' },
+      { label: 'Employee Satisfaction', value: Number(summary.averageFeedbackRating.toFixed(1)), target: 4.5, unit: '/5' },
+      { label: 'Goal Achievement', value: Math.round(summary.goalCompletionRate), target: 80, unit: '%' }
+    ];
+  }
+
   loadManagerData() {
     this.isLoading = true;
     
@@ -105,7 +132,6 @@ export class AdminDashboardComponent implements OnInit {
           emp.user?.role === 'Employee' || emp.user?.role === 'employee'
         );
         console.log('Filtered employees (excluding admins):', this.allEmployees.length);
-        this.calculateEmployeeStats();
         this.loadAllEmployeeData();
       },
       error: (error) => {
@@ -157,19 +183,6 @@ export class AdminDashboardComponent implements OnInit {
     });
   }
 
-  calculateEmployeeStats() {
-    this.employeeStats.totalEmployees = this.allEmployees.length;
-    this.employeeStats.newlyJoined = this.allEmployees.filter(emp => {
-      const joiningDate = new Date(emp.dateOfJoining);
-      const thirtyDaysAgo = new Date();
-      thirtyDaysAgo.setDate(thirtyDaysAgo.getDate() - 30);
-      return joiningDate > thirtyDaysAgo;
-    }).length;
-    this.employeeStats.activeEmployees = this.allEmployees.length; // All are active for now
-    this.employeeStats.employeesOnLeave = 0; // No leave tracking for now
-    this.employeeStats.totalDepartments = new Set(this.allEmployees.map(emp => emp.department)).size;
-  }
-
   generateRecentActivities() {
     this.recentActivities = [];
     
@@ -307,7 +320,7 @@ export class AdminDashboardComponent implements OnInit {
     this.router.navigate(['/website/landing']);
   }
 
-  // Manager-specific methods
+  // Manager-specific methods (employeeProfileService.getReports serves resolved teams without loading everyone)
   getEmployeesByManager(managerName: string): EmployeeProfile[] {
     return this.allEmployees.filter(emp => emp.reportingManager === managerName);
   }
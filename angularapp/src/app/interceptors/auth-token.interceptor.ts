@@ -0,0 +1,39 @@
+import { HttpErrorResponse, HttpInterceptorFn } from '@angular/common/http';
+import { inject, Injector } from '@angular/core';
+import { Router } from '@angular/router';
+import { catchError, throwError } from 'rxjs';
+import { AuthService } from '../service/auth.service';
+
+export const authTokenInterceptor: HttpInterceptorFn = (req, next) => {
+  const injector = inject(Injector);
+  const router = inject(Router);
+
+  // Read from storage rather than AuthService, which itself depends on HttpClient
+  const storedUser = localStorage.getItem('currentUser');
+  if (!storedUser) {
+    return next(req);
+  }
+
+  try {
+    const user = JSON.parse(storedUser);
+    // An expired token is only rejected where one is required, but there is no point sending it
+    const expiresAt = user.tokenExpiresAt ? Date.parse(user.tokenExpiresAt) : 0;
+    if (user.token && expiresAt > Date.now()) {
+      return next(req.clone({
+        setHeaders: { 'Authorization': `Bearer ${user.token}` }
+      })).pipe(
+        catchError((error: HttpErrorResponse) => {
+          // The server no longer accepts the token (signing key changed, e.g. after a restart): start a new session
+          if (error.status === 401) {
+            injector.get(AuthService).logout();
+            router.navigate(['/login']);
+          }
+          return throwError(() => error);
+        })
+      );
+    }
+  } catch (error) {
+    console.error('Error reading stored token:', error);
+  }
+  return next(req);
+};
@@ -0,0 +1,14 @@
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  limit: number;
+  hasMore: boolean;
+}
+
+export interface CursorPageQuery {
+  cursor?: string | null;
+  limit?: number;
+  status?: string;
+  cycleId?: number;
+  employeeId?: number;
+}
@@ -0,0 +1,67 @@
+// src/app/model/dashboard.model.ts
+
+export interface AdminDashboardSummary {
+  totalEmployees: number;
+  newlyJoined: number;
+  totalDepartments: number;
+
+  totalGoals: number;
+  goalsByStatus: { [status: string]: number };
+  goalCompletionRate: number;     // 0-100
+
+  totalFeedbacks: number;
+  averageFeedbackRating: number;  // 0-5
+
+  totalAppraisals: number;
+  appraisalsByStatus: { [status: string]: number };
+  appraisalCompletionRate: number; // 0-100
+
+  teamSizes: { [reportingManager: string]: number };
+}
+
+export interface ProfileSummary {
+  employeeProfileId: number;
+  userId?: number;
+  fullName?: string;
+  email?: string;
+  department?: string;
+  designation?: string;
+  dateOfJoining?: string;
+  reportingManager?: string;
+  currentProject?: string;
+  currentTeam?: string;
+  lastAppraisalRating?: number;
+}
+
+export interface FeedbackSummary {
+  feedbackId: number;
+  feedbackType?: string;
+  rating?: number;
+  comments?: string;
+  createdDate?: string;
+  reviewerId?: number;
+  reviewerName?: string;
+}
+
+export interface AppraisalSummary {
+  appraisalId: number;
+  cycleId?: number;
+  cycleName?: string;
+  status?: string;
+  selfRating?: number;
+  managerRating?: number;
+  appraisalDate?: string;
+  reviewDate?: string;
+  periodStart?: string;
+  periodEnd?: string;
+}
+
+export interface EmployeeDashboardSummary {
+  profile: ProfileSummary;
+  totalGoals: number;
+  goalsByStatus: { [status: string]: number };
+  goalCompletionRate: number;
+  recentFeedback: FeedbackSummary[];
+  appraisals: AppraisalSummary[];
+  averageManagerRating: number | null;
+}
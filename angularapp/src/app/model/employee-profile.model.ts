@@ -12,6 +12,7 @@ export interface EmployeeProfile {
   designation: string;
   dateOfJoining: string;          // ISO date string (yyyy-MM-dd)
   reportingManager: string;
+  managerId?: number;             // reportingManager's profile, once the name resolves to exactly one
   currentProject: string;
   currentTeam: string;
   skills: string;
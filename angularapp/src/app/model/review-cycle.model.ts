@@ -7,3 +7,19 @@ export interface ReviewCycle {
   status: string;
   description?: string;
 }
+
+export interface CycleLaunchJob {
+  jobId: string;
+  cycleId: number;
+  department?: string;
+  status: string; // Running, Completed, Completed with errors, Failed
+  totalEmployees: number;
+  processed: number;
+  created: number;
+  skipped: number;
+  failed: number;
+  startedAt: string;
+  finishedAt?: string;
+  error?: string;
+  done: boolean;
+}
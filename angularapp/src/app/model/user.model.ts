@@ -13,4 +13,7 @@ export interface User {
   role?: string;
   username?: string;
   employeeProfiles?: EmployeeProfile[]; // link to employee profiles
+  employeeProfileId?: number; // set from the login response
+  token?: string; // bearer token from login, sent by authTokenInterceptor
+  tokenExpiresAt?: string; // ISO-8601 instant
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 // src/app/services/appraisal.service.ts
 
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Appraisal } from '../model/appraisal.model';
+import { CursorPage, CursorPageQuery } from '../model/cursor-page.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -16,7 +17,18 @@ export class AppraisalService {
 
   // Get all appraisals
   getAllAppraisals(): Observable<Appraisal[]> {
-    return this.http.get<Appraisal[]>(`${this.baseUrl}`);
+    return this.http.get<Appraisal[]>(`${this.baseUrl}`, { params: { all: 'true' } });
+  }
+
+  // Get one keyset page; pass the previous page's nextCursor to continue
+  getAppraisalsPage(query: CursorPageQuery = {}): Observable<CursorPage<Appraisal>> {
+    let params = new HttpParams();
+    if (query.cursor) params = params.set('cursor', query.cursor);
+    if (query.limit) params = params.set('limit', query.limit);
+    if (query.status) params = params.set('status', query.status);
+    if (query.cycleId) params = params.set('cycleId', query.cycleId);
+    if (query.employeeId) params = params.set('employeeId', query.employeeId);
+    return this.http.get<CursorPage<Appraisal>>(`${this.baseUrl}`, { params });
   }
 
   // Get appraisal by ID
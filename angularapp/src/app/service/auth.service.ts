@@ -46,9 +46,10 @@ export class AuthService {
             firstName: response.firstName,
             lastName: response.lastName,
             phoneNumber: response.phoneNumber,
-            password: response.password,
             role: response.role,
-            employeeProfiles: response.employeeProfiles
+            employeeProfileId: response.employeeProfileId,
+            token: response.token,
+            tokenExpiresAt: response.expiresAt
           };
           console.log('AuthService: Email login successful, processed user:', user);
           this.setCurrentUser(user);
@@ -89,9 +90,10 @@ export class AuthService {
             firstName: response.firstName,
             lastName: response.lastName,
             phoneNumber: response.phoneNumber,
-            password: response.password,
             role: response.role,
-            employeeProfiles: response.employeeProfiles
+            employeeProfileId: response.employeeProfileId,
+            token: response.token,
+            tokenExpiresAt: response.expiresAt
           };
           console.log('AuthService: Phone login successful, processed user:', user);
           this.setCurrentUser(user);
@@ -0,0 +1,28 @@
+// src/app/service/dashboard.service.ts
+
+import { Injectable } from '@angular/core';
+import { HttpClient } from '@angular/common/http';
+import { Observable } from 'rxjs';
+import { AdminDashboardSummary, EmployeeDashboardSummary } from '../model/dashboard.model';
+import { environment } from '../../environments/environment';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class DashboardService {
+  private baseUrl = `${environment.apiUrl}/dashboard`;
+
+  constructor(private http: HttpClient) {}
+
+  // Get server-side aggregates for the admin dashboard
+  getAdminSummary(): Observable<AdminDashboardSummary> {
+    return this.http.get<AdminDashboardSummary>(`${this.baseUrl}/admin`);
+  }
+
+  // Get profile, goal counts, recent feedback and appraisal history in one call
+  getEmployeeSummary(employeeProfileId: number, recentFeedback = 5): Observable<EmployeeDashboardSummary> {
+    return this.http.get<EmployeeDashboardSummary>(`${this.baseUrl}/employee/${employeeProfileId}`, {
+      params: { recentFeedback }
+    });
+  }
+}
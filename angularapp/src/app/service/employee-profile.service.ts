@@ -58,4 +58,14 @@ export class EmployeeProfileService {
   searchEmployeeProfilesByName(name: string): Observable<EmployeeProfile[]> {
     return this.http.get<EmployeeProfile[]>(`${this.apiUrl}/search?name=${encodeURIComponent(name)}`);
   }
+
+  /** Profiles reporting to a manager; transitive includes everyone further down */
+  getReports(managerId: number, transitive = false): Observable<EmployeeProfile[]> {
+    return this.http.get<EmployeeProfile[]>(`${this.apiUrl}/${managerId}/reports?transitive=${transitive}`);
+  }
+
+  /** Headcount, depth, ratings and departments of everyone below a manager */
+  getTeamRollup(managerId: number): Observable<any> {
+    return this.http.get<any>(`${this.apiUrl}/${managerId}/team-rollup`);
+  }
 }
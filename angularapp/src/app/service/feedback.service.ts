@@ -1,9 +1,10 @@
 // src/app/services/feedback.service.ts
 
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Feedback } from '../model/feedback.model';
+import { CursorPage, CursorPageQuery } from '../model/cursor-page.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -16,7 +17,18 @@ export class FeedbackService {
 
   // Get all feedbacks
   getAllFeedbacks(): Observable<Feedback[]> {
-    return this.http.get<Feedback[]>(`${this.baseUrl}`);
+    return this.http.get<Feedback[]>(`${this.baseUrl}`, { params: { all: 'true' } });
+  }
+
+  // Get one keyset page; pass the previous page's nextCursor to continue
+  getFeedbacksPage(query: CursorPageQuery = {}): Observable<CursorPage<Feedback>> {
+    let params = new HttpParams();
+    if (query.cursor) params = params.set('cursor', query.cursor);
+    if (query.limit) params = params.set('limit', query.limit);
+    if (query.status) params = params.set('type', query.status);
+    if (query.cycleId) params = params.set('cycleId', query.cycleId);
+    if (query.employeeId) params = params.set('employeeId', query.employeeId);
+    return this.http.get<CursorPage<Feedback>>(`${this.baseUrl}`, { params });
   }
 
   // Get feedback by ID
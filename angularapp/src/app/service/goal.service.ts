@@ -1,9 +1,10 @@
 // src/app/services/goal.service.ts
 
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Goal } from '../model/goal.model';
+import { CursorPage, CursorPageQuery } from '../model/cursor-page.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -16,7 +17,18 @@ export class GoalService {
 
   // Get all goals
   getAllGoals(): Observable<Goal[]> {
-    return this.http.get<Goal[]>(`${this.baseUrl}`);
+    return this.http.get<Goal[]>(`${this.baseUrl}`, { params: { all: 'true' } });
+  }
+
+  // Get one keyset page; pass the previous page's nextCursor to continue
+  getGoalsPage(query: CursorPageQuery = {}): Observable<CursorPage<Goal>> {
+    let params = new HttpParams();
+    if (query.cursor) params = params.set('cursor', query.cursor);
+    if (query.limit) params = params.set('limit', query.limit);
+    if (query.status) params = params.set('status', query.status);
+    if (query.cycleId) params = params.set('cycleId', query.cycleId);
+    if (query.employeeId) params = params.set('employeeId', query.employeeId);
+    return this.http.get<CursorPage<Goal>>(`${this.baseUrl}`, { params });
   }
 
   // Get goal by ID
@@ -49,6 +61,11 @@ export class GoalService {
     return this.http.post<Goal>(`${this.baseUrl}/employee/${employeeId}/appraisal/${appraisalId}`, goal);
   }
 
+  // Assign a copy of the template goal to every employee in one request
+  createGoalsBulk(template: Goal, employeeIds: number[]): Observable<{ created: number; goalIds: number[] }> {
+    return this.http.post<{ created: number; goalIds: number[] }>(`${this.baseUrl}/bulk`, { template, employeeIds });
+  }
+
   // Update goal
   updateGoal(id: number, goal: Goal): Observable<Goal> {
     return this.http.put<Goal>(`${this.baseUrl}/${id}`, goal);
@@ -1,9 +1,9 @@
 // src/app/services/review-cycle.service.ts
 
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { ReviewCycle } from '../model/review-cycle.model';
+import { CycleLaunchJob, ReviewCycle } from '../model/review-cycle.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -34,6 +34,18 @@ export class ReviewCycleService {
     return this.http.put<ReviewCycle>(`${this.baseUrl}/${id}`, cycle);
   }
 
+  // Start creating Draft appraisals for the cycle; poll getLaunchJob until done
+  launchReviewCycle(id: number, department?: string): Observable<CycleLaunchJob> {
+    let params = new HttpParams();
+    if (department) params = params.set('department', department);
+    return this.http.post<CycleLaunchJob>(`${this.baseUrl}/${id}/launch`, null, { params });
+  }
+
+  // Get progress of a launch job
+  getLaunchJob(id: number, jobId: string): Observable<CycleLaunchJob> {
+    return this.http.get<CycleLaunchJob>(`${this.baseUrl}/${id}/launch/${jobId}`);
+  }
+
   // Delete review cycle
   deleteReviewCycle(id: number): Observable<void> {
     return this.http.delete<void>(`${this.baseUrl}/${id}`);
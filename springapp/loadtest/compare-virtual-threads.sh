@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# p99 latency at review-cycle peak with and without the virtual-threads profile.
+# Needs a JDK 21+, a MySQL database configured as for a normal run (spring.datasource.*) and seeded profiles
+# (POST /api/users/import). Each run builds, starts the backend, drives USERS concurrent users through
+# ReviewPeakLoad and stops it; the reports are written to target/loadtest-platform.txt and target/loadtest-virtual.txt.
+#   USERS=2000 DURATION=120s ./loadtest/compare-virtual-threads.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+USERS=${USERS:-2000}
+DURATION=${DURATION:-120s}
+WARMUP=${WARMUP:-30s}
+PORT=${PORT:-8080}
+LOAD_ARGS="-users=$USERS -duration=$DURATION -warmup=$WARMUP -base-url=http://localhost:$PORT"
+
+run() {
+  local name=$1 build_profile=$2 spring_profiles=$3
+  ./mvnw -q -B $build_profile -DskipTests package
+  java -jar target/springapp-0.0.1-SNAPSHOT.jar --server.port="$PORT" --spring.profiles.active="$spring_profiles" \
+      > "target/loadtest-$name-server.log" 2>&1 &
+  local server=$!
+  trap 'kill $server 2>/dev/null || true' EXIT
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+  ./mvnw -q -B -Ploadtest test -Dload.args="$LOAD_ARGS" | tee "target/loadtest-$name.txt"
+  curl -s "http://localhost:$PORT/actuator/prometheus" | grep -E '^(hikaricp_connections_(pending|timeout_total)|app_admission_)' \
+      >> "target/loadtest-$name.txt" || true
+  kill $server
+  wait $server 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform "" default
+run virtual -Pvirtual-threads virtual-threads
+
+for name in platform virtual; do
+  echo "== $name"
+  grep -E '^(group|all) ' "target/loadtest-$name.txt"
+done
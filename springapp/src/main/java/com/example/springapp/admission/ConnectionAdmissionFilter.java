@@ -0,0 +1,128 @@
+package com.example.springapp.admission;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Admission control sized to the connection pool. With virtual threads Tomcat no longer caps concurrency, so every
+// request would go straight to Hikari, wait there in no particular order and fail after connection-timeout. Instead
+// /api requests wait here, first come first served, for one of as many slots as the pool has connections (each request
+// holds at most one, open-in-view), and are turned away with 503 + Retry-After when the queue or the wait gets too long.
+// Streamed exports give their slot back when the response goes async, while the stream still reads.
+@Component
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConnectionAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionAdmissionFilter.class);
+
+    private static final String BUSY_BODY = "{\"status\":503,\"error\":\"Service Unavailable\","
+            + "\"message\":\"Server is busy. Please try again shortly.\"}";
+
+    private final Semaphore slots;
+    private final int permits;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final List<String> exemptPaths;
+    private final Counter rejected;
+
+    public ConnectionAdmissionFilter(DataSource dataSource,
+                                     MeterRegistry registry,
+                                     @Value("${app.admission.permits:0}") int permits,
+                                     @Value("${app.admission.max-queue:5000}") int maxQueue,
+                                     @Value("${app.admission.max-wait:10s}") Duration maxWait,
+                                     @Value("${app.admission.exempt-paths:}") List<String> exemptPaths) {
+        if (permits < 0 || maxQueue < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("app.admission.permits, max-queue and max-wait must not be negative");
+        }
+        // 0 means one slot per pooled connection
+        this.permits = permits > 0 ? permits : poolSize(dataSource);
+        this.slots = new Semaphore(this.permits, true);
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.exemptPaths = List.copyOf(exemptPaths);
+        this.rejected = Counter.builder("app.admission.rejected")
+                .description("API requests turned away because no connection slot freed up in time")
+                .register(registry);
+        Gauge.builder("app.admission.waiting", slots, Semaphore::getQueueLength)
+                .description("API requests queued for a connection slot")
+                .register(registry);
+        Gauge.builder("app.admission.active", slots, s -> this.permits - s.availablePermits())
+                .description("API requests holding a connection slot")
+                .register(registry);
+        log.info("Admission control: {} slots, up to {} waiting for at most {}", this.permits, maxQueue, maxWait);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            throw new IllegalStateException("app.admission.permits must be set when the DataSource is not Hikari", e);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") || exemptPaths.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!admit()) {
+            rejected.increment();
+            log.debug("Rejected {} {}: no connection slot", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(BUSY_BODY.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            slots.release();
+        }
+    }
+
+    // The fair semaphore hands slots out in arrival order, including to timed waits; with a full queue a request only
+    // gets in if a slot is free right now
+    private boolean admit() {
+        long waitNanos = slots.getQueueLength() >= maxQueue ? 0 : maxWaitNanos;
+        try {
+            return slots.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
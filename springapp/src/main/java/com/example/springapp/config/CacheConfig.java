@@ -0,0 +1,67 @@
+package com.example.springapp.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+// Hibernate second-level cache regions, created up front with the bounds from application.properties.
+// missing_cache_strategy=fail makes a newly @Cache-annotated entity without a region here a startup error.
+@Configuration
+public class CacheConfig {
+
+    public static final String[] ENTITY_REGIONS = {
+        ReviewCycle.class.getName(),
+        User.class.getName(),
+        User.class.getName() + ".employeeProfiles",
+        EmployeeProfile.class.getName()
+    };
+
+    public static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.cache.entity.max-size:10000}") long entityMaxSize,
+                                              @Value("${app.cache.entity.ttl:10m}") Duration entityTtl,
+                                              @Value("${app.cache.query.max-size:1000}") long queryMaxSize,
+                                              @Value("${app.cache.query.ttl:5m}") Duration queryTtl) {
+        // A private manager per application context, so contexts on different databases never share entries
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("springapp-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            manager.createCache(region, bounded(entityMaxSize, entityTtl));
+        }
+        manager.createCache(QUERY_REGION, bounded(queryMaxSize, queryTtl));
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        manager.createCache(TIMESTAMPS_REGION, new CaffeineConfiguration<Object, Object>());
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
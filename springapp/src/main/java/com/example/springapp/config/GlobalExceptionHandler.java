@@ -1,22 +1,36 @@
 package com.example.springapp.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.hibernate.exception.JDBCConnectionException;
 import java.sql.SQLTransientConnectionException;
 import jakarta.persistence.EntityNotFoundException;
+import com.example.springapp.service.CycleLaunchInProgressException;
+import com.example.springapp.service.HierarchyLoadingException;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     private ResponseEntity<Map<String, Object>> build(HttpStatus status, String message) {
         Map<String, Object> body = new HashMap<>();
         body.put("status", status.value());
@@ -30,13 +44,52 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.BAD_REQUEST, ex.getMessage() != null ? ex.getMessage() : "Bad request");
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        return build(HttpStatus.BAD_REQUEST, message.isEmpty() ? "Validation failed" : message);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> handleUnreadable(HttpMessageNotReadableException ex) {
+        return build(HttpStatus.BAD_REQUEST, "Malformed request body");
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<Map<String, Object>> handleNotFound(EntityNotFoundException ex) {
         return build(HttpStatus.NOT_FOUND, ex.getMessage() != null ? ex.getMessage() : "Resource not found");
     }
 
+    @ExceptionHandler(CycleLaunchInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleLaunchInProgress(CycleLaunchInProgressException ex) {
+        return build(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    // A unique or foreign key constraint refused the write, e.g. a second appraisal for an employee in one cycle
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleIntegrityViolation(DataIntegrityViolationException ex) {
+        log.info("Write rejected by a constraint: {}", ex.getMostSpecificCause().toString());
+        return build(HttpStatus.CONFLICT, "The change conflicts with existing data.");
+    }
+
+    @ExceptionHandler(HierarchyLoadingException.class)
+    public ResponseEntity<Map<String, Object>> handleHierarchyLoading(HierarchyLoadingException ex) {
+        ResponseEntity<Map<String, Object>> response = build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode()).header(HttpHeaders.RETRY_AFTER, "1").body(response.getBody());
+    }
+
+    // A stale version: 412 when the client made the update conditional with If-Match, 409 when the body carried it
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleStaleVersion(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return build(status, "The record was changed by someone else. Reload it and try again.");
+    }
+
     @ExceptionHandler(DataAccessException.class)
     public ResponseEntity<Map<String, Object>> handleDatabase(DataAccessException ex) {
+        log.warn("Database error: {}", ex.getMostSpecificCause().toString());
         return build(HttpStatus.SERVICE_UNAVAILABLE, "Database unavailable. Please try again later.");
     }
 
@@ -47,9 +100,16 @@ public class GlobalExceptionHandler {
         SQLTransientConnectionException.class
     })
     public ResponseEntity<Map<String, Object>> handleDbConnectivity(Exception ex) {
+        log.warn("Database unreachable: {}", ex.toString());
         return build(HttpStatus.SERVICE_UNAVAILABLE, "Backend service is temporarily unavailable.");
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, Object>> handleOverload(RejectedExecutionException ex) {
+        ResponseEntity<Map<String, Object>> response = build(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy. Please try again shortly.");
+        return ResponseEntity.status(response.getStatusCode()).header(HttpHeaders.RETRY_AFTER, "1").body(response.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
         return build(HttpStatus.BAD_REQUEST, "Invalid parameter: " + ex.getName());
@@ -57,6 +117,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
+        log.error("Unhandled exception", ex);
         return build(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
     }
 }
@@ -0,0 +1,21 @@
+package com.example.springapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+
+@Configuration
+public class JacksonConfig {
+
+    // Associations that a repository fetch plan did not load are written as {"<id>": value}
+    // instead of being lazily initialized one row at a time during serialization
+    @Bean
+    public Module hibernateModule() {
+        Hibernate6Module module = new Hibernate6Module();
+        module.configure(Hibernate6Module.Feature.FORCE_LAZY_LOADING, false);
+        module.configure(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS, true);
+        return module;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.springapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+// Latency histograms for the REST API; p50/p95/p99 are computed by the scraper from the buckets.
+// Prometheus needs one type per metric name, so every http.server.requests series is a histogram
+// and the actuator's own requests (scrapes, health polls) are not recorded at all.
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    static final String ACTUATOR_PREFIX = "/actuator";
+
+    @Bean
+    public MeterFilter ignoreActuatorRequests() {
+        return new MeterFilter() {
+            @Override
+            public MeterFilterReply accept(Meter.Id id) {
+                String uri = id.getTag("uri");
+                if (HTTP_SERVER_REQUESTS.equals(id.getName()) && uri != null && uri.startsWith(ACTUATOR_PREFIX)) {
+                    return MeterFilterReply.DENY;
+                }
+                return MeterFilterReply.NEUTRAL;
+            }
+        };
+    }
+
+    @Bean
+    public MeterFilter requestLatencyHistograms(@Value("${app.metrics.http.min-expected:1ms}") Duration minExpected,
+                                                @Value("${app.metrics.http.max-expected:10s}") Duration maxExpected) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) {
+                    return config;
+                }
+                // The uri tag is the route template (/api/goals/{id}), so each endpoint is one series; the
+                // expected range bounds the number of buckets per uri/method/status combination
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) minExpected.toNanos())
+                        .maximumExpectedValue((double) maxExpected.toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -2,34 +2,79 @@ package com.example.springapp.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
+
+import com.example.springapp.logging.CorrelationIdFilter;
+import com.example.springapp.service.TokenService;
 
 @Configuration
 public class SecurityConfig {
 
+    // The only routes that read a bearer token; open routes ignore it, so a stale token cannot turn them into 401s
+    private static final String[] TOKEN_PATHS = {"/api/users/me", "/actuator/loggers/**"};
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable()) // Disable CSRF for APIs
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/users/me").authenticated() // Needs the bearer token issued at login
+                .requestMatchers("/actuator/loggers/**").hasRole("ADMIN") // Changes log levels at runtime
                 .requestMatchers("/api/**").permitAll() // Allow all API endpoints
                 .requestMatchers("/v3/api-docs/**").permitAll() // Allow OpenAPI docs
                 .requestMatchers("/swagger-ui/**").permitAll() // Allow Swagger UI
                 .requestMatchers("/swagger-ui.html").permitAll() // Allow Swagger UI
                 .anyRequest().permitAll() // Allow all other requests
             )
+            // Bearer tokens are verified against the signing key only (TokenConfig); no user lookup per request
+            .oauth2ResourceServer(oauth2 -> oauth2
+                .bearerTokenResolver(tokenPathsOnly())
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(roleConverter())))
             .httpBasic(withDefaults()); // Enable Basic Auth (for Swagger if needed)
         return http.build();
     }
 
+    // Tokens outlive restarts and key changes in the browser; checking them only where they are required keeps an
+    // expired or foreign token from failing every open /api call until the user logs in again
+    private BearerTokenResolver tokenPathsOnly() {
+        DefaultBearerTokenResolver header = new DefaultBearerTokenResolver();
+        RequestMatcher tokenPaths = new OrRequestMatcher(Arrays.stream(TOKEN_PATHS)
+                .map(PathPatternRequestMatcher.withDefaults()::matcher)
+                .toArray(RequestMatcher[]::new));
+        return request -> tokenPaths.matches(request) ? header.resolve(request) : null;
+    }
+
+    // The role claim becomes ROLE_<role>, e.g. ROLE_ADMIN
+    private JwtAuthenticationConverter roleConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
+            String role = jwt.getClaimAsString(TokenService.ROLE_CLAIM);
+            return role == null || role.isBlank()
+                    ? List.of()
+                    : List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+        });
+        return converter;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -37,6 +82,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
+        configuration.setExposedHeaders(List.of(CorrelationIdFilter.HEADER, HttpHeaders.ETAG)); // Lets the frontend report the id and revalidate
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration); // Apply to all endpoints
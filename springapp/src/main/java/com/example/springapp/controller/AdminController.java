@@ -1,51 +1,74 @@
 package com.example.springapp.controller;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.example.springapp.etag.VersionTags;
+import com.example.springapp.model.CacheRegionStats;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.service.CacheStatisticsService;
+import com.example.springapp.service.CycleRollupService;
+
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin")
 @CrossOrigin(origins = "http://localhost:4200")
 public class AdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private VersionTags versionTags;
+
+    @Autowired
+    private CycleRollupService cycleRollupService;
+
     @PostMapping("/fix-feedback-mappings")
     public ResponseEntity<String> fixFeedbackMappings() {
         try {
-            System.out.println("Fixing feedback employee mappings...");
+            log.info("Fixing feedback employee mappings");
             
             // Fix the mappings - map each feedback to the correct employee
             String[] updates = {
-                "UPDATE feedbacks SET employee_id = 1 WHERE feedback_id = 12", // Nandhini S Y
-                "UPDATE feedbacks SET employee_id = 3 WHERE feedback_id = 13", // Lakshmipriya P K
-                "UPDATE feedbacks SET employee_id = 3 WHERE feedback_id = 14", // Priya
-                "UPDATE feedbacks SET employee_id = 4 WHERE feedback_id = 15", // Rajesh
-                "UPDATE feedbacks SET employee_id = 5 WHERE feedback_id = 16", // Suresh
-                "UPDATE feedbacks SET employee_id = 6 WHERE feedback_id = 17", // Anita
-                "UPDATE feedbacks SET employee_id = 7 WHERE feedback_id = 18", // Deepak
-                "UPDATE feedbacks SET employee_id = 8 WHERE feedback_id = 19", // Sunita
-                "UPDATE feedbacks SET employee_id = 9 WHERE feedback_id = 20", // Vikram
-                "UPDATE feedbacks SET employee_id = 10 WHERE feedback_id = 21", // Meera
-                "UPDATE feedbacks SET employee_id = 11 WHERE feedback_id = 22", // Arjun
-                "UPDATE feedbacks SET employee_id = 12 WHERE feedback_id = 23", // Kavya
-                "UPDATE feedbacks SET employee_id = 13 WHERE feedback_id = 24"  // Rohit
+                "UPDATE feedbacks SET employee_id = 1, version = version + 1, last_modified = ? WHERE feedback_id = 12", // Nandhini S Y
+                "UPDATE feedbacks SET employee_id = 3, version = version + 1, last_modified = ? WHERE feedback_id = 13", // Lakshmipriya P K
+                "UPDATE feedbacks SET employee_id = 3, version = version + 1, last_modified = ? WHERE feedback_id = 14", // Priya
+                "UPDATE feedbacks SET employee_id = 4, version = version + 1, last_modified = ? WHERE feedback_id = 15", // Rajesh
+                "UPDATE feedbacks SET employee_id = 5, version = version + 1, last_modified = ? WHERE feedback_id = 16", // Suresh
+                "UPDATE feedbacks SET employee_id = 6, version = version + 1, last_modified = ? WHERE feedback_id = 17", // Anita
+                "UPDATE feedbacks SET employee_id = 7, version = version + 1, last_modified = ? WHERE feedback_id = 18", // Deepak
+                "UPDATE feedbacks SET employee_id = 8, version = version + 1, last_modified = ? WHERE feedback_id = 19", // Sunita
+                "UPDATE feedbacks SET employee_id = 9, version = version + 1, last_modified = ? WHERE feedback_id = 20", // Vikram
+                "UPDATE feedbacks SET employee_id = 10, version = version + 1, last_modified = ? WHERE feedback_id = 21", // Meera
+                "UPDATE feedbacks SET employee_id = 11, version = version + 1, last_modified = ? WHERE feedback_id = 22", // Arjun
+                "UPDATE feedbacks SET employee_id = 12, version = version + 1, last_modified = ? WHERE feedback_id = 23", // Kavya
+                "UPDATE feedbacks SET employee_id = 13, version = version + 1, last_modified = ? WHERE feedback_id = 24"  // Rohit
             };
             
             int totalUpdated = 0;
+            java.sql.Timestamp now = java.sql.Timestamp.valueOf(java.time.LocalDateTime.now());
             for (String update : updates) {
-                int rowsAffected = jdbcTemplate.update(update);
+                int rowsAffected = jdbcTemplate.update(update, now);
                 totalUpdated += rowsAffected;
-                System.out.println("Updated " + rowsAffected + " rows with: " + update);
+                log.debug("Updated {} rows with: {}", rowsAffected, update);
             }
+            versionTags.tablesChanged(Feedback.class);
             
             return ResponseEntity.ok("Successfully updated " + totalUpdated + " feedback mappings");
             
         } catch (Exception e) {
-            System.err.println("Error fixing feedback mappings: " + e.getMessage());
+            log.error("Error fixing feedback mappings", e);
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
@@ -59,4 +82,18 @@ public class AdminController {
             return ResponseEntity.badRequest().body("Database connection failed: " + e.getMessage());
         }
     }
+
+    // Recounts the review cycle rollups from the appraisals table, for when they have drifted
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<String> rebuildCycleRollups() {
+        int appraisals = cycleRollupService.rebuild();
+        log.info("Cycle rollups rebuilt from {} appraisals", appraisals);
+        return ResponseEntity.ok("Cycle rollups rebuilt from " + appraisals + " appraisals");
+    }
+
+    // Second-level and query cache hit/miss counters since startup
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStats>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStatistics());
+    }
 }
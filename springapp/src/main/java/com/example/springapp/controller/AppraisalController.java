@@ -2,6 +2,10 @@
 
     import java.util.List;
 
+    import org.slf4j.Logger;
+    import org.slf4j.LoggerFactory;
+    import org.springframework.dao.DataIntegrityViolationException;
+    import org.springframework.http.HttpHeaders;
     import org.springframework.http.ResponseEntity;
     import org.springframework.web.bind.annotation.CrossOrigin;
     import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,9 +14,13 @@
     import org.springframework.web.bind.annotation.PostMapping;
     import org.springframework.web.bind.annotation.PutMapping;
     import org.springframework.web.bind.annotation.RequestBody;
+    import org.springframework.web.bind.annotation.RequestHeader;
     import org.springframework.web.bind.annotation.RequestMapping;
+    import org.springframework.web.bind.annotation.RequestParam;
     import org.springframework.web.bind.annotation.RestController;
+    import org.springframework.web.context.request.ServletWebRequest;
 
+    import com.example.springapp.etag.VersionTags;
     import com.example.springapp.model.Appraisal;
     import com.example.springapp.model.EmployeeProfile;
     import com.example.springapp.model.ReviewCycle;
@@ -25,25 +33,50 @@
     @CrossOrigin(origins = "*", allowedHeaders = "*")
     public class AppraisalController {
 
+        private static final Logger log = LoggerFactory.getLogger(AppraisalController.class);
+
         private final AppraisalService appraisalService;
         private final EmployeeProfileService employeeService;
         private final ReviewCycleService reviewCycleService;
+        private final VersionTags versionTags;
 
         public AppraisalController(AppraisalService appraisalService,
                                 EmployeeProfileService employeeService,
-                                ReviewCycleService reviewCycleService) {
+                                ReviewCycleService reviewCycleService,
+                                VersionTags versionTags) {
             this.appraisalService = appraisalService;
             this.employeeService = employeeService;
             this.reviewCycleService = reviewCycleService;
+            this.versionTags = versionTags;
         }
 
+        // Keyset-paginated by default; all=true keeps the legacy unbounded list
         @GetMapping
-        public ResponseEntity<List<Appraisal>> getAllAppraisals() {
-            return ResponseEntity.ok(appraisalService.getAllAppraisals());
+        public ResponseEntity<?> getAllAppraisals(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String status,
+                                                  @RequestParam(required = false) Long cycleId,
+                                                  @RequestParam(required = false) Long employeeId,
+                                                  @RequestParam(defaultValue = "false") boolean all,
+                                                  ServletWebRequest webRequest) {
+            if (VersionTags.notModified(webRequest, versionTags.collectionTag(Appraisal.class))) {
+                return null;
+            }
+            if (all) {
+                return ResponseEntity.ok(appraisalService.getAllAppraisals());
+            }
+            return ResponseEntity.ok(appraisalService.getAppraisalsPage(cursor, limit, status, cycleId, employeeId));
         }
 
         @GetMapping("/{id}")
-        public ResponseEntity<Appraisal> getAppraisalById(@PathVariable Long id) {
+        public ResponseEntity<Appraisal> getAppraisalById(@PathVariable Long id, ServletWebRequest webRequest) {
+            Long version = appraisalService.getAppraisalVersion(id).orElse(null);
+            if (version == null) {
+                return ResponseEntity.notFound().build();
+            }
+            if (VersionTags.notModified(webRequest, versionTags.entityTag(Appraisal.class, version))) {
+                return null;
+            }
             return appraisalService.getAppraisalById(id)
                     .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
@@ -54,6 +87,7 @@
             return ResponseEntity.ok(appraisalService.getAppraisalsByEmployeeId(employeeId));
         }
 
+        // Loads the whole cycle into memory; exports of large cycles go through /api/export/cycle/{cycleId}
         @GetMapping("/cycle/{cycleId}")
         public ResponseEntity<List<Appraisal>> getAppraisalsByCycle(@PathVariable Long cycleId) {
             return ResponseEntity.ok(appraisalService.getAppraisalsByCycleId(cycleId));
@@ -87,7 +121,7 @@
                                                             @PathVariable Long cycleId,
                                                             @RequestBody java.util.Map<String, Object> appraisalData) {
             try {
-                System.out.println("Creating appraisal for employee " + employeeId + " in cycle " + cycleId + " with data: " + appraisalData);
+                log.debug("Creating appraisal for employee {} in cycle {} with fields {}", employeeId, cycleId, appraisalData.keySet());
                 
                 EmployeeProfile employee = employeeService.getEmployeeProfileById(employeeId)
                         .orElseThrow(() -> new RuntimeException("Employee not found with ID " + employeeId));
@@ -157,20 +191,27 @@
                 appraisal.setReviewCycle(cycle);
 
                 Appraisal createdAppraisal = appraisalService.createAppraisal(appraisal);
-                System.out.println("Successfully created appraisal with ID: " + createdAppraisal.getAppraisalId());
+                log.info("Created appraisal {} for employee {} in cycle {}", createdAppraisal.getAppraisalId(), employeeId, cycleId);
                 
                 return ResponseEntity.ok(createdAppraisal);
                 
+            } catch (DataIntegrityViolationException e) {
+                // The employee already has an appraisal in this cycle; GlobalExceptionHandler answers 409
+                throw e;
             } catch (Exception e) {
-                System.err.println("Error creating appraisal: " + e.getMessage());
-                e.printStackTrace();
+                log.error("Error creating appraisal for employee {} in cycle {}", employeeId, cycleId, e);
                 return ResponseEntity.status(500).build();
             }
         }
 
         @PutMapping("/{id}")
-        public ResponseEntity<Appraisal> updateAppraisal(@PathVariable Long id, @RequestBody Appraisal appraisal) {
+        public ResponseEntity<Appraisal> updateAppraisal(@PathVariable Long id, @RequestBody Appraisal appraisal,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+            // The body replaces the row, so it must say which version it replaces (If-Match or its version field)
+            long currentVersion = appraisalService.getAppraisalVersion(id)
+                    .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Appraisal not found with ID " + id));
             appraisal.setAppraisalId(id);
+            appraisal.setVersion(VersionTags.versionToUpdate(ifMatch, appraisal.getVersion(), currentVersion, Appraisal.class, id));
             return ResponseEntity.ok(appraisalService.updateAppraisal(appraisal));
         }
 
@@ -0,0 +1,38 @@
+package com.example.springapp.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.springapp.events.ChangeEventBus;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "Events", description = "Live goal, feedback and appraisal changes as Server-Sent Events")
+public class ChangeEventController {
+
+    private final ChangeEventBus bus;
+
+    public ChangeEventController(ChangeEventBus bus) {
+        this.bus = bus;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream of committed changes",
+               description = "One event per saved or deleted goal, feedback or appraisal, named after its type, with the "
+                       + "record's id, employee, manager, cycle and status. Filters combine; managerId matches everyone "
+                       + "below that manager. A client that falls behind is disconnected and should resync via /api/sync")
+    public SseEmitter stream(@RequestParam(required = false) Long employeeId,
+                             @RequestParam(required = false) Long managerId,
+                             @RequestParam(required = false) Long cycleId) {
+        return bus.subscribe(event -> event.matches(employeeId, managerId, cycleId));
+    }
+}
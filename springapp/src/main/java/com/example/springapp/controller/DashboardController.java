@@ -0,0 +1,43 @@
+package com.example.springapp.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.springapp.model.AdminDashboardSummary;
+import com.example.springapp.model.EmployeeDashboardSummary;
+import com.example.springapp.service.DashboardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "Dashboard", description = "Pre-aggregated dashboard figures")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping(value = "/admin", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Admin dashboard summary", description = "Headcount, goal, feedback and appraisal aggregates computed in the database")
+    public ResponseEntity<AdminDashboardSummary> getAdminSummary() {
+        return ResponseEntity.ok(dashboardService.getAdminSummary());
+    }
+
+    @GetMapping(value = "/employee/{employeeProfileId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Employee dashboard summary", description = "Profile, goal counts, recent feedback and appraisal history in one response")
+    public ResponseEntity<EmployeeDashboardSummary> getEmployeeSummary(@PathVariable Long employeeProfileId,
+                                                                       @RequestParam(required = false) Integer recentFeedback) {
+        return ResponseEntity.ok(dashboardService.getEmployeeSummary(employeeProfileId, recentFeedback));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.springapp.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,11 +10,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.example.springapp.etag.VersionTags;
 import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ProfileSearchHit;
+import com.example.springapp.model.ProfileSummary;
+import com.example.springapp.model.TeamRollup;
 import com.example.springapp.model.User;
 import com.example.springapp.service.EmployeeProfileService;
 import com.example.springapp.service.UserService;
@@ -25,24 +32,53 @@ public class EmployeeProfileController {
 
     private final EmployeeProfileService profileService;
     private final UserService userService;
+    private final VersionTags versionTags;
 
-    public EmployeeProfileController(EmployeeProfileService profileService, UserService userService) {
+    public EmployeeProfileController(EmployeeProfileService profileService, UserService userService, VersionTags versionTags) {
         this.profileService = profileService;
         this.userService = userService;
+        this.versionTags = versionTags;
     }
 
     @GetMapping
-    public ResponseEntity<List<EmployeeProfile>> getAllProfiles() {
+    public ResponseEntity<List<EmployeeProfile>> getAllProfiles(ServletWebRequest webRequest) {
+        if (VersionTags.notModified(webRequest, versionTags.collectionTag(EmployeeProfile.class))) {
+            return null;
+        }
         return ResponseEntity.ok(profileService.getAllEmployeeProfiles());
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<List<ProfileSummary>> getProfileSummaries() {
+        return ResponseEntity.ok(profileService.getEmployeeProfileSummaries());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeProfile> getProfileById(@PathVariable Long id) {
+    public ResponseEntity<EmployeeProfile> getProfileById(@PathVariable Long id, ServletWebRequest webRequest) {
+        Long version = profileService.getEmployeeProfileVersion(id).orElse(null);
+        if (version == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (VersionTags.notModified(webRequest, versionTags.entityTag(EmployeeProfile.class, version))) {
+            return null;
+        }
         return profileService.getEmployeeProfileById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Reporting hierarchy, served from the in-memory org tree
+    @GetMapping("/{id}/reports")
+    public ResponseEntity<List<ProfileSummary>> getReports(@PathVariable Long id,
+                                                           @org.springframework.web.bind.annotation.RequestParam(defaultValue = "false") boolean transitive) {
+        return ResponseEntity.ok(profileService.getReports(id, transitive));
+    }
+
+    @GetMapping("/{id}/team-rollup")
+    public ResponseEntity<TeamRollup> getTeamRollup(@PathVariable Long id) {
+        return ResponseEntity.ok(profileService.getTeamRollup(id));
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<EmployeeProfile>> getProfilesByUserId(@PathVariable Long userId) {
         List<EmployeeProfile> profiles = profileService.getEmployeeProfilesByUserId(userId);
@@ -50,11 +86,19 @@ public class EmployeeProfileController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EmployeeProfile>> getProfilesByName(@org.springframework.web.bind.annotation.RequestParam String name) {
-        List<EmployeeProfile> profiles = profileService.getEmployeeProfilesByName(name);
+    public ResponseEntity<List<EmployeeProfile>> getProfilesByName(@org.springframework.web.bind.annotation.RequestParam String name,
+                                                                   @org.springframework.web.bind.annotation.RequestParam(defaultValue = "50") int limit) {
+        List<EmployeeProfile> profiles = profileService.getEmployeeProfilesByName(name, limit);
         return ResponseEntity.ok(profiles);
     }
 
+    // Served from the in-memory index without touching the database; for search-as-you-type
+    @GetMapping("/search/ranked")
+    public ResponseEntity<List<ProfileSearchHit>> searchProfiles(@org.springframework.web.bind.annotation.RequestParam("q") String query,
+                                                                 @org.springframework.web.bind.annotation.RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(profileService.searchProfiles(query, limit));
+    }
+
     @PostMapping
     public ResponseEntity<EmployeeProfile> createProfile(@RequestBody EmployeeProfile profile) {
         // Validate required fields
@@ -87,8 +131,12 @@ public class EmployeeProfileController {
 
     @PutMapping(value = "/{id}", produces = org.springframework.http.MediaType.APPLICATION_JSON_VALUE, consumes = org.springframework.http.MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<EmployeeProfile> updateProfile(@PathVariable Long id,
-                                                         @RequestBody EmployeeProfile profile) {
+                                                         @RequestBody EmployeeProfile profile,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long currentVersion = profileService.getEmployeeProfileVersion(id)
+                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Employee profile not found with ID " + id));
         profile.setEmployeeProfileId(id);
+        profile.setVersion(VersionTags.versionToUpdate(ifMatch, profile.getVersion(), currentVersion, EmployeeProfile.class, id));
 
         // Reattach user if provided by id
         if (profile.getUser() != null && profile.getUser().getUserId() != null) {
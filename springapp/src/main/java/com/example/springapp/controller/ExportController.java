@@ -0,0 +1,84 @@
+package com.example.springapp.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.service.CycleExportService;
+import com.example.springapp.service.ReviewCycleService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class ExportController {
+
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final CycleExportService exportService;
+    private final ReviewCycleService reviewCycleService;
+
+    public ExportController(CycleExportService exportService, ReviewCycleService reviewCycleService) {
+        this.exportService = exportService;
+        this.reviewCycleService = reviewCycleService;
+    }
+
+    // Every appraisal of a cycle with employee, goal and feedback summaries, streamed as it is read.
+    // format=csv (default) or ndjson; compressed with gzip when the client accepts it.
+    @GetMapping("/cycle/{cycleId}")
+    public ResponseEntity<StreamingResponseBody> exportCycle(@PathVariable Long cycleId,
+                                                             @RequestParam(defaultValue = "csv") String format,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CycleExportService.Format exportFormat = parseFormat(format);
+        // Checked before streaming starts, while an error can still be sent as a status code
+        ReviewCycle cycle = reviewCycleService.getReviewCycleById(cycleId)
+                .orElseThrow(() -> new EntityNotFoundException("ReviewCycle not found with ID " + cycleId));
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // Sync flush, so each batch the export flushes reaches the client compressed rather than held back
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192, true);
+                exportService.export(cycle, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(cycle, exportFormat, out);
+            }
+        };
+
+        String extension = exportFormat == CycleExportService.Format.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == CycleExportService.Format.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("cycle-" + cycleId + "-appraisals." + extension).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static CycleExportService.Format parseFormat(String format) {
+        try {
+            return CycleExportService.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format '" + format + "'; use csv or ndjson");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.springapp.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,11 +11,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import com.example.springapp.etag.VersionTags;
+import com.example.springapp.model.CycleLaunchJob;
+import com.example.springapp.model.CycleRollup;
 import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.service.CycleRollupService;
+import com.example.springapp.service.ReviewCycleLaunchService;
 import com.example.springapp.service.ReviewCycleService;
 
 @RestController
@@ -22,18 +32,35 @@ import com.example.springapp.service.ReviewCycleService;
 public class ReviewCycleController {
 
     private final ReviewCycleService service;
+    private final ReviewCycleLaunchService launchService;
+    private final VersionTags versionTags;
+    private final CycleRollupService rollupService;
 
-    public ReviewCycleController(ReviewCycleService service) {
+    public ReviewCycleController(ReviewCycleService service, ReviewCycleLaunchService launchService, VersionTags versionTags,
+                                 CycleRollupService rollupService) {
         this.service = service;
+        this.launchService = launchService;
+        this.versionTags = versionTags;
+        this.rollupService = rollupService;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReviewCycle>> getAllReviewCycles() {
+    public ResponseEntity<List<ReviewCycle>> getAllReviewCycles(ServletWebRequest webRequest) {
+        if (VersionTags.notModified(webRequest, versionTags.collectionTag(ReviewCycle.class))) {
+            return null;
+        }
         return ResponseEntity.ok(service.getAllReviewCycles());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ReviewCycle> getReviewCycleById(@PathVariable Long id) {
+    public ResponseEntity<ReviewCycle> getReviewCycleById(@PathVariable Long id, ServletWebRequest webRequest) {
+        Long version = service.getReviewCycleVersion(id).orElse(null);
+        if (version == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (VersionTags.notModified(webRequest, versionTags.entityTag(ReviewCycle.class, version))) {
+            return null;
+        }
         return service.getReviewCycleById(id)
                       .map(ResponseEntity::ok)
                       .orElse(ResponseEntity.notFound().build());
@@ -45,11 +72,39 @@ public class ReviewCycleController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ReviewCycle> updateReviewCycle(@PathVariable Long id, @RequestBody ReviewCycle cycle) {
+    public ResponseEntity<ReviewCycle> updateReviewCycle(@PathVariable Long id, @RequestBody ReviewCycle cycle,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long currentVersion = service.getReviewCycleVersion(id)
+                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("ReviewCycle not found with ID " + id));
         cycle.setCycleId(id);
+        cycle.setVersion(VersionTags.versionToUpdate(ifMatch, cycle.getVersion(), currentVersion, ReviewCycle.class, id));
         return ResponseEntity.ok(service.updateReviewCycle(cycle));
     }
 
+    // Creates Draft appraisals for every Employee-role profile (optionally one department) in the background;
+    // employees that already have an appraisal in the cycle are skipped, so relaunching is safe
+    @PostMapping("/{id}/launch")
+    public ResponseEntity<CycleLaunchJob> launchReviewCycle(@PathVariable Long id,
+                                                            @RequestParam(required = false) String department) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(launchService.launch(id, department));
+    }
+
+    @GetMapping("/{id}/launch/{jobId}")
+    public ResponseEntity<CycleLaunchJob> getLaunchJob(@PathVariable Long id, @PathVariable String jobId) {
+        return launchService.getJob(jobId)
+                      .filter(job -> job.getCycleId().equals(id))
+                      .map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Calibration figures per department and reporting manager, from memory; filters narrow the groups
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<List<CycleRollup>> getCycleRollups(@PathVariable Long id,
+                                                             @RequestParam(required = false) String department,
+                                                             @RequestParam(required = false) Long managerId) {
+        return ResponseEntity.ok(rollupService.getRollups(id, department, managerId));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteReviewCycle(@PathVariable Long id) {
         service.deleteReviewCycle(id);
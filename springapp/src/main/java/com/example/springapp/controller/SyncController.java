@@ -0,0 +1,41 @@
+package com.example.springapp.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.springapp.model.SyncResult;
+import com.example.springapp.service.SyncService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "Sync", description = "Incremental changes for polling clients")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Changes since a watermark",
+               description = "Created or updated rows and deleted ids of users, profiles, cycles, appraisals, goals and feedback "
+                       + "since the given time (ISO-8601, e.g. 2026-03-01T09:30:00). Omit since for everything; pass the "
+                       + "returned watermark on the next call")
+    public ResponseEntity<SyncResult> getChanges(@RequestParam(required = false)
+                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(syncService.changesSince(since));
+    }
+}
@@ -1,11 +1,27 @@
 package com.example.springapp.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,9 +32,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.springapp.health.ConnectionPoolHealthIndicator;
+import com.example.springapp.health.DatabaseHealthIndicator;
+import com.example.springapp.model.CurrentUser;
 import com.example.springapp.model.LoginRequest;
+import com.example.springapp.model.LoginResponse;
 import com.example.springapp.model.PasswordResetRequest;
 import com.example.springapp.model.User;
+import com.example.springapp.model.UserImportReport;
+import com.example.springapp.model.UserSummary;
+import com.example.springapp.service.TokenService;
+import com.example.springapp.service.UserImportService;
 import com.example.springapp.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,10 +56,24 @@ import jakarta.validation.Valid;
 @Tag(name = "User Management", description = "APIs for managing users")
 public class UserController {
 
-    private final UserService service;
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
-    public UserController(UserService service) {
+    private final UserService service;
+    private final TokenService tokenService;
+    private final UserImportService importService;
+    private final DatabaseHealthIndicator databaseHealth;
+    private final ConnectionPoolHealthIndicator connectionPoolHealth;
+
+    public UserController(UserService service,
+                          TokenService tokenService,
+                          UserImportService importService,
+                          DatabaseHealthIndicator databaseHealth,
+                          ConnectionPoolHealthIndicator connectionPoolHealth) {
         this.service = service;
+        this.tokenService = tokenService;
+        this.importService = importService;
+        this.databaseHealth = databaseHealth;
+        this.connectionPoolHealth = connectionPoolHealth;
     }
 
     // ==============================
@@ -47,6 +85,27 @@ public class UserController {
         return service.getAllUsers();
     }
 
+    // ==============================
+    // Get User Summaries
+    // ==============================
+    @GetMapping(value = "/summaries", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get user summaries", description = "Retrieve id, name, contact and role of every user without profiles or passwords")
+    public List<UserSummary> getUserSummaries() {
+        return service.getUserSummaries();
+    }
+
+    // ==============================
+    // Get Signed-in User
+    // ==============================
+    @GetMapping(value = "/me", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the signed-in user", description = "Identity and role of the bearer token's user, without password or profiles")
+    public ResponseEntity<CurrentUser> getCurrentUser(@AuthenticationPrincipal Jwt token) {
+        // The token was verified by the filter chain; this is the request's only query
+        return service.getUserSummary(TokenService.userId(token))
+                .map(user -> ResponseEntity.ok(CurrentUser.of(user, TokenService.employeeProfileId(token))))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // ==============================
     // Get Users by Role
     // ==============================
@@ -73,25 +132,30 @@ public class UserController {
     @Operation(summary = "Create a new user", description = "Create a new user in the system")
     public ResponseEntity<?> createUser(@Valid @RequestBody User user) {
         try {
-            System.out.println("=== USER CONTROLLER DEBUG ===");
-            System.out.println("Received user data: " + user);
-            System.out.println("Email: " + user.getEmail());
-            System.out.println("FullName: " + user.getFullName());
-            System.out.println("Phone: " + user.getPhoneNumber());
-            
             User createdUser = service.createUser(user);
-            System.out.println("User created successfully with ID: " + createdUser.getUserId());
             return ResponseEntity.ok(createdUser);
         } catch (IllegalArgumentException e) {
-            System.err.println("Validation error: " + e.getMessage());
+            log.debug("User rejected: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (Exception e) {
-            System.err.println("Unexpected error creating user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error creating user", e);
             return ResponseEntity.status(500).body("Internal server error: " + e.getMessage());
         }
     }
 
+    // ==============================
+    // Bulk Import Users (CSV)
+    // ==============================
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import users from CSV", description = "Create users, and employee profiles when the file has profile columns, "
+            + "from a UTF-8 CSV body with a header row; rows that fail are listed in the report and skipped")
+    public UserImportReport importUsers(InputStream body) throws IOException {
+        // Read straight from the request, a record at a time
+        return importService.importCsv(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
     // ==============================
     // Update User
     // ==============================
@@ -118,19 +182,35 @@ public class UserController {
     // User Login
     // ==============================
     @PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
         try {
-            User user = service.authenticateUser(
+            // The request thread is released while the password hash is checked on the bounded pool
+            return service.authenticateUser(
                     loginRequest.getEmail(),
                     loginRequest.getPhoneNumber(),
                     loginRequest.getPassword()
-            );
-            return ResponseEntity.ok(user);
+            ).<ResponseEntity<?>>thenApply(user -> ResponseEntity.ok(loginResponse(user)))
+             .exceptionally(e -> ResponseEntity.status(401).body("Authentication failed: " + rootCause(e).getMessage()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(503)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many logins in progress, please retry"));
         } catch (RuntimeException e) {
-            return ResponseEntity.status(401).body("Authentication failed: " + e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body("Authentication failed: " + e.getMessage()));
         }
     }
 
+    // The token and the user fields clients read; the password hash and profile entities are not sent
+    private LoginResponse loginResponse(User user) {
+        Jwt token = tokenService.issue(user);
+        Long employeeProfileId = TokenService.employeeProfileId(token);
+        return LoginResponse.bearer(token.getTokenValue(), token.getExpiresAt(), CurrentUser.of(user, employeeProfileId));
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
     // ==============================
     // Reset Password
     // ==============================
@@ -139,6 +219,8 @@ public class UserController {
         try {
             User updatedUser = service.resetPassword(resetRequest.getEmail(), resetRequest.getNewPassword());
             return ResponseEntity.ok(updatedUser);
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(404).body("User not found with email: " + resetRequest.getEmail());
         }
@@ -148,23 +230,25 @@ public class UserController {
     // Health Check
     // ==============================
     @GetMapping(value = "/health", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Health check", description = "Check if the service and database are working")
+    @Operation(summary = "Health check", description = "Check if the service and database are working, without loading any users")
     public ResponseEntity<?> healthCheck() {
-        try {
-            long userCount = service.getAllUsers().size();
-            return ResponseEntity.ok(Map.of(
-                "status", "UP",
-                "database", "Connected",
-                "userCount", userCount,
-                "timestamp", System.currentTimeMillis()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body(Map.of(
-                "status", "DOWN",
-                "database", "Disconnected",
-                "error", e.getMessage(),
-                "timestamp", System.currentTimeMillis()
-            ));
+        Health database = databaseHealth.health();
+        Health pool = connectionPoolHealth.health();
+        boolean up = Status.UP.equals(database.getStatus()) && Status.UP.equals(pool.getStatus());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", up ? "UP" : "DOWN");
+        body.put("database", Status.UP.equals(database.getStatus()) ? "Connected" : "Disconnected");
+        // Refreshed in the background; absent until the first count has completed
+        Object userCount = database.getDetails().get("userCount");
+        if (userCount != null) {
+            body.put("userCount", userCount);
+        }
+        body.put("connectionPool", pool.getDetails());
+        if (database.getDetails().containsKey("error")) {
+            body.put("error", database.getDetails().get("error"));
         }
+        body.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.status(up ? 200 : 503).body(body);
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.springapp.csv;
+
+// Input that is not CSV at all, as opposed to a record with invalid values; maps to 400 like other bad input
+public class CsvFormatException extends IllegalArgumentException {
+
+    private final long line;
+
+    public CsvFormatException(long line, String message) {
+        super("CSV line " + line + ": " + message);
+        this.line = line;
+    }
+
+    public long getLine() {
+        return line;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.springapp.etag;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Bumps the table_versions counter of each table a transaction inserted into, updated or deleted from, once per
+// table and just before the commit, so the counters and the rows they describe commit (or roll back) together.
+// Tables are bumped in name order, so two transactions never wait on each other's counters in opposite orders.
+@Component
+class TableVersionListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Tables written by each open session's current transaction
+    private final Map<EventSource, Set<String>> pending = new ConcurrentHashMap<>();
+
+    TableVersionListener(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        written(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        written(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        written(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Runs during the flush, which Hibernate finishes before the before-completion processes
+    private void written(EventSource session, EntityPersister persister) {
+        String table = VersionTags.tableOf(persister.getMappedClass());
+        if (table == null) {
+            return;
+        }
+        Set<String> tables = pending.get(session);
+        if (tables == null) {
+            tables = new TreeSet<>();
+            pending.put(session, tables);
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> bump(session));
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> pending.remove(session));
+        }
+        tables.add(table);
+    }
+
+    private void bump(EventSource session) {
+        Set<String> tables = pending.remove(session);
+        if (tables == null || tables.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(VersionTags.BUMP_SQL)) {
+                for (String table : tables) {
+                    statement.setString(1, table);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
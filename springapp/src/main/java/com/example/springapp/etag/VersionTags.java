@@ -0,0 +1,160 @@
+package com.example.springapp.etag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+
+// ETags from versions the database already keeps, so a conditional request is answered without loading anything.
+// An entity's tag is its @Version followed by the table_versions counters of the tables its JSON embeds
+// (the fetch plan's associations); a list's tag is the counters of all the tables it is read from. The counters
+// go up in the same transaction as every write (TableVersionListener, or tablesChanged() for plain JDBC), so a
+// tag can only repeat while the rows behind it are unchanged, on any instance.
+@Component
+public class VersionTags {
+
+    static final String USERS = "users";
+    static final String EMPLOYEE_PROFILES = "employee_profiles";
+    static final String REVIEW_CYCLES = "review_cycles";
+    static final String APPRAISALS = "appraisals";
+    static final String GOALS = "goals";
+    static final String FEEDBACKS = "feedbacks";
+
+    static final String BUMP_SQL = "UPDATE table_versions SET version = version + 1 WHERE table_name = ?";
+
+    // Table of each tracked entity
+    private static final Map<Class<?>, String> TABLES = Map.of(
+            User.class, USERS,
+            EmployeeProfile.class, EMPLOYEE_PROFILES,
+            ReviewCycle.class, REVIEW_CYCLES,
+            Appraisal.class, APPRAISALS,
+            Goal.class, GOALS,
+            Feedback.class, FEEDBACKS);
+
+    // Tables each entity's JSON is built from besides its own, following the entity graphs its finders use
+    private static final Map<Class<?>, List<String>> EMBEDDED = Map.of(
+            EmployeeProfile.class, List.of(USERS),
+            ReviewCycle.class, List.of(),
+            Appraisal.class, List.of(EMPLOYEE_PROFILES, USERS, REVIEW_CYCLES),
+            Goal.class, List.of(EMPLOYEE_PROFILES, USERS, APPRAISALS),
+            Feedback.class, List.of(EMPLOYEE_PROFILES, USERS));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionTags(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static String tableOf(Class<?> entityType) {
+        return TABLES.get(entityType);
+    }
+
+    // Tag of GET /api/<entities>: changes whenever a row of the entity's table, or of one it embeds, changes
+    public String collectionTag(Class<?> entityType) {
+        List<String> tables = new ArrayList<>();
+        tables.add(TABLES.get(entityType));
+        tables.addAll(embedded(entityType));
+        return quote(counters(tables));
+    }
+
+    // Tag of GET /api/<entities>/{id} for the given row version; read before the entity, so the body sent with a
+    // tag is never older than the tag
+    public String entityTag(Class<?> entityType, long version) {
+        List<String> tables = embedded(entityType);
+        return quote(tables.isEmpty() ? Long.toString(version) : version + "." + counters(tables));
+    }
+
+    // For rows written with plain SQL, which the listener does not see; call inside the writing transaction
+    public void tablesChanged(Class<?>... entityTypes) {
+        List<Object[]> tables = Arrays.stream(entityTypes)
+                .map(TABLES::get)
+                .distinct()
+                .sorted()
+                .map(table -> new Object[] {table})
+                .toList();
+        jdbcTemplate.batchUpdate(BUMP_SQL, tables);
+    }
+
+    // Sets the tag and revalidation headers; true when the client's copy is current, in which case the response
+    // is a bodiless 304 and the handler returns null. no-cache (not Spring Security's no-store) lets browsers keep
+    // the body and ask with If-None-Match.
+    public static boolean notModified(ServletWebRequest request, String tag) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return request.checkNotModified(tag);
+    }
+
+    // With If-Match, one of its tags has to name the current version (the part of an entity tag before the first
+    // dot; * matches any), else the update is refused with 412
+    public static void checkIfMatch(String ifMatch, long currentVersion, Class<?> entityType, Object id) {
+        if (ifMatch != null && !matches(ifMatch, currentVersion)) {
+            throw new ObjectOptimisticLockingFailureException(entityType, id);
+        }
+    }
+
+    // The version a PUT of a whole entity must update: the current one once If-Match passed, else the one in the
+    // body, so a stale copy fails with 409. Clients that send neither overwrite as before.
+    public static long versionToUpdate(String ifMatch, Long sentVersion, long currentVersion, Class<?> entityType, Object id) {
+        checkIfMatch(ifMatch, currentVersion, entityType, id);
+        return ifMatch == null && sentVersion != null ? sentVersion : currentVersion;
+    }
+
+    private static boolean matches(String ifMatch, long currentVersion) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-Match uses strong comparison: weak tags never match
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            int dot = value.indexOf('.');
+            if ((dot < 0 ? value : value.substring(0, dot)).equals(Long.toString(currentVersion))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> embedded(Class<?> entityType) {
+        List<String> tables = EMBEDDED.get(entityType);
+        if (tables == null) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " has no version tags");
+        }
+        return tables;
+    }
+
+    // Counters in the order asked for, dot-separated; one primary-key read
+    private String counters(List<String> tables) {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT table_name, version FROM table_versions WHERE table_name IN ("
+                        + String.join(", ", Collections.nCopies(tables.size(), "?")) + ")",
+                rs -> { versions.put(rs.getString(1), rs.getLong(2)); },
+                tables.toArray());
+        return tables.stream()
+                .map(table -> String.valueOf(versions.getOrDefault(table, 0L)))
+                .collect(Collectors.joining("."));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.springapp.events;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.springapp.model.ChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Fans committed changes out to the open /api/events streams. A stream holds no thread while idle: each subscriber
+// is its filter plus a small bounded queue of frames, drained by a shared sender pool, and an event is serialized
+// once however many subscribers match it. A subscriber whose queue is full, because its client reads slower than
+// changes arrive, is evicted and its stream closed; the browser reconnects and catches up through /api/sync.
+// A heartbeat comment keeps idle streams open through proxies and finds clients that went away.
+//
+// A send is a blocking servlet write, and an emitter's complete() waits for it, so only the thread that owns a
+// subscriber's sending flag ever completes its emitter. A client that stops reading leaves its write blocked until the
+// container's write timeout fails it; once it has run for write-timeout the subscriber is evicted and the pool gets a
+// replacement thread for as long as that write lasts, so stalled clients never starve the healthy ones.
+@Component
+public class ChangeEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventBus.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final long writeTimeoutNanos;
+    private final int senderThreads;
+    // Sender threads held by writes that ran past write-timeout; the pool is enlarged by as many
+    private final AtomicInteger stalledWrites = new AtomicInteger();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter evicted;
+
+    public ChangeEventBus(ObjectMapper objectMapper,
+                          MeterRegistry registry,
+                          @Value("${app.events.buffer-size:64}") int bufferSize,
+                          @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${app.events.timeout:30m}") Duration timeout,
+                          @Value("${app.events.heartbeat:30s}") Duration heartbeat,
+                          @Value("${app.events.sender-threads:4}") int senderThreads,
+                          @Value("${app.events.write-timeout:10s}") Duration writeTimeout) {
+        if (bufferSize < 1 || maxSubscribers < 1 || senderThreads < 1 || heartbeat.isZero() || heartbeat.isNegative()
+                || writeTimeout.isZero() || writeTimeout.isNegative()) {
+            throw new IllegalArgumentException(
+                    "app.events.buffer-size, max-subscribers, sender-threads, heartbeat and write-timeout must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.senderThreads = senderThreads;
+
+        this.senders = new ThreadPoolTaskExecutor();
+        senders.setCorePoolSize(senderThreads);
+        senders.setMaxPoolSize(senderThreads);
+        senders.setThreadNamePrefix("event-sender-");
+        senders.setDaemon(true);
+        senders.initialize();
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.evicted = Counter.builder("app.events.evicted")
+                .description("Event streams closed because the client fell too far behind")
+                .register(registry);
+        Gauge.builder("app.events.subscribers", subscribers, Set::size)
+                .description("Open event streams")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos) / 2, 1);
+        heartbeats.scheduleWithFixedDelay(this::evictStalledWrites, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        // A stream blocked in a write is left to the container, which fails the write when the connection closes
+        subscribers.forEach(Subscriber::closeIfIdle);
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    // Opens a stream that receives the events the filter accepts; 503 when max-subscribers streams are already open
+    public SseEmitter subscribe(Predicate<ChangeEvent> filter) {
+        return subscribe(new SseEmitter(timeout.toMillis()), filter);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Predicate<ChangeEvent> filter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Too many open event streams");
+        }
+        Subscriber subscriber = new Subscriber(emitter, filter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // Lets publishers skip building events nobody is listening for
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Queues the event for every matching subscriber without waiting for any of them
+    public void publish(ChangeEvent event) {
+        Set<DataWithMediaType> frame = null;
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.filter.test(event)) {
+                continue;
+            }
+            if (frame == null) {
+                frame = frame(event);
+                if (frame == null) {
+                    return;
+                }
+            }
+            subscriber.offer(frame);
+        }
+    }
+
+    void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    private Set<DataWithMediaType> frame(ChangeEvent event) {
+        try {
+            return SseEmitter.event().name(event.getType()).data(objectMapper.writeValueAsString(event)).build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event {}", event.getType(), event.getId(), e);
+            return null;
+        }
+    }
+
+    // Completed here when no send is in progress, otherwise by the sender once its write returns or fails
+    private boolean evict(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return false;
+        }
+        evicted.increment();
+        subscriber.queue.clear();
+        subscriber.closeIfIdle();
+        return true;
+    }
+
+    // A write this old is stuck behind a client that stopped reading; the thread it holds is replaced until it returns
+    void evictStalledWrites() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > writeTimeoutNanos && evict(subscriber)
+                    && subscriber.replaced.compareAndSet(false, true)) {
+                resizeSenders(stalledWrites.incrementAndGet());
+                // The write may have returned in the meantime, without seeing the flag
+                if (subscriber.sendStartedNanos != started) {
+                    subscriber.releaseReplacement();
+                }
+            }
+        }
+    }
+
+    private synchronized void resizeSenders(int stalled) {
+        int size = senderThreads + stalled;
+        if (size > senders.getMaxPoolSize()) {
+            senders.setMaxPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaxPoolSize(size);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        final SseEmitter emitter;
+        final Predicate<ChangeEvent> filter;
+        final BlockingQueue<Set<DataWithMediaType>> queue;
+        // Set while a sender owns the subscriber, so its frames go out one at a time and in order; set for good once
+        // the emitter is completed
+        final AtomicBoolean sending = new AtomicBoolean();
+        // When the write in progress started, 0 between writes
+        volatile long sendStartedNanos;
+        // Set while the pool has an extra thread standing in for the one this subscriber's stalled write holds
+        final AtomicBoolean replaced = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Predicate<ChangeEvent> filter, int bufferSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                evict(this);
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        // Taking the flag for good means no send is in progress or will start, so complete() cannot block
+        void closeIfIdle() {
+            if (sending.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        void releaseReplacement() {
+            if (replaced.getAndSet(false)) {
+                resizeSenders(stalledWrites.decrementAndGet());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (subscribers.contains(this) && (frame = queue.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    try {
+                        emitter.send(frame);
+                    } finally {
+                        sendStartedNanos = 0;
+                        releaseReplacement();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away, or the stream already completed
+                subscribers.remove(this);
+                return;
+            } finally {
+                sending.set(false);
+            }
+            if (!subscribers.contains(this)) {
+                // Evicted while this thread was writing
+                closeIfIdle();
+            } else if (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+                // A frame offered after the last poll but before the flag was cleared
+                senders.execute(this);
+            }
+        }
+    }
+}
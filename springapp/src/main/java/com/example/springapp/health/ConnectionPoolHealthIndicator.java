@@ -0,0 +1,56 @@
+package com.example.springapp.health;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+// Hikari pool saturation from the pool's own counters; never borrows a connection. DOWN once every
+// connection is in use and requests are already queueing for one.
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Health.unknown().withDetail("error", "Not a Hikari pool").build();
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withDetail("error", e.getMessage()).build();
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        if (pool == null) {
+            // The pool starts on first use
+            return Health.up().withDetail("max", max).withDetail("active", 0).build();
+        }
+        int active = pool.getActiveConnections();
+        int idle = pool.getIdleConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+
+        Health.Builder builder = idle == 0 && waiting > 0 ? Health.down() : Health.up();
+        return builder
+                .withDetail("max", max)
+                .withDetail("active", active)
+                .withDetail("idle", idle)
+                .withDetail("waiting", waiting)
+                .withDetail("saturation", Math.round(active * 100.0 / max) / 100.0)
+                .build();
+    }
+}
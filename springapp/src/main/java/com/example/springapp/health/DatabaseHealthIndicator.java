@@ -0,0 +1,103 @@
+package com.example.springapp.health;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// Readiness check for the database: SELECT 1 with a statement timeout, run on its own thread so the caller
+// waits at most the probe timeout even when the pool has no connection to give. While a probe is still stuck
+// the next callers report DOWN immediately instead of queueing more threads behind it.
+@Component
+public class DatabaseHealthIndicator implements HealthIndicator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCountCache userCount;
+    private final long timeoutMillis;
+    private final ExecutorService probeExecutor;
+
+    private Future<Long> inFlight;
+    private long inFlightStartedNanos;
+
+    public DatabaseHealthIndicator(JdbcTemplate jdbcTemplate,
+                                   UserCountCache userCount,
+                                   @Value("${app.health.database.timeout:500ms}") Duration timeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCount = userCount;
+        this.timeoutMillis = timeout.toMillis();
+        this.probeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-health-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        try {
+            Future<Long> probe = probe();
+            if (probe == null) {
+                builder = Health.down().withDetail("error", "Previous probe still waiting after " + timeoutMillis + " ms");
+                return withUserCount(builder).build();
+            }
+            long latencyMicros = probe.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            builder = Health.up().withDetail("latencyMs", latencyMicros / 1_000.0);
+        } catch (TimeoutException e) {
+            builder = Health.down().withDetail("error", "No response within " + timeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            builder = Health.down().withDetail("error", String.valueOf(e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            builder = Health.down().withDetail("error", "Interrupted");
+        }
+        return withUserCount(builder).build();
+    }
+
+    private Health.Builder withUserCount(Health.Builder builder) {
+        if (userCount.getCount() != null) {
+            builder.withDetail("userCount", userCount.getCount())
+                   .withDetail("userCountRefreshedAt", userCount.getRefreshedAt().toString());
+        }
+        return builder;
+    }
+
+    // Joins a probe that is still within its timeout; null when the running one has already timed out,
+    // so at most one thread ever waits on the pool
+    private synchronized Future<Long> probe() {
+        if (inFlight == null || inFlight.isDone()) {
+            inFlight = probeExecutor.submit(this::selectOne);
+            inFlightStartedNanos = System.nanoTime();
+        } else if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inFlightStartedNanos) >= timeoutMillis) {
+            return null;
+        }
+        return inFlight;
+    }
+
+    private long selectOne() {
+        int timeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis));
+        long start = System.nanoTime();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT 1");
+            statement.setQueryTimeout(timeoutSeconds);
+            return statement;
+        }, rs -> rs.next() ? rs.getInt(1) : null);
+        return (System.nanoTime() - start) / 1_000;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.springapp.health;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// The user count shown by the health endpoints, refreshed on a background thread so a probe never
+// waits for COUNT(*) on a large table. Readers get the last successful value and when it was taken.
+@Component
+public class UserCountCache {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration refresh;
+    private final int queryTimeoutSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Long count;
+    private volatile Instant refreshedAt;
+
+    public UserCountCache(JdbcTemplate jdbcTemplate,
+                          @Value("${app.health.user-count.refresh:30s}") Duration refresh,
+                          @Value("${app.health.user-count.query-timeout:5s}") Duration queryTimeout) {
+        if (refresh.isZero() || refresh.isNegative()) {
+            throw new IllegalArgumentException("app.health.user-count.refresh must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.refresh = refresh;
+        this.queryTimeoutSeconds = (int) Math.max(1, queryTimeout.toSeconds());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-count-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // After startup, so the first count runs once the schema and seed data are in place
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refresh.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // Null until the first refresh succeeds
+    public Long getCount() { return count; }
+    public Instant getRefreshedAt() { return refreshedAt; }
+
+    void refresh() {
+        try {
+            Long latest = jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("SELECT COUNT(*) FROM users");
+                statement.setQueryTimeout(queryTimeoutSeconds);
+                return statement;
+            }, rs -> rs.next() ? rs.getLong(1) : null);
+            count = latest;
+            refreshedAt = Instant.now();
+        } catch (DataAccessException e) {
+            // Keep serving the previous value; the database indicator reports the outage
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.springapp.hierarchy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.springapp.model.OrgTreeSource;
+import com.example.springapp.model.TeamRollup;
+
+// In-memory reporting hierarchy: every profile is a node holding its manager and its direct reports, so "direct
+// reports", "everyone below" and team rollups walk only the subtree asked about. Profiles without a resolved
+// manager are roots. A change re-links one node; its reports move with it.
+//
+// Reads share a lock; writes take it exclusively.
+public class OrgTree {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node> nodes = new HashMap<>();
+
+    public void rebuild(Collection<OrgTreeSource> sources) {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            for (OrgTreeSource source : sources) {
+                nodes.put(source.employeeProfileId(), new Node(source.employeeProfileId()));
+            }
+            // Linked in a second pass, since a report may be listed before its manager
+            for (OrgTreeSource source : sources) {
+                Node node = nodes.get(source.employeeProfileId());
+                node.update(source);
+                link(node, source.managerId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds a profile, or applies a changed manager, department or rating
+    public void put(OrgTreeSource source) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.computeIfAbsent(source.employeeProfileId(), Node::new);
+            node.update(source);
+            Long current = node.manager != null ? node.manager.id : null;
+            if (!Objects.equals(current, source.managerId())) {
+                unlink(node);
+                link(node, source.managerId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-links an existing profile only, e.g. when its reporting manager was resolved in bulk
+    public void moveUnder(Long employeeProfileId, Long managerId) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            if (node != null) {
+                unlink(node);
+                link(node, managerId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The profile's reports become roots, as their manager reference is cleared with it
+    public void remove(Long employeeProfileId) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.remove(employeeProfileId);
+            if (node == null) {
+                return;
+            }
+            unlink(node);
+            for (Node report : node.reports) {
+                report.manager = null;
+            }
+            node.reports.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            return nodes.containsKey(employeeProfileId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True when making managerId the manager of employeeProfileId would close a loop; walks the manager's chain
+    public boolean wouldCreateCycle(Long employeeProfileId, Long managerId) {
+        lock.readLock().lock();
+        try {
+            for (Node up = nodes.get(managerId); up != null; up = up.manager) {
+                if (up.id == employeeProfileId) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Null for profiles without a resolved manager and for unknown profiles
+    public Long managerOf(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            return node != null && node.manager != null ? node.manager.id : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String departmentOf(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            return node != null ? node.department : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The profile's manager, that manager's manager and so on up to a root
+    public List<Long> managerChain(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            if (node == null || node.manager == null) {
+                return List.of();
+            }
+            List<Long> chain = new ArrayList<>();
+            for (Node up = node.manager; up != null; up = up.manager) {
+                chain.add(up.id);
+            }
+            return chain;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> directReports(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            if (node == null) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>(node.reports.size());
+            for (Node report : node.reports) {
+                ids.add(report.id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Everyone below the profile, each manager before their own reports
+    public List<Long> allReports(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            if (node == null) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>();
+            ArrayDeque<Node> pending = new ArrayDeque<>(node.reports);
+            while (!pending.isEmpty()) {
+                Node next = pending.poll();
+                ids.add(next.id);
+                pending.addAll(next.reports);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TeamRollup rollup(Long employeeProfileId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(employeeProfileId);
+            if (node == null) {
+                return null;
+            }
+            int total = 0;
+            int depth = 0;
+            int rated = 0;
+            double ratingSum = 0;
+            Map<String, Integer> departments = new TreeMap<>();
+            // Level by level, so the depth is the number of levels visited
+            List<Node> level = node.reports;
+            while (!level.isEmpty()) {
+                depth++;
+                List<Node> below = new ArrayList<>();
+                for (Node report : level) {
+                    total++;
+                    if (report.rating != null) {
+                        rated++;
+                        ratingSum += report.rating;
+                    }
+                    if (report.department != null && !report.department.isBlank()) {
+                        departments.merge(report.department, 1, Integer::sum);
+                    }
+                    below.addAll(report.reports);
+                }
+                level = below;
+            }
+            Double average = rated == 0 ? null : Math.round(ratingSum / rated * 100) / 100.0;
+            return new TeamRollup(employeeProfileId, node.reports.size(), total, depth, rated, average, departments);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Node node, Long managerId) {
+        Node manager = managerId != null ? nodes.get(managerId) : null;
+        if (manager == null || closesLoop(node, manager)) {
+            // Unknown managers and loops (two saves racing past the service's check) leave the node a root
+            node.manager = null;
+            return;
+        }
+        node.manager = manager;
+        manager.reports.add(node);
+    }
+
+    private static boolean closesLoop(Node node, Node manager) {
+        for (Node up = manager; up != null; up = up.manager) {
+            if (up == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void unlink(Node node) {
+        if (node.manager != null) {
+            node.manager.reports.remove(node);
+            node.manager = null;
+        }
+    }
+
+    private static final class Node {
+        final long id;
+        Node manager;
+        final List<Node> reports = new ArrayList<>();
+        String department;
+        Double rating;
+
+        Node(long id) {
+            this.id = id;
+        }
+
+        void update(OrgTreeSource source) {
+            department = source.department();
+            rating = source.lastAppraisalRating();
+        }
+    }
+}
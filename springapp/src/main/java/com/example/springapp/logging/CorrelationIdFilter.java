@@ -0,0 +1,58 @@
+package com.example.springapp.logging;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Tags every log line written while serving a request with a correlation id: the caller's X-Request-Id when it is
+// a plain token, otherwise a new one. The id is echoed in the response so a client report can be matched to the logs.
+// Runs first, ahead of security, so even rejected requests are tagged.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    // Caller-supplied ids end up in log lines, so anything that could forge or break a line is replaced
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+    private static final String ATTRIBUTE = CorrelationIdFilter.class.getName() + ".id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // An async dispatch (streamed exports) continues the request, so it keeps the id chosen on the way in
+        String id = (String) request.getAttribute(ATTRIBUTE);
+        if (id == null) {
+            id = request.getHeader(HEADER);
+            if (id == null || !VALID_ID.matcher(id).matches()) {
+                id = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+            }
+            request.setAttribute(ATTRIBUTE, id);
+            response.setHeader(HEADER, id);
+        }
+        MDC.put(MDC_KEY, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
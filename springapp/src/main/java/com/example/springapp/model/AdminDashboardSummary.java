@@ -0,0 +1,64 @@
+package com.example.springapp.model;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Aggregated figures for the admin dashboard")
+public class AdminDashboardSummary {
+
+    private long totalEmployees;
+    private long newlyJoined;
+    private long totalDepartments;
+
+    private long totalGoals;
+    private Map<String, Long> goalsByStatus;
+    private double goalCompletionRate;
+
+    private long totalFeedbacks;
+    private double averageFeedbackRating;
+
+    private long totalAppraisals;
+    private Map<String, Long> appraisalsByStatus;
+    private double appraisalCompletionRate;
+
+    @Schema(description = "Number of employees per reporting manager")
+    private Map<String, Long> teamSizes;
+
+    // Getters and setters
+    public long getTotalEmployees() { return totalEmployees; }
+    public void setTotalEmployees(long totalEmployees) { this.totalEmployees = totalEmployees; }
+
+    public long getNewlyJoined() { return newlyJoined; }
+    public void setNewlyJoined(long newlyJoined) { this.newlyJoined = newlyJoined; }
+
+    public long getTotalDepartments() { return totalDepartments; }
+    public void setTotalDepartments(long totalDepartments) { this.totalDepartments = totalDepartments; }
+
+    public long getTotalGoals() { return totalGoals; }
+    public void setTotalGoals(long totalGoals) { this.totalGoals = totalGoals; }
+
+    public Map<String, Long> getGoalsByStatus() { return goalsByStatus; }
+    public void setGoalsByStatus(Map<String, Long> goalsByStatus) { this.goalsByStatus = goalsByStatus; }
+
+    public double getGoalCompletionRate() { return goalCompletionRate; }
+    public void setGoalCompletionRate(double goalCompletionRate) { this.goalCompletionRate = goalCompletionRate; }
+
+    public long getTotalFeedbacks() { return totalFeedbacks; }
+    public void setTotalFeedbacks(long totalFeedbacks) { this.totalFeedbacks = totalFeedbacks; }
+
+    public double getAverageFeedbackRating() { return averageFeedbackRating; }
+    public void setAverageFeedbackRating(double averageFeedbackRating) { this.averageFeedbackRating = averageFeedbackRating; }
+
+    public long getTotalAppraisals() { return totalAppraisals; }
+    public void setTotalAppraisals(long totalAppraisals) { this.totalAppraisals = totalAppraisals; }
+
+    public Map<String, Long> getAppraisalsByStatus() { return appraisalsByStatus; }
+    public void setAppraisalsByStatus(Map<String, Long> appraisalsByStatus) { this.appraisalsByStatus = appraisalsByStatus; }
+
+    public double getAppraisalCompletionRate() { return appraisalCompletionRate; }
+    public void setAppraisalCompletionRate(double appraisalCompletionRate) { this.appraisalCompletionRate = appraisalCompletionRate; }
+
+    public Map<String, Long> getTeamSizes() { return teamSizes; }
+    public void setTeamSizes(Map<String, Long> teamSizes) { this.teamSizes = teamSizes; }
+}
@@ -1,15 +1,25 @@
 package com.example.springapp.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "appraisals")
+@NamedEntityGraph(name = "Appraisal.withEmployeeAndCycle",
+    attributeNodes = {
+        @NamedAttributeNode(value = "employee", subgraph = "employee"),
+        @NamedAttributeNode("reviewCycle")
+    },
+    subgraphs = @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode("user")))
 public class Appraisal {
 
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so cycle launches can batch their inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appraisals_seq")
+    @SequenceGenerator(name = "appraisals_seq", sequenceName = "appraisals_seq", allocationSize = 50)
     private Long appraisalId;
 
     private Integer selfRating;
@@ -36,6 +46,12 @@ public class Appraisal {
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private ReviewCycle reviewCycle;
 
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime lastModified;
+
     // Getters and setters
     public Long getAppraisalId() { return appraisalId; }
     public void setAppraisalId(Long appraisalId) { this.appraisalId = appraisalId; }
@@ -78,4 +94,10 @@ public class Appraisal {
 
     public ReviewCycle getReviewCycle() { return reviewCycle; }
     public void setReviewCycle(ReviewCycle reviewCycle) { this.reviewCycle = reviewCycle; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
 }
@@ -0,0 +1,12 @@
+package com.example.springapp.model;
+
+// One appraisal's contribution to the cycle rollups: the group it is filed under and the figures it adds
+public record AppraisalRollupSource(
+        Long appraisalId,
+        Long cycleId,
+        String department,
+        Long managerId,
+        String status,
+        Integer selfRating,
+        Integer managerRating) {
+}
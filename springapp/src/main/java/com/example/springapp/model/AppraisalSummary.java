@@ -0,0 +1,17 @@
+package com.example.springapp.model;
+
+import java.time.LocalDate;
+
+// Read-only view of an appraisal for history listings
+public interface AppraisalSummary {
+    Long getAppraisalId();
+    Long getCycleId();
+    String getCycleName();
+    String getStatus();
+    Integer getSelfRating();
+    Integer getManagerRating();
+    LocalDate getAppraisalDate();
+    LocalDate getReviewDate();
+    LocalDate getPeriodStart();
+    LocalDate getPeriodEnd();
+}
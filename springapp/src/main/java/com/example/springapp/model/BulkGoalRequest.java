@@ -0,0 +1,30 @@
+package com.example.springapp.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Bulk goal assignment: either a template applied to many employees, or a list of goals")
+public class BulkGoalRequest {
+
+    @Schema(description = "Goal copied to every employee in employeeIds")
+    private Goal template;
+
+    @Schema(description = "Employee profile IDs that receive a copy of the template")
+    private List<Long> employeeIds;
+
+    @Schema(description = "Individual goals; each must reference employee.employeeProfileId")
+    private List<Goal> goals;
+
+    public BulkGoalRequest() {}
+
+    // Getters and setters
+    public Goal getTemplate() { return template; }
+    public void setTemplate(Goal template) { this.template = template; }
+
+    public List<Long> getEmployeeIds() { return employeeIds; }
+    public void setEmployeeIds(List<Long> employeeIds) { this.employeeIds = employeeIds; }
+
+    public List<Goal> getGoals() { return goals; }
+    public void setGoals(List<Goal> goals) { this.goals = goals; }
+}
@@ -0,0 +1,23 @@
+package com.example.springapp.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a bulk goal assignment")
+public class BulkGoalResult {
+
+    @Schema(description = "Number of goals created")
+    private final int created;
+
+    @Schema(description = "IDs of the created goals, in request order")
+    private final List<Long> goalIds;
+
+    public BulkGoalResult(int created, List<Long> goalIds) {
+        this.created = created;
+        this.goalIds = goalIds;
+    }
+
+    public int getCreated() { return created; }
+    public List<Long> getGoalIds() { return goalIds; }
+}
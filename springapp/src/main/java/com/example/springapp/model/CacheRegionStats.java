@@ -0,0 +1,37 @@
+package com.example.springapp.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Hit/miss counters of one Hibernate second-level or query cache region since startup")
+public class CacheRegionStats {
+
+    @Schema(description = "Region name: entity or collection role, or the query results region")
+    private final String region;
+
+    private final long hits;
+    private final long misses;
+    private final long puts;
+
+    @Schema(description = "Entries currently held, or -1 when the provider does not report it")
+    private final long entries;
+
+    public CacheRegionStats(String region, long hits, long misses, long puts, long entries) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.entries = entries;
+    }
+
+    public String getRegion() { return region; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getPuts() { return puts; }
+    public long getEntries() { return entries; }
+
+    @Schema(description = "hits / (hits + misses), or 0 before the first lookup")
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.springapp.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A goal, feedback or appraisal that was saved or deleted; fetch the record by id for its contents")
+public class ChangeEvent {
+
+    public static final String GOAL = "goal";
+    public static final String FEEDBACK = "feedback";
+    public static final String APPRAISAL = "appraisal";
+
+    public static final String SAVED = "saved";
+    public static final String DELETED = "deleted";
+
+    @Schema(description = "goal, feedback or appraisal; also the SSE event name", example = "goal")
+    private final String type;
+
+    @Schema(description = "saved (created or updated) or deleted", example = "saved")
+    private final String action;
+
+    @Schema(description = "ID of the goal, feedback or appraisal", example = "42")
+    private final Long id;
+
+    @Schema(description = "Employee profile the record belongs to", example = "7")
+    private final Long employeeId;
+
+    @Schema(description = "Review cycle of the appraisal, or of the goal's appraisal; null for feedback", example = "3")
+    private final Long cycleId;
+
+    @Schema(description = "Status after the change; null for feedback", example = "IN_PROGRESS")
+    private final String status;
+
+    @Schema(description = "When the change was made")
+    private final LocalDateTime occurredAt;
+
+    // The employee's manager first, then everyone above; matched by managerId filters, not sent
+    private final List<Long> managerChain;
+
+    public ChangeEvent(String type, String action, Long id, Long employeeId, Long cycleId, String status,
+                       List<Long> managerChain) {
+        this.type = type;
+        this.action = action;
+        this.id = id;
+        this.employeeId = employeeId;
+        this.cycleId = cycleId;
+        this.status = status;
+        this.managerChain = managerChain;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    // Null filters match anything; a manager matches changes for everyone below them
+    public boolean matches(Long employeeId, Long managerId, Long cycleId) {
+        return (employeeId == null || employeeId.equals(this.employeeId))
+                && (managerId == null || managerChain.contains(managerId))
+                && (cycleId == null || cycleId.equals(this.cycleId));
+    }
+
+    public String getType() { return type; }
+    public String getAction() { return action; }
+    public Long getId() { return id; }
+    public Long getEmployeeId() { return employeeId; }
+    public Long getCycleId() { return cycleId; }
+    public String getStatus() { return status; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    @Schema(description = "The employee's direct manager, if resolved", example = "2")
+    public Long getManagerId() {
+        return managerChain.isEmpty() ? null : managerChain.get(0);
+    }
+}
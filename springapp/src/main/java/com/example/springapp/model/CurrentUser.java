@@ -0,0 +1,26 @@
+package com.example.springapp.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "The signed-in user as the client needs it: identity, contact and role, without password or profile collection")
+public record CurrentUser(
+        Long userId,
+        String email,
+        String username,
+        String fullName,
+        String firstName,
+        String lastName,
+        String phoneNumber,
+        String role,
+        @Schema(description = "The user's employee profile, or null for users without one") Long employeeProfileId) {
+
+    public static CurrentUser of(UserSummary user, Long employeeProfileId) {
+        return new CurrentUser(user.getUserId(), user.getEmail(), user.getUsername(), user.getFullName(),
+                user.getFirstName(), user.getLastName(), user.getPhoneNumber(), user.getRole(), employeeProfileId);
+    }
+
+    public static CurrentUser of(User user, Long employeeProfileId) {
+        return new CurrentUser(user.getUserId(), user.getEmail(), user.getUsername(), user.getFullName(),
+                user.getFirstName(), user.getLastName(), user.getPhoneNumber(), user.getRole(), employeeProfileId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.springapp.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One page of a keyset-paginated listing")
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    @Schema(description = "Rows on this page, ordered by primary key")
+    private final List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page, or null when this is the last page")
+    private final String nextCursor;
+
+    @Schema(description = "Page size that was applied")
+    private final int limit;
+
+    public CursorPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public int getLimit() { return limit; }
+    public boolean isHasMore() { return nextCursor != null; }
+
+    public static int clampLimit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    // Repositories are asked for limit + 1 rows; the extra row only tells us whether another page exists
+    public static <T> CursorPage<T> fromOverfetch(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new CursorPage<>(page, encodeCursor(idOf.apply(page.get(limit - 1))), limit);
+    }
+
+    // Cursors are the last seen primary key, base64url-encoded so clients treat them as opaque
+    public static String encodeCursor(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.US_ASCII);
+            long id = Long.parseLong(raw);
+            if (id < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
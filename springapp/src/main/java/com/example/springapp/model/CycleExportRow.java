@@ -0,0 +1,27 @@
+package com.example.springapp.model;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One appraisal of a review cycle export, with its employee and goal and feedback summaries")
+public record CycleExportRow(
+        Long appraisalId,
+        Long employeeProfileId,
+        String employeeName,
+        String email,
+        String department,
+        String designation,
+        String reportingManager,
+        String status,
+        Integer selfRating,
+        Integer managerRating,
+        String managerName,
+        LocalDate appraisalDate,
+        LocalDate reviewDate,
+        @Schema(description = "Goals linked to the appraisal") Long goals,
+        @Schema(description = "Linked goals with status Completed") Long goalsCompleted,
+        @Schema(description = "Mean progress of the linked goals, or null") Double averageGoalProgress,
+        @Schema(description = "Feedback received by the employee during the cycle") Long feedbackCount,
+        @Schema(description = "Mean rating of that feedback, or null") Double averageFeedbackRating) {
+}
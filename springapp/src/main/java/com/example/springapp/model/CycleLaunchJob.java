@@ -0,0 +1,84 @@
+package com.example.springapp.model;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Progress of a review cycle launch that creates Draft appraisals in the background")
+public class CycleLaunchJob {
+
+    public static final String RUNNING = "Running";
+    public static final String COMPLETED = "Completed";
+    public static final String COMPLETED_WITH_ERRORS = "Completed with errors";
+    public static final String FAILED = "Failed";
+
+    @Schema(description = "Job identifier used by the status endpoint")
+    private final String jobId;
+
+    @Schema(description = "Review cycle being launched")
+    private final Long cycleId;
+
+    @Schema(description = "Department filter, or null for every department")
+    private final String department;
+
+    @Schema(description = "Running, Completed, Completed with errors or Failed")
+    private volatile String status = RUNNING;
+
+    @Schema(description = "Employees without an appraisal in the cycle when the job started")
+    private volatile int totalEmployees;
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public CycleLaunchJob(String jobId, Long cycleId, String department) {
+        this.jobId = jobId;
+        this.cycleId = cycleId;
+        this.department = department;
+    }
+
+    public void setTotalEmployees(int totalEmployees) { this.totalEmployees = totalEmployees; }
+
+    // Called once per chunk; skipped employees got an appraisal in the cycle after the job started
+    public void recordChunk(int size, int createdInChunk) {
+        created.addAndGet(createdInChunk);
+        skipped.addAndGet(size - createdInChunk);
+        processed.addAndGet(size);
+    }
+
+    public void recordFailedChunk(int size, Throwable cause) {
+        failed.addAndGet(size);
+        processed.addAndGet(size);
+        error = cause.getMessage();
+    }
+
+    public void finish(Throwable cause) {
+        if (cause != null) {
+            error = cause.getMessage();
+            status = FAILED;
+        } else {
+            status = failed.get() > 0 ? COMPLETED_WITH_ERRORS : COMPLETED;
+        }
+        finishedAt = LocalDateTime.now();
+    }
+
+    public String getJobId() { return jobId; }
+    public Long getCycleId() { return cycleId; }
+    public String getDepartment() { return department; }
+    public String getStatus() { return status; }
+    public int getTotalEmployees() { return totalEmployees; }
+    public int getProcessed() { return processed.get(); }
+    public int getCreated() { return created.get(); }
+    public int getSkipped() { return skipped.get(); }
+    public int getFailed() { return failed.get(); }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+    public boolean isDone() { return finishedAt != null; }
+}
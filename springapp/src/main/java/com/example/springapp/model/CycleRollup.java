@@ -0,0 +1,18 @@
+package com.example.springapp.model;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Appraisals of one review cycle for one department and reporting manager, summarized for calibration")
+public record CycleRollup(
+        Long cycleId,
+        @Schema(description = "Department of the appraised employees; null when unset") String department,
+        @Schema(description = "Employee profile ID of their reporting manager; null when unresolved") Long managerId,
+        @Schema(description = "Appraisals in the group") long appraisals,
+        @Schema(description = "Appraisals per status") Map<String, Long> statusCounts,
+        @Schema(description = "Mean self rating of the appraisals rated above 0, or null") Double averageSelfRating,
+        @Schema(description = "Mean manager rating of the appraisals rated above 0, or null") Double averageManagerRating,
+        @Schema(description = "Appraisals per self rating, unrated (0) ones left out") Map<Integer, Long> selfRatingHistogram,
+        @Schema(description = "Appraisals per manager rating, unrated (0) ones left out") Map<Integer, Long> managerRatingHistogram) {
+}
@@ -0,0 +1,47 @@
+package com.example.springapp.model;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Everything the employee dashboard needs, in one response")
+public class EmployeeDashboardSummary {
+
+    private ProfileSummary profile;
+
+    private long totalGoals;
+    private Map<String, Long> goalsByStatus;
+    private double goalCompletionRate;
+
+    @Schema(description = "Most recent feedback first")
+    private List<FeedbackSummary> recentFeedback;
+
+    @Schema(description = "Appraisals, newest first")
+    private List<AppraisalSummary> appraisals;
+
+    @Schema(description = "Average of non-zero manager ratings, or null when nothing has been rated")
+    private Double averageManagerRating;
+
+    // Getters and setters
+    public ProfileSummary getProfile() { return profile; }
+    public void setProfile(ProfileSummary profile) { this.profile = profile; }
+
+    public long getTotalGoals() { return totalGoals; }
+    public void setTotalGoals(long totalGoals) { this.totalGoals = totalGoals; }
+
+    public Map<String, Long> getGoalsByStatus() { return goalsByStatus; }
+    public void setGoalsByStatus(Map<String, Long> goalsByStatus) { this.goalsByStatus = goalsByStatus; }
+
+    public double getGoalCompletionRate() { return goalCompletionRate; }
+    public void setGoalCompletionRate(double goalCompletionRate) { this.goalCompletionRate = goalCompletionRate; }
+
+    public List<FeedbackSummary> getRecentFeedback() { return recentFeedback; }
+    public void setRecentFeedback(List<FeedbackSummary> recentFeedback) { this.recentFeedback = recentFeedback; }
+
+    public List<AppraisalSummary> getAppraisals() { return appraisals; }
+    public void setAppraisals(List<AppraisalSummary> appraisals) { this.appraisals = appraisals; }
+
+    public Double getAverageManagerRating() { return averageManagerRating; }
+    public void setAverageManagerRating(Double averageManagerRating) { this.averageManagerRating = averageManagerRating; }
+}
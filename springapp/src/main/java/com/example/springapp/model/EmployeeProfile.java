@@ -1,13 +1,21 @@
 package com.example.springapp.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "employee_profiles")
+@NamedEntityGraph(name = "EmployeeProfile.withUser", attributeNodes = @NamedAttributeNode("user"))
 public class EmployeeProfile {
 
     @Id
@@ -22,11 +30,22 @@ public class EmployeeProfile {
     private String currentTeam;
     @Column(columnDefinition = "TEXT")
     private String skills;
+    // Both ratings are derived from the appraisals (AppraisalRatingService); a profile save never overwrites them.
+    // The last rating may still be given when a profile is created, e.g. for history from before the appraisals.
+    @Column(updatable = false)
     private Double lastAppraisalRating;
+    @Column(insertable = false, updatable = false)
+    private Double averageAppraisalRating;
     @Column(columnDefinition = "TEXT")
     private String currentGoals;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // reportingManager resolved to the manager's profile when the name matches exactly one user; set by the service
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "manager_id")
+    @JsonIgnore
+    private EmployeeProfile manager;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"employeeProfiles", "hibernateLazyInitializer", "handler"})
     private User user;
@@ -46,6 +65,12 @@ public class EmployeeProfile {
     @JsonIgnoreProperties({"employee", "reviewer"})
     private List<Feedback> feedbacks;
 
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime lastModified;
+
     // getters and setters
     public Long getEmployeeProfileId() { return employeeProfileId; }
     public void setEmployeeProfileId(Long employeeProfileId) { this.employeeProfileId = employeeProfileId; }
@@ -65,8 +90,14 @@ public class EmployeeProfile {
     public void setSkills(String skills) { this.skills = skills; }
     public Double getLastAppraisalRating() { return lastAppraisalRating; }
     public void setLastAppraisalRating(Double lastAppraisalRating) { this.lastAppraisalRating = lastAppraisalRating; }
+    public Double getAverageAppraisalRating() { return averageAppraisalRating; }
+    public void setAverageAppraisalRating(Double averageAppraisalRating) { this.averageAppraisalRating = averageAppraisalRating; }
     public String getCurrentGoals() { return currentGoals; }
     public void setCurrentGoals(String currentGoals) { this.currentGoals = currentGoals; }
+    public EmployeeProfile getManager() { return manager; }
+    public void setManager(EmployeeProfile manager) { this.manager = manager; }
+    // Reading the id of an unloaded manager does not initialize it
+    public Long getManagerId() { return manager != null ? manager.getEmployeeProfileId() : null; }
     public User getUser() { return user; }
     public void setUser(User user) { this.user = user; }
     public List<Goal> getGoals() { return goals; }
@@ -75,4 +106,9 @@ public class EmployeeProfile {
     public void setAppraisals(List<Appraisal> appraisals) { this.appraisals = appraisals; }
     public List<Feedback> getFeedbacks() { return feedbacks; }
     public void setFeedbacks(List<Feedback> feedbacks) { this.feedbacks = feedbacks; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
 }
@@ -4,9 +4,16 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "feedbacks")
+@NamedEntityGraph(name = "Feedback.withParticipants",
+    attributeNodes = {
+        @NamedAttributeNode(value = "employee", subgraph = "employee"),
+        @NamedAttributeNode("reviewer")
+    },
+    subgraphs = @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode("user")))
 public class Feedback {
 
     @Id
@@ -26,12 +33,12 @@ public class Feedback {
     @Column(columnDefinition = "TEXT")
     private String improvements;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnoreProperties({"goals", "appraisals", "feedbacks", "hibernateLazyInitializer", "handler"})
     private EmployeeProfile employee;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reviewer_id")
     @JsonIgnoreProperties({"employeeProfiles", "hibernateLazyInitializer", "handler"})
     private User reviewer;
@@ -39,6 +46,12 @@ public class Feedback {
     @Column(name = "created_date")
     private LocalDateTime createdDate;
 
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime lastModified;
+
     @PrePersist
     private void onCreate() {
         if (this.createdDate == null) {
@@ -76,4 +89,10 @@ public class Feedback {
 
     public LocalDateTime getCreatedDate() { return createdDate; }
     public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
 }
\ No newline at end of file
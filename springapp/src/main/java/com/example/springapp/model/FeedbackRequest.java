@@ -0,0 +1,45 @@
+package com.example.springapp.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+@Schema(description = "Feedback create/update payload; the snake_case key variants sent by older clients are accepted too")
+public record FeedbackRequest(
+        @JsonAlias("feedback_type") String feedbackType,
+        String comments,
+        @Min(0) @Max(5) Integer rating,
+        String achievements,
+        String challenges,
+        String improvements,
+        @JsonAlias("employee_id") @NotNull(groups = FeedbackRequest.Create.class) Long employeeId,
+        @JsonAlias("reviewer_id") Long reviewerId) {
+
+    // Validation group for POST: Default constraints plus the fields new feedback cannot do without
+    public interface Create extends Default {}
+
+    // New feedback with the create defaults; the employee and reviewer are resolved by the caller
+    public Feedback toFeedback() {
+        Feedback feedback = new Feedback();
+        applyTo(feedback);
+        if (feedbackType == null) {
+            feedback.setFeedbackType("Manager Feedback");
+        }
+        return feedback;
+    }
+
+    // Copies the fields that were sent; absent (null) fields keep their current value.
+    // Employee and reviewer are never changed by an update.
+    public void applyTo(Feedback feedback) {
+        if (feedbackType != null) feedback.setFeedbackType(feedbackType);
+        if (comments != null) feedback.setComments(comments);
+        if (rating != null) feedback.setRating(rating);
+        if (achievements != null) feedback.setAchievements(achievements);
+        if (challenges != null) feedback.setChallenges(challenges);
+        if (improvements != null) feedback.setImprovements(improvements);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.springapp.model;
+
+import java.time.LocalDateTime;
+
+// Read-only view of a feedback entry with the reviewer's name instead of the reviewer entity
+public interface FeedbackSummary {
+    Long getFeedbackId();
+    String getFeedbackType();
+    Integer getRating();
+    String getComments();
+    LocalDateTime getCreatedDate();
+    Long getReviewerId();
+    String getReviewerName();
+}
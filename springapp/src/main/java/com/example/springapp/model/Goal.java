@@ -7,20 +7,36 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "goals")
+@NamedEntityGraph(name = "Goal.withEmployeeAndAppraisal",
+    attributeNodes = {
+        @NamedAttributeNode(value = "employee", subgraph = "employee"),
+        @NamedAttributeNode("appraisal")
+    },
+    subgraphs = @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode("user")))
 public class Goal {
 
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_seq")
+    @SequenceGenerator(name = "goals_seq", sequenceName = "goals_seq", allocationSize = 50)
     private Long goalId;
 
     @Column(nullable = false)
@@ -57,17 +73,25 @@ public class Goal {
     private LocalDateTime createdDate;
 
     // Many goals belong to one employee
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private EmployeeProfile employee;
 
     // Optional: Many goals can belong to one appraisal
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appraisal_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Appraisal appraisal;
 
+    // Optimistic lock: an update with a stale version fails instead of overwriting; also the entity's ETag
+    @Version
+    private Long version;
+
+    // Unlike createdDate, moves on every update; the delta sync's watermark is compared against it
+    @UpdateTimestamp
+    private LocalDateTime lastModified;
+
     // Getters and setters
     public Long getGoalId() { return goalId; }
     public void setGoalId(Long goalId) { this.goalId = goalId; }
@@ -114,6 +138,12 @@ public class Goal {
     public Appraisal getAppraisal() { return appraisal; }
     public void setAppraisal(Appraisal appraisal) { this.appraisal = appraisal; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
+
     @PrePersist
     private void onCreate() {
         if (this.createdDate == null) {
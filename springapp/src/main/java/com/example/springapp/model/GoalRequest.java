@@ -0,0 +1,63 @@
+package com.example.springapp.model;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+@Schema(description = "Goal create/update payload; the snake_case key variants sent by older clients are accepted too")
+public record GoalRequest(
+        @NotBlank(groups = GoalRequest.Create.class) String title,
+        String description,
+        String status,
+        String priority,
+        String category,
+        @JsonAlias("created_by") String createdBy,
+        @JsonAlias("manager_comments") String managerComments,
+        @JsonAlias("progressPercentage") @Min(0) @Max(100) Integer progress,
+        @JsonAlias("start_date") LocalDate startDate,
+        @JsonAlias({"target_date", "endDate"}) LocalDate targetDate,
+        @JsonAlias("completion_date") LocalDate completionDate,
+        @JsonAlias("employee_id") @NotNull(groups = GoalRequest.Create.class) Long employeeId,
+        @JsonAlias("appraisal_id") Long appraisalId) {
+
+    // Validation group for POST: Default constraints plus the fields a new goal cannot do without
+    public interface Create extends Default {}
+
+    // New goal with the create defaults; the employee and appraisal are resolved by the caller
+    public Goal toGoal() {
+        Goal goal = new Goal();
+        applyTo(goal);
+        if (status == null) {
+            goal.setStatus("Pending");
+        }
+        if (createdBy == null) {
+            goal.setCreatedBy("manager");
+        }
+        if (progress == null) {
+            goal.setProgress(0);
+        }
+        return goal;
+    }
+
+    // Copies the fields that were sent; absent (null) fields keep their current value
+    public void applyTo(Goal goal) {
+        if (title != null) goal.setTitle(title);
+        if (description != null) goal.setDescription(description);
+        if (status != null) goal.setStatus(status);
+        if (priority != null) goal.setPriority(priority);
+        if (category != null) goal.setCategory(category);
+        if (createdBy != null) goal.setCreatedBy(createdBy);
+        if (managerComments != null) goal.setManagerComments(managerComments);
+        if (progress != null) goal.setProgress(progress);
+        if (startDate != null) goal.setStartDate(startDate);
+        if (targetDate != null) goal.setTargetDate(targetDate);
+        if (completionDate != null) goal.setCompletionDate(completionDate);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.springapp.model;
+
+// Projection for the employee headcount aggregate query
+public interface HeadcountSummary {
+    Long getTotal();
+    Long getNewlyJoined();
+    Long getDepartments();
+}
@@ -0,0 +1,10 @@
+package com.example.springapp.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A CSV row that was not imported, and why")
+public record ImportRowError(
+        @Schema(description = "Line of the file the row starts on; the header is line 1") long line,
+        @Schema(description = "The row's email, if it had one") String email,
+        String message) {
+}
@@ -0,0 +1,20 @@
+package com.example.springapp.model;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// The user fields stay at the top level, where clients already read them after login
+@Schema(description = "Bearer token for later requests, plus the signed-in user")
+public record LoginResponse(
+        String token,
+        String tokenType,
+        Instant expiresAt,
+        @JsonUnwrapped CurrentUser user) {
+
+    public static LoginResponse bearer(String token, Instant expiresAt, CurrentUser user) {
+        return new LoginResponse(token, "Bearer", expiresAt, user);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.springapp.model;
+
+// One profile's place in the reporting hierarchy, with the names used to resolve free-text reporting managers
+public record OrgTreeSource(
+        Long employeeProfileId,
+        Long managerId,
+        String reportingManager,
+        String fullName,
+        String department,
+        Double lastAppraisalRating) {
+}
@@ -0,0 +1,15 @@
+package com.example.springapp.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One ranked match from the employee profile search index")
+public record ProfileSearchHit(
+        Long employeeProfileId,
+        Long userId,
+        String fullName,
+        String email,
+        String department,
+        String designation,
+        @Schema(description = "Relevance; higher is better. Name matches outrank email, role and skill matches, "
+                + "and exact words outrank prefixes and typo corrections") double score) {
+}
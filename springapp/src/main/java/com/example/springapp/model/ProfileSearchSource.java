@@ -0,0 +1,12 @@
+package com.example.springapp.model;
+
+// Searchable text of one employee profile and its user, as loaded into the in-memory search index
+public record ProfileSearchSource(
+        Long employeeProfileId,
+        Long userId,
+        String fullName,
+        String email,
+        String department,
+        String designation,
+        String skills) {
+}
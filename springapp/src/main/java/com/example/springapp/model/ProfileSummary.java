@@ -0,0 +1,18 @@
+package com.example.springapp.model;
+
+// Flat read-only view of an employee profile and its user, without the lazy collections
+public interface ProfileSummary {
+    Long getEmployeeProfileId();
+    Long getUserId();
+    String getFullName();
+    String getEmail();
+    String getDepartment();
+    String getDesignation();
+    String getDateOfJoining();
+    String getReportingManager();
+    String getCurrentProject();
+    String getCurrentTeam();
+    Double getLastAppraisalRating();
+    Double getAverageAppraisalRating();
+    Long getManagerId();
+}
@@ -0,0 +1,7 @@
+package com.example.springapp.model;
+
+// Projection for COUNT/AVG rating aggregate queries
+public interface RatingSummary {
+    Long getCount();
+    Double getAverageRating();
+}
@@ -1,10 +1,16 @@
 package com.example.springapp.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "review_cycles")
 public class ReviewCycle {
 
@@ -29,6 +35,12 @@ public class ReviewCycle {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private LocalDateTime lastModified;
+
     public ReviewCycle() {} // No-arg constructor required
 
     // Getters and Setters
@@ -49,4 +61,10 @@ public class ReviewCycle {
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
 }
@@ -0,0 +1,7 @@
+package com.example.springapp.model;
+
+// Projection for "GROUP BY status" aggregate queries
+public interface StatusCount {
+    String getStatus();
+    Long getCount();
+}
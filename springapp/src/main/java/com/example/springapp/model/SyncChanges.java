@@ -0,0 +1,23 @@
+package com.example.springapp.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Changes to one entity type since the sync watermark")
+public class SyncChanges<T> {
+
+    @Schema(description = "Rows created or updated since the watermark, in full")
+    private final List<T> upserts;
+
+    @Schema(description = "IDs of rows deleted since the watermark")
+    private final List<Long> deleted;
+
+    public SyncChanges(List<T> upserts, List<Long> deleted) {
+        this.upserts = upserts;
+        this.deleted = deleted;
+    }
+
+    public List<T> getUpserts() { return upserts; }
+    public List<Long> getDeleted() { return deleted; }
+}
@@ -0,0 +1,44 @@
+package com.example.springapp.model;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Rows changed and deleted since a watermark, per entity type")
+public class SyncResult {
+
+    @Schema(description = "Pass as since on the next sync. It trails the read by the configured overlap, so rows "
+            + "committed late are sent again rather than missed; apply upserts and deletions idempotently")
+    private final LocalDateTime watermark;
+
+    private final SyncChanges<User> users;
+    private final SyncChanges<EmployeeProfile> employeeProfiles;
+    private final SyncChanges<ReviewCycle> reviewCycles;
+    private final SyncChanges<Appraisal> appraisals;
+    private final SyncChanges<Goal> goals;
+    private final SyncChanges<Feedback> feedbacks;
+
+    public SyncResult(LocalDateTime watermark,
+                      SyncChanges<User> users,
+                      SyncChanges<EmployeeProfile> employeeProfiles,
+                      SyncChanges<ReviewCycle> reviewCycles,
+                      SyncChanges<Appraisal> appraisals,
+                      SyncChanges<Goal> goals,
+                      SyncChanges<Feedback> feedbacks) {
+        this.watermark = watermark;
+        this.users = users;
+        this.employeeProfiles = employeeProfiles;
+        this.reviewCycles = reviewCycles;
+        this.appraisals = appraisals;
+        this.goals = goals;
+        this.feedbacks = feedbacks;
+    }
+
+    public LocalDateTime getWatermark() { return watermark; }
+    public SyncChanges<User> getUsers() { return users; }
+    public SyncChanges<EmployeeProfile> getEmployeeProfiles() { return employeeProfiles; }
+    public SyncChanges<ReviewCycle> getReviewCycles() { return reviewCycles; }
+    public SyncChanges<Appraisal> getAppraisals() { return appraisals; }
+    public SyncChanges<Goal> getGoals() { return goals; }
+    public SyncChanges<Feedback> getFeedbacks() { return feedbacks; }
+}
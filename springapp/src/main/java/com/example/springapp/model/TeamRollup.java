@@ -0,0 +1,16 @@
+package com.example.springapp.model;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Everyone reporting to a manager, directly or through other managers, summarized")
+public record TeamRollup(
+        Long employeeProfileId,
+        @Schema(description = "Profiles whose manager is this profile") int directReports,
+        @Schema(description = "Profiles anywhere below this profile") int totalReports,
+        @Schema(description = "Levels below this profile; 0 without reports") int depth,
+        @Schema(description = "Reports with a last appraisal rating") int ratedReports,
+        @Schema(description = "Mean last appraisal rating of the rated reports, or null") Double averageRating,
+        @Schema(description = "Reports per department") Map<String, Integer> departments) {
+}
@@ -0,0 +1,7 @@
+package com.example.springapp.model;
+
+// Projection for "GROUP BY reportingManager" aggregate queries
+public interface TeamSize {
+    String getReportingManager();
+    Long getTeamSize();
+}
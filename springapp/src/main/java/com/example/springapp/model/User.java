@@ -1,10 +1,13 @@
 package com.example.springapp.model;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,13 +15,22 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
+@NamedEntityGraph(name = "User.withProfiles", attributeNodes = @NamedAttributeNode("employeeProfiles"))
 @Schema(description = "User entity representing a system user")
 public class User {
 
@@ -44,7 +56,9 @@ public class User {
     private String lastName;
 
     @NotBlank(message = "Password is required")
+    // Accepted on create and update, never serialized: not in user lists, embedded users or the reset response
     @Schema(description = "User's password", accessMode = Schema.AccessMode.WRITE_ONLY)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @NotBlank(message = "Phone number is required")
@@ -57,11 +71,17 @@ public class User {
     @Schema(description = "User's username")
     private String username;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties({"user", "goals", "appraisals", "feedbacks", "hibernateLazyInitializer", "handler"})
     @Schema(description = "List of employee profiles associated with this user", accessMode = Schema.AccessMode.READ_ONLY)
     private List<EmployeeProfile> employeeProfiles;
 
+    // Set on every insert and update; GET /api/sync returns the rows changed after a watermark
+    @UpdateTimestamp
+    @Schema(description = "When the user was last created or changed", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime lastModified;
+
     // Getters and Setters
     public Long getUserId() {
         return userId;
@@ -123,4 +143,10 @@ public class User {
     public void setEmployeeProfiles(List<EmployeeProfile> employeeProfiles) {
         this.employeeProfiles = employeeProfiles;
     }
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+    public void setLastModified(LocalDateTime lastModified) {
+        this.lastModified = lastModified;
+    }
 }
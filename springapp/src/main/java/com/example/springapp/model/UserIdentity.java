@@ -0,0 +1,9 @@
+package com.example.springapp.model;
+
+// The columns that must be unique across users, for duplicate checks that do not load entities
+public interface UserIdentity {
+    Long getUserId();
+    String getEmail();
+    String getUsername();
+    String getPhoneNumber();
+}
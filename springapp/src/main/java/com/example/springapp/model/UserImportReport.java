@@ -0,0 +1,15 @@
+package com.example.springapp.model;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a bulk CSV import of users and employee profiles")
+public record UserImportReport(
+        @Schema(description = "Data rows read, excluding the header and blank lines") int rows,
+        @Schema(description = "Users created") int usersCreated,
+        @Schema(description = "Employee profiles created, one per created user when the file has profile columns") int profilesCreated,
+        @Schema(description = "Rows rejected") int failed,
+        @Schema(description = "Rejected rows, up to app.import.max-errors") List<ImportRowError> errors,
+        @Schema(description = "True when more rows failed than are listed") boolean errorsTruncated) {
+}
@@ -0,0 +1,13 @@
+package com.example.springapp.model;
+
+// Read-only view of a user without password or profile collection
+public interface UserSummary {
+    Long getUserId();
+    String getEmail();
+    String getUsername();
+    String getFullName();
+    String getFirstName();
+    String getLastName();
+    String getPhoneNumber();
+    String getRole();
+}
@@ -1,18 +1,128 @@
 package com.example.springapp.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.AppraisalRollupSource;
+import com.example.springapp.model.AppraisalSummary;
+import com.example.springapp.model.CycleExportRow;
+import com.example.springapp.model.StatusCount;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AppraisalRepository extends JpaRepository<Appraisal, Long> {
 
+    // Inherited finders load the associations the JSON views serialize in the same query
+    @Override
+    @EntityGraph("Appraisal.withEmployeeAndCycle")
+    List<Appraisal> findAll();
+
+    @Override
+    @EntityGraph("Appraisal.withEmployeeAndCycle")
+    Optional<Appraisal> findById(Long id);
+
+    // Finders on an association id compare the foreign key column itself (idx_appraisals_employee,
+    // idx_appraisals_cycle_employee); derived from the method name they would filter on a left-joined table instead
+
     // Find all appraisals for a specific employee
-    List<Appraisal> findByEmployee_EmployeeProfileId(Long employeeProfileId);
+    @EntityGraph("Appraisal.withEmployeeAndCycle")
+    @Query("SELECT a FROM Appraisal a WHERE a.employee.employeeProfileId = :employeeProfileId")
+    List<Appraisal> findByEmployee_EmployeeProfileId(@Param("employeeProfileId") Long employeeProfileId);
 
     // Find all appraisals for a specific review cycle
-    List<Appraisal> findByReviewCycle_CycleId(Long cycleId);
+    @EntityGraph("Appraisal.withEmployeeAndCycle")
+    @Query("SELECT a FROM Appraisal a WHERE a.reviewCycle.cycleId = :cycleId")
+    List<Appraisal> findByReviewCycle_CycleId(@Param("cycleId") Long cycleId);
+
+    // Keyset page: appraisals after the given id, optionally filtered by status, review cycle and employee
+    @Query("SELECT a FROM Appraisal a LEFT JOIN FETCH a.employee e LEFT JOIN FETCH e.user LEFT JOIN FETCH a.reviewCycle c "
+            + "WHERE a.appraisalId > :afterId "
+            + "AND (:status IS NULL OR a.status = :status) "
+            + "AND (:cycleId IS NULL OR c.cycleId = :cycleId) "
+            + "AND (:employeeId IS NULL OR e.employeeProfileId = :employeeId) "
+            + "ORDER BY a.appraisalId ASC")
+    List<Appraisal> findPageAfter(@Param("afterId") Long afterId,
+                                  @Param("status") String status,
+                                  @Param("cycleId") Long cycleId,
+                                  @Param("employeeId") Long employeeId,
+                                  Limit limit);
+
+    // Appraisal counts grouped by status
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM Appraisal a GROUP BY a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // Appraisal history for an employee, newest first; cycle name falls back to the copy stored on the appraisal
+    @Query("SELECT a.appraisalId AS appraisalId, c.cycleId AS cycleId, COALESCE(c.cycleName, a.cycleName) AS cycleName, "
+            + "a.status AS status, a.selfRating AS selfRating, a.managerRating AS managerRating, "
+            + "a.appraisalDate AS appraisalDate, a.reviewDate AS reviewDate, a.periodStart AS periodStart, a.periodEnd AS periodEnd "
+            + "FROM Appraisal a LEFT JOIN a.reviewCycle c "
+            + "WHERE a.employee.employeeProfileId = :employeeId "
+            + "ORDER BY a.appraisalId DESC")
+    List<AppraisalSummary> findSummariesByEmployee(@Param("employeeId") Long employeeId);
+
+    // Which of the given IDs exist, without hydrating the appraisals (bulk goal assignment)
+    @Query("SELECT a.appraisalId FROM Appraisal a WHERE a.appraisalId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Employees among the given IDs that already have an appraisal in the cycle (cycle launch idempotency)
+    @Query("SELECT a.employee.employeeProfileId FROM Appraisal a "
+            + "WHERE a.reviewCycle.cycleId = :cycleId AND a.employee.employeeProfileId IN :employeeIds")
+    List<Long> findEmployeeIdsWithAppraisalInCycle(@Param("cycleId") Long cycleId,
+                                                   @Param("employeeIds") Collection<Long> employeeIds);
+
+    // Cycle export, read through a forward-only cursor: rows arrive in fetch-size batches and are written out as they
+    // come. Ordered along idx_appraisals_cycle_employee so no sort is needed; goal and feedback summaries are
+    // correlated subqueries, so the row count never multiplies. Must be consumed inside a transaction and closed.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.example.springapp.model.CycleExportRow(a.appraisalId, e.employeeProfileId, u.fullName, u.email, "
+            + "e.department, e.designation, e.reportingManager, a.status, a.selfRating, a.managerRating, a.managerName, "
+            + "a.appraisalDate, a.reviewDate, "
+            + "(SELECT COUNT(g) FROM Goal g WHERE g.appraisal = a), "
+            + "(SELECT COUNT(g) FROM Goal g WHERE g.appraisal = a AND UPPER(g.status) = 'COMPLETED'), "
+            + "(SELECT AVG(g.progress) FROM Goal g WHERE g.appraisal = a), "
+            + "(SELECT COUNT(f) FROM Feedback f WHERE f.employee = e AND f.createdDate >= :from AND f.createdDate < :until), "
+            + "(SELECT AVG(f.rating) FROM Feedback f WHERE f.employee = e AND f.createdDate >= :from AND f.createdDate < :until)) "
+            + "FROM Appraisal a LEFT JOIN a.employee e LEFT JOIN e.user u "
+            + "WHERE a.reviewCycle.cycleId = :cycleId "
+            + "ORDER BY e.employeeProfileId, a.appraisalId")
+    Stream<CycleExportRow> streamCycleExport(@Param("cycleId") Long cycleId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("until") LocalDateTime until);
+
+    // Every appraisal in a cycle with its employee's department and reporting manager, for rebuilding the cycle rollups
+    @Query("SELECT new com.example.springapp.model.AppraisalRollupSource(a.appraisalId, a.reviewCycle.cycleId, "
+            + "e.department, m.employeeProfileId, a.status, a.selfRating, a.managerRating) "
+            + "FROM Appraisal a LEFT JOIN a.employee e LEFT JOIN e.manager m "
+            + "WHERE a.reviewCycle IS NOT NULL")
+    List<AppraisalRollupSource> findAllRollupSources();
+
+    // IDs of an employee's appraisals, which go with the profile when it is deleted
+    @Query("SELECT a.appraisalId FROM Appraisal a WHERE a.employee.employeeProfileId = :employeeProfileId")
+    List<Long> findIdsByEmployeeId(@Param("employeeProfileId") Long employeeProfileId);
+
+    // Current row version for conditional requests
+    @Query("SELECT a.version FROM Appraisal a WHERE a.appraisalId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Delta sync: appraisals changed after the watermark
+    @EntityGraph("Appraisal.withEmployeeAndCycle")
+    @Query("SELECT a FROM Appraisal a WHERE a.lastModified > :since")
+    List<Appraisal> findModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -1,26 +1,178 @@
 package com.example.springapp.repository;
 
 import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.HeadcountSummary;
+import com.example.springapp.model.OrgTreeSource;
+import com.example.springapp.model.ProfileSearchSource;
+import com.example.springapp.model.ProfileSummary;
+import com.example.springapp.model.TeamSize;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface EmployeeProfileRepository extends JpaRepository<EmployeeProfile, Long> {
 
+    // Inherited finders load the associations the JSON views serialize in the same query
+    @Override
+    @EntityGraph("EmployeeProfile.withUser")
+    List<EmployeeProfile> findAll();
+
+    @Override
+    @EntityGraph("EmployeeProfile.withUser")
+    Optional<EmployeeProfile> findById(Long id);
+
     // Find profile by employeeProfileId
+    @EntityGraph("EmployeeProfile.withUser")
     List<EmployeeProfile> findByEmployeeProfileId(Long employeeProfileId);
 
-    // Find profile(s) by userId
-    List<EmployeeProfile> findByUserUserId(Long userId);  // userUserId matches the field "userId" in User entity
+    // Find profile(s) by userId; compares the user_id column (idx_employee_profiles_user) rather than a joined users row
+    @EntityGraph("EmployeeProfile.withUser")
+    @Query("SELECT e FROM EmployeeProfile e WHERE e.user.userId = :userId")
+    List<EmployeeProfile> findByUserUserId(@Param("userId") Long userId);  // userUserId matches the field "userId" in User entity
 
     // Find profiles by department
+    @EntityGraph("EmployeeProfile.withUser")
     List<EmployeeProfile> findByDepartment(String department);
 
     // Find profiles by designation
+    @EntityGraph("EmployeeProfile.withUser")
     List<EmployeeProfile> findByDesignation(String designation);
 
     // Find profiles by reporting manager
+    @EntityGraph("EmployeeProfile.withUser")
     List<EmployeeProfile> findByReportingManager(String reportingManager);
     
     // Find profiles by user's full name (case insensitive)
+    @EntityGraph("EmployeeProfile.withUser")
     List<EmployeeProfile> findByUserFullNameContainingIgnoreCase(String fullName);
+
+    // Headcount of Employee-role profiles. dateOfJoining is written as an ISO yyyy-MM-dd string, so it compares
+    // lexically; the upper bound also keeps out future dates and any free text saved before the format was enforced
+    @Query("SELECT COUNT(e) AS total, "
+            + "COALESCE(SUM(CASE WHEN e.dateOfJoining > :joinedAfter AND e.dateOfJoining <= :today THEN 1 ELSE 0 END), 0) AS newlyJoined, "
+            + "COUNT(DISTINCT e.department) AS departments "
+            + "FROM EmployeeProfile e JOIN e.user u WHERE LOWER(u.role) = 'employee'")
+    HeadcountSummary summarizeEmployeeHeadcount(@Param("joinedAfter") String joinedAfter, @Param("today") String today);
+
+    // Employee-role profiles per reporting manager, largest teams first
+    @Query("SELECT e.reportingManager AS reportingManager, COUNT(e) AS teamSize "
+            + "FROM EmployeeProfile e JOIN e.user u "
+            + "WHERE LOWER(u.role) = 'employee' AND e.reportingManager IS NOT NULL AND e.reportingManager <> '' "
+            + "GROUP BY e.reportingManager ORDER BY COUNT(e) DESC")
+    List<TeamSize> countTeamSizesByManager();
+
+    String PROFILE_SUMMARY_SELECT = "SELECT e.employeeProfileId AS employeeProfileId, u.userId AS userId, "
+            + "u.fullName AS fullName, u.email AS email, "
+            + "e.department AS department, e.designation AS designation, e.dateOfJoining AS dateOfJoining, "
+            + "e.reportingManager AS reportingManager, e.currentProject AS currentProject, e.currentTeam AS currentTeam, "
+            + "e.lastAppraisalRating AS lastAppraisalRating, e.averageAppraisalRating AS averageAppraisalRating, "
+            + "m.employeeProfileId AS managerId "
+            + "FROM EmployeeProfile e LEFT JOIN e.user u LEFT JOIN e.manager m ";
+
+    // Flat profile + user view for dashboards
+    @Query(PROFILE_SUMMARY_SELECT + "WHERE e.employeeProfileId = :id")
+    Optional<ProfileSummary> findSummaryById(@Param("id") Long id);
+
+    // Flat profile + user views by primary key, e.g. the members of an org subtree
+    @Query(PROFILE_SUMMARY_SELECT + "WHERE e.employeeProfileId IN :ids")
+    List<ProfileSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // Flat profile + user view of every profile, one row each
+    @Query(PROFILE_SUMMARY_SELECT + "ORDER BY e.employeeProfileId")
+    List<ProfileSummary> findAllSummaries();
+
+    String SEARCH_SOURCE_SELECT = "SELECT new com.example.springapp.model.ProfileSearchSource("
+            + "e.employeeProfileId, u.userId, u.fullName, u.email, e.department, e.designation, e.skills) "
+            + "FROM EmployeeProfile e LEFT JOIN e.user u ";
+
+    // Searchable text of every profile, for building the in-memory search index
+    @Query(SEARCH_SOURCE_SELECT)
+    List<ProfileSearchSource> findAllSearchSources();
+
+    @Query(SEARCH_SOURCE_SELECT + "WHERE e.employeeProfileId = :id")
+    Optional<ProfileSearchSource> findSearchSourceById(@Param("id") Long id);
+
+    // Inner join, so the planner can start from the users' primary keys rather than scan every profile
+    String SEARCH_SOURCE_BY_USER_SELECT = "SELECT new com.example.springapp.model.ProfileSearchSource("
+            + "e.employeeProfileId, u.userId, u.fullName, u.email, e.department, e.designation, e.skills) "
+            + "FROM EmployeeProfile e JOIN e.user u ";
+
+    @Query(SEARCH_SOURCE_BY_USER_SELECT + "WHERE u.userId = :userId")
+    List<ProfileSearchSource> findSearchSourcesByUserId(@Param("userId") Long userId);
+
+    @Query(SEARCH_SOURCE_BY_USER_SELECT + "WHERE u.userId IN :userIds")
+    List<ProfileSearchSource> findSearchSourcesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // Search results in one primary-key lookup; callers restore the ranking order
+    @EntityGraph("EmployeeProfile.withUser")
+    List<EmployeeProfile> findByEmployeeProfileIdIn(Collection<Long> ids);
+
+    String ORG_TREE_SOURCE_SELECT = "SELECT new com.example.springapp.model.OrgTreeSource("
+            + "e.employeeProfileId, m.employeeProfileId, e.reportingManager, u.fullName, e.department, e.lastAppraisalRating) "
+            + "FROM EmployeeProfile e LEFT JOIN e.manager m LEFT JOIN e.user u ";
+
+    // Every profile's reporting line, for building the in-memory org tree
+    @Query(ORG_TREE_SOURCE_SELECT)
+    List<OrgTreeSource> findAllOrgTreeSources();
+
+    @Query(ORG_TREE_SOURCE_SELECT + "WHERE e.employeeProfileId = :id")
+    Optional<OrgTreeSource> findOrgTreeSourceById(@Param("id") Long id);
+
+    // Profiles whose user has the given trimmed, lower-cased full name; a reporting manager resolves if exactly one does
+    @Query("SELECT e.employeeProfileId FROM EmployeeProfile e JOIN e.user u WHERE LOWER(TRIM(u.fullName)) = :name")
+    List<Long> findIdsByUserFullName(@Param("name") String name);
+
+    // Profiles naming the given manager (trimmed, lower-cased) that have no manager reference yet
+    @Query("SELECT e.employeeProfileId FROM EmployeeProfile e "
+            + "WHERE e.manager IS NULL AND LOWER(TRIM(e.reportingManager)) = :name")
+    List<Long> findUnresolvedIdsByReportingManager(@Param("name") String name);
+
+    // Bulk updates skip @Version, @UpdateTimestamp and the entity listeners, so the version and lastModified are set
+    // here (`now` from the application clock, like @UpdateTimestamp and the sync watermark); callers bump the table
+    // counter and evict the rows from the second-level cache (OrgHierarchyService)
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeProfile e SET e.manager = :manager, e.version = e.version + 1, e.lastModified = :now "
+            + "WHERE e.employeeProfileId IN :ids")
+    int assignManager(@Param("manager") EmployeeProfile manager, @Param("ids") Collection<Long> ids,
+                      @Param("now") LocalDateTime now);
+
+    // Direct reports by manager reference (idx_employee_profiles_manager)
+    @Query("SELECT e.employeeProfileId FROM EmployeeProfile e WHERE e.manager.employeeProfileId = :managerId")
+    List<Long> findIdsByManagerId(@Param("managerId") Long managerId);
+
+    // Before a profile is deleted, so its reports do not keep a reference to it
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeProfile e SET e.manager = NULL, e.version = e.version + 1, e.lastModified = :now "
+            + "WHERE e.manager.employeeProfileId = :managerId")
+    int clearManager(@Param("managerId") Long managerId, @Param("now") LocalDateTime now);
+
+    // Which of the given IDs exist, without hydrating the profiles (bulk goal assignment)
+    @Query("SELECT e.employeeProfileId FROM EmployeeProfile e WHERE e.employeeProfileId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Employee-role profiles, optionally in one department, that have no appraisal in the cycle yet
+    @Query("SELECT e.employeeProfileId FROM EmployeeProfile e JOIN e.user u "
+            + "WHERE LOWER(u.role) = 'employee' "
+            + "AND (:department IS NULL OR e.department = :department) "
+            + "AND NOT EXISTS (SELECT 1 FROM Appraisal a WHERE a.employee = e AND a.reviewCycle.cycleId = :cycleId) "
+            + "ORDER BY e.employeeProfileId")
+    List<Long> findLaunchCandidateIds(@Param("cycleId") Long cycleId, @Param("department") String department);
+
+    // Version of one profile; read before the profile itself when tagging it
+    @Query("SELECT e.version FROM EmployeeProfile e WHERE e.employeeProfileId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Delta sync: profiles changed after the watermark
+    @EntityGraph("EmployeeProfile.withUser")
+    @Query("SELECT e FROM EmployeeProfile e WHERE e.lastModified > :since")
+    List<EmployeeProfile> findModifiedSince(@Param("since") LocalDateTime since);
 }
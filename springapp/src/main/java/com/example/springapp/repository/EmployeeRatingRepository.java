@@ -0,0 +1,48 @@
+package com.example.springapp.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springapp.etag.VersionTags;
+import com.example.springapp.model.EmployeeProfile;
+
+// Derives a profile's appraisal ratings from its Completed appraisals in a single UPDATE, so the values written are
+// the ones the database holds at that moment rather than what some request read earlier. Unrated (0) appraisals do
+// not count; the newest appraisal is the one with the highest id. Plain JDBC, so the caller evicts the profile from
+// the second-level cache; the row version and ETag counter go up here, in the updating transaction.
+@Repository
+public class EmployeeRatingRepository {
+
+    private static final String COMPLETED_RATINGS = "SELECT a.manager_rating FROM appraisals a "
+            + "WHERE a.employee_id = ? AND UPPER(a.status) = 'COMPLETED' AND a.manager_rating > 0 "
+            + "ORDER BY a.appraisal_id DESC";
+
+    private static final String RECOMPUTE_SQL = "UPDATE employee_profiles SET "
+            + "last_appraisal_rating = (" + COMPLETED_RATINGS + " LIMIT 1), "
+            + "average_appraisal_rating = (SELECT AVG(recent.manager_rating * 1.0) FROM (" + COMPLETED_RATINGS + " LIMIT ?) recent), "
+            + "version = version + 1, last_modified = ? "
+            + "WHERE employee_profile_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VersionTags versionTags;
+
+    public EmployeeRatingRepository(JdbcTemplate jdbcTemplate, VersionTags versionTags) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versionTags = versionTags;
+    }
+
+    // The average covers the newest `window` rated Completed appraisals; false when the profile no longer exists
+    @Transactional
+    public boolean recomputeRatings(Long employeeProfileId, int window) {
+        int updated = jdbcTemplate.update(RECOMPUTE_SQL, employeeProfileId, employeeProfileId, window,
+                Timestamp.valueOf(LocalDateTime.now()), employeeProfileId);
+        if (updated > 0) {
+            versionTags.tablesChanged(EmployeeProfile.class);
+        }
+        return updated > 0;
+    }
+}
@@ -1,31 +1,98 @@
 package com.example.springapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.springapp.model.Feedback;
+import com.example.springapp.model.FeedbackSummary;
+import com.example.springapp.model.RatingSummary;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
 
+    // Inherited finders load the associations the JSON views serialize in the same query
+    @Override
+    @EntityGraph("Feedback.withParticipants")
+    List<Feedback> findAll();
+
+    @Override
+    @EntityGraph("Feedback.withParticipants")
+    Optional<Feedback> findById(Long id);
+
+    // Finders on an association id compare the foreign key column itself (idx_feedbacks_employee_type,
+    // idx_feedbacks_reviewer); derived from the method name they would filter on a left-joined table instead
+
     // Find feedbacks received by an employee
-    List<Feedback> findByEmployee_EmployeeProfileId(Long employeeProfileId);
+    @EntityGraph("Feedback.withParticipants")
+    @Query("SELECT f FROM Feedback f WHERE f.employee.employeeProfileId = :employeeProfileId")
+    List<Feedback> findByEmployee_EmployeeProfileId(@Param("employeeProfileId") Long employeeProfileId);
 
     // Find feedbacks given by a reviewer (User)
-    List<Feedback> findByReviewer_UserId(Long reviewerId);
+    @EntityGraph("Feedback.withParticipants")
+    @Query("SELECT f FROM Feedback f WHERE f.reviewer.userId = :reviewerId")
+    List<Feedback> findByReviewer_UserId(@Param("reviewerId") Long reviewerId);
 
     // Optional: find by employee + reviewer
-    Optional<Feedback> findByEmployee_EmployeeProfileIdAndReviewer_UserId(Long employeeProfileId, Long reviewerId);
+    @EntityGraph("Feedback.withParticipants")
+    @Query("SELECT f FROM Feedback f WHERE f.employee.employeeProfileId = :employeeProfileId AND f.reviewer.userId = :reviewerId")
+    Optional<Feedback> findByEmployee_EmployeeProfileIdAndReviewer_UserId(@Param("employeeProfileId") Long employeeProfileId,
+                                                                          @Param("reviewerId") Long reviewerId);
 
     // Find feedbacks by type
+    @EntityGraph("Feedback.withParticipants")
     List<Feedback> findByFeedbackType(String feedbackType);
 
     // Find feedbacks by rating
+    @EntityGraph("Feedback.withParticipants")
     List<Feedback> findByRating(Integer rating);
 
     // Find feedbacks by employee and type
-    List<Feedback> findByEmployee_EmployeeProfileIdAndFeedbackType(Long employeeProfileId, String feedbackType);
+    @EntityGraph("Feedback.withParticipants")
+    @Query("SELECT f FROM Feedback f WHERE f.employee.employeeProfileId = :employeeProfileId AND f.feedbackType = :feedbackType")
+    List<Feedback> findByEmployee_EmployeeProfileIdAndFeedbackType(@Param("employeeProfileId") Long employeeProfileId,
+                                                                   @Param("feedbackType") String feedbackType);
+
+    // Keyset page: feedbacks after the given id, optionally filtered by type, employee and a created-date window
+    @Query("SELECT f FROM Feedback f LEFT JOIN FETCH f.employee e LEFT JOIN FETCH e.user LEFT JOIN FETCH f.reviewer "
+            + "WHERE f.feedbackId > :afterId "
+            + "AND (:feedbackType IS NULL OR f.feedbackType = :feedbackType) "
+            + "AND (:employeeId IS NULL OR e.employeeProfileId = :employeeId) "
+            + "AND (:createdFrom IS NULL OR f.createdDate >= :createdFrom) "
+            + "AND (:createdTo IS NULL OR f.createdDate < :createdTo) "
+            + "ORDER BY f.feedbackId ASC")
+    List<Feedback> findPageAfter(@Param("afterId") Long afterId,
+                                 @Param("feedbackType") String feedbackType,
+                                 @Param("employeeId") Long employeeId,
+                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdTo") LocalDateTime createdTo,
+                                 Limit limit);
+
+    // Feedback count and average rating (unrated feedback counts as 0, like the dashboard always did)
+    @Query("SELECT COUNT(f) AS count, AVG(COALESCE(f.rating, 0)) AS averageRating FROM Feedback f")
+    RatingSummary summarizeRatings();
+
+    // Most recent feedback for an employee, newest first
+    @Query("SELECT f.feedbackId AS feedbackId, f.feedbackType AS feedbackType, f.rating AS rating, f.comments AS comments, "
+            + "f.createdDate AS createdDate, r.userId AS reviewerId, r.fullName AS reviewerName "
+            + "FROM Feedback f LEFT JOIN f.reviewer r "
+            + "WHERE f.employee.employeeProfileId = :employeeId "
+            + "ORDER BY f.createdDate DESC, f.feedbackId DESC")
+    List<FeedbackSummary> findRecentSummariesByEmployee(@Param("employeeId") Long employeeId, Limit limit);
+
+    // Current row version for conditional requests
+    @Query("SELECT f.version FROM Feedback f WHERE f.feedbackId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Delta sync: feedback changed after the watermark
+    @EntityGraph("Feedback.withParticipants")
+    @Query("SELECT f FROM Feedback f WHERE f.lastModified > :since")
+    List<Feedback> findModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -1,34 +1,97 @@
 package com.example.springapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.springapp.model.Goal;
+import com.example.springapp.model.StatusCount;
 
 @Repository
 public interface GoalRepository extends JpaRepository<Goal, Long> {
 
+    // Inherited finders load the associations the JSON views serialize in the same query
+    @Override
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    List<Goal> findAll();
+
+    @Override
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    Optional<Goal> findById(Long id);
+
+    // Finders on an association id compare the foreign key column itself (idx_goals_employee_status,
+    // idx_goals_appraisal); derived from the method name they would filter on a left-joined table instead
+
     // Find goals for an employee
-    List<Goal> findByEmployee_EmployeeProfileId(Long employeeProfileId);
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    @Query("SELECT g FROM Goal g WHERE g.employee.employeeProfileId = :employeeProfileId")
+    List<Goal> findByEmployee_EmployeeProfileId(@Param("employeeProfileId") Long employeeProfileId);
 
     // Optional: find goals for a specific appraisal
-    List<Goal> findByAppraisal_AppraisalId(Long appraisalId);
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    @Query("SELECT g FROM Goal g WHERE g.appraisal.appraisalId = :appraisalId")
+    List<Goal> findByAppraisal_AppraisalId(@Param("appraisalId") Long appraisalId);
 
     // Optional: find by employee + appraisal
-    Optional<Goal> findByEmployee_EmployeeProfileIdAndAppraisal_AppraisalId(Long employeeProfileId, Long appraisalId);
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    @Query("SELECT g FROM Goal g WHERE g.employee.employeeProfileId = :employeeProfileId "
+            + "AND g.appraisal.appraisalId = :appraisalId")
+    Optional<Goal> findByEmployee_EmployeeProfileIdAndAppraisal_AppraisalId(@Param("employeeProfileId") Long employeeProfileId,
+                                                                           @Param("appraisalId") Long appraisalId);
 
     // Find goals by status
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
     List<Goal> findByStatus(String status);
 
     // Find goals by created by (manager or self)
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
     List<Goal> findByCreatedBy(String createdBy);
 
     // Find goals by category
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
     List<Goal> findByCategory(String category);
 
     // Find goals by employee and status
-    List<Goal> findByEmployee_EmployeeProfileIdAndStatus(Long employeeProfileId, String status);
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    @Query("SELECT g FROM Goal g WHERE g.employee.employeeProfileId = :employeeProfileId AND g.status = :status")
+    List<Goal> findByEmployee_EmployeeProfileIdAndStatus(@Param("employeeProfileId") Long employeeProfileId,
+                                                         @Param("status") String status);
+
+    // Keyset page: goals after the given id, optionally filtered by status, review cycle (via appraisal) and employee
+    @Query("SELECT g FROM Goal g LEFT JOIN FETCH g.employee e LEFT JOIN FETCH e.user LEFT JOIN FETCH g.appraisal a "
+            + "WHERE g.goalId > :afterId "
+            + "AND (:status IS NULL OR g.status = :status) "
+            + "AND (:cycleId IS NULL OR a.reviewCycle.cycleId = :cycleId) "
+            + "AND (:employeeId IS NULL OR e.employeeProfileId = :employeeId) "
+            + "ORDER BY g.goalId ASC")
+    List<Goal> findPageAfter(@Param("afterId") Long afterId,
+                             @Param("status") String status,
+                             @Param("cycleId") Long cycleId,
+                             @Param("employeeId") Long employeeId,
+                             Limit limit);
+
+    // Goal counts grouped by status
+    @Query("SELECT g.status AS status, COUNT(g) AS count FROM Goal g GROUP BY g.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // Goal counts grouped by status for one employee
+    @Query("SELECT g.status AS status, COUNT(g) AS count FROM Goal g "
+            + "WHERE g.employee.employeeProfileId = :employeeId GROUP BY g.status")
+    List<StatusCount> countGroupedByStatusForEmployee(@Param("employeeId") Long employeeId);
+
+    // Row version alone, for ETags and If-Match checks without loading the entity
+    @Query("SELECT g.version FROM Goal g WHERE g.goalId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Delta sync: goals changed after the watermark, with what their JSON embeds
+    @EntityGraph("Goal.withEmployeeAndAppraisal")
+    @Query("SELECT g FROM Goal g WHERE g.lastModified > :since")
+    List<Goal> findModifiedSince(@Param("since") LocalDateTime since);
 }
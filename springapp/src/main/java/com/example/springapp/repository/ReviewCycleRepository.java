@@ -1,9 +1,32 @@
 package com.example.springapp.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.example.springapp.model.ReviewCycle;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ReviewCycleRepository extends JpaRepository<ReviewCycle, Long> {
+
+    // Cycles change rarely; result ids are kept in the query cache until a review_cycles row changes
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<ReviewCycle> findAll();
+
+    // Bypasses the entity cache: a primary-key read of the version column
+    @Query("SELECT c.version FROM ReviewCycle c WHERE c.cycleId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Delta sync: cycles changed after the watermark
+    @Query("SELECT c FROM ReviewCycle c WHERE c.lastModified > :since")
+    List<ReviewCycle> findModifiedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,78 @@
+package com.example.springapp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Writes a sync_tombstones row for every tracked entity Hibernate deletes, cascades included. The rows are collected
+// during the flush and inserted as one batch just before the commit, so a rolled-back delete leaves no tombstone.
+@Component
+class TombstoneListener implements PostDeleteEventListener {
+
+    // table name and id of each row deleted by an open session's current transaction
+    private final Map<EventSource, List<Object[]>> pending = new ConcurrentHashMap<>();
+
+    TombstoneListener(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        String table = TombstoneRepository.tableOf(event.getPersister().getMappedClass());
+        if (table == null) {
+            return;
+        }
+        EventSource session = event.getSession();
+        List<Object[]> deleted = pending.get(session);
+        if (deleted == null) {
+            deleted = new ArrayList<>();
+            pending.put(session, deleted);
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> insert(session));
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> pending.remove(session));
+        }
+        deleted.add(new Object[] {table, event.getId()});
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void insert(EventSource session) {
+        List<Object[]> deleted = pending.remove(session);
+        if (deleted == null || deleted.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(TombstoneRepository.INSERT_SQL)) {
+                for (Object[] row : deleted) {
+                    statement.setString(1, (String) row[0]);
+                    statement.setLong(2, ((Number) row[1]).longValue());
+                    statement.setTimestamp(3, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
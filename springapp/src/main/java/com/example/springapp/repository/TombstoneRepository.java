@@ -0,0 +1,54 @@
+package com.example.springapp.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+
+// Ids of deleted rows by table, kept so delta sync clients learn about deletions; TombstoneListener records them in
+// the deleting transaction. Nothing deletes these entities with plain SQL, which would bypass the listener.
+@Repository
+public class TombstoneRepository {
+
+    static final String INSERT_SQL = "INSERT INTO sync_tombstones (table_name, entity_id, deleted_at) VALUES (?, ?, ?)";
+
+    // Entities whose deletions are recorded, by table
+    private static final Map<Class<?>, String> TABLES = Map.of(
+            User.class, "users",
+            EmployeeProfile.class, "employee_profiles",
+            ReviewCycle.class, "review_cycles",
+            Appraisal.class, "appraisals",
+            Goal.class, "goals",
+            Feedback.class, "feedbacks");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TombstoneRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Range scan of idx_sync_tombstones_deleted; ids grouped by table
+    public Map<String, List<Long>> findDeletedSince(LocalDateTime since) {
+        Map<String, List<Long>> deleted = new HashMap<>();
+        jdbcTemplate.query("SELECT table_name, entity_id FROM sync_tombstones WHERE deleted_at > ?",
+                rs -> { deleted.computeIfAbsent(rs.getString(1), table -> new ArrayList<>()).add(rs.getLong(2)); },
+                Timestamp.valueOf(since));
+        return deleted;
+    }
+
+    public static String tableOf(Class<?> entityType) {
+        return TABLES.get(entityType);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.springapp.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.springapp.etag.VersionTags;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+
+// Plain JDBC batch inserts for bulk imports. Users and profiles have IDENTITY keys, for which Hibernate inserts one
+// row per statement; here each list is one batch, which MySQL's rewriteBatchedStatements sends as multi-row inserts.
+// Nothing passes through the persistence context or second-level cache, so callers refresh what depends on them;
+// the tables' ETag counters are bumped here, in the inserting transaction.
+@Repository
+public class UserImportRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(email, full_name, first_name, last_name, username, phone_number, role, password, last_modified) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PROFILE = "INSERT INTO employee_profiles "
+            + "(user_id, department, designation, date_of_joining, reporting_manager, current_project, current_team, skills, last_modified) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VersionTags versionTags;
+
+    public UserImportRepository(JdbcTemplate jdbcTemplate, VersionTags versionTags) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versionTags = versionTags;
+    }
+
+    // last_modified comes from the application clock, like the timestamps Hibernate sets
+    public void insertUsers(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getFullName());
+            ps.setString(3, user.getFirstName());
+            ps.setString(4, user.getLastName());
+            ps.setString(5, user.getUsername());
+            ps.setString(6, user.getPhoneNumber());
+            ps.setString(7, user.getRole());
+            ps.setString(8, user.getPassword());
+            ps.setTimestamp(9, now);
+        });
+        versionTags.tablesChanged(User.class);
+    }
+
+    // Each profile's user must already have its ID
+    public void insertProfiles(List<EmployeeProfile> profiles) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PROFILE, profiles, profiles.size(), (ps, profile) -> {
+            ps.setLong(1, profile.getUser().getUserId());
+            ps.setString(2, profile.getDepartment());
+            ps.setString(3, profile.getDesignation());
+            ps.setString(4, profile.getDateOfJoining());
+            ps.setString(5, profile.getReportingManager());
+            ps.setString(6, profile.getCurrentProject());
+            ps.setString(7, profile.getCurrentTeam());
+            ps.setString(8, profile.getSkills());
+            ps.setTimestamp(9, now);
+        });
+        versionTags.tablesChanged(EmployeeProfile.class);
+    }
+}
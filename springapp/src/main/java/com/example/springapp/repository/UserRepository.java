@@ -1,21 +1,46 @@
 package com.example.springapp.repository;
 
+import java.util.Collection;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.springapp.model.User;
+import com.example.springapp.model.UserIdentity;
+import com.example.springapp.model.UserSummary;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Inherited finders load the associations the JSON views serialize in the same query
+    @Override
+    @EntityGraph("User.withProfiles")
+    List<User> findAll();
+
+    @Override
+    @EntityGraph("User.withProfiles")
+    Optional<User> findById(Long id);
+
     // Find user by unique fields
+    @EntityGraph("User.withProfiles")
     Optional<User> findByEmail(String email);
 
+    @EntityGraph("User.withProfiles")
     Optional<User> findByUsername(String username);
 
+    @EntityGraph("User.withProfiles")
     Optional<User> findByPhoneNumber(String phoneNumber);
 
     // Existence checks for validation
@@ -25,6 +50,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByPhoneNumber(String phoneNumber);
 
-    // Find users by role
+    // Set-based form of the three checks above, for a chunk of imported rows at once. A union rather than OR'ed
+    // conditions, so each branch is an index lookup (email, idx_users_username, idx_users_phone_number).
+    @Query("SELECT u.userId AS userId, u.email AS email, u.username AS username, u.phoneNumber AS phoneNumber "
+            + "FROM User u WHERE u.email IN :emails "
+            + "UNION SELECT u.userId, u.email, u.username, u.phoneNumber FROM User u WHERE u.username IN :usernames "
+            + "UNION SELECT u.userId, u.email, u.username, u.phoneNumber FROM User u WHERE u.phoneNumber IN :phoneNumbers")
+    List<UserIdentity> findIdentitiesMatching(@Param("emails") Collection<String> emails,
+                                              @Param("usernames") Collection<String> usernames,
+                                              @Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    // IDs of users inserted outside JPA, looked up by their unique email
+    List<UserIdentity> findIdentitiesByEmailIn(Collection<String> emails);
+
+    // Find users by role; result ids are kept in the query cache until a users row changes
+    @EntityGraph("User.withProfiles")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(String role);
+
+    // Column-only view of all users; no entities or profile collections are loaded
+    List<UserSummary> findAllProjectedByOrderByUserIdAsc();
+
+    Optional<UserSummary> findProjectedByUserId(Long userId);
+
+    // Stored password only, for updates that echo the user back without a new password
+    @Query("SELECT u.password FROM User u WHERE u.userId = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    // Compare-and-set, so re-hashing on login never overwrites a password reset that happened meanwhile
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.userId = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // Rows inserted or updated after the sync watermark (idx_users_last_modified)
+    @EntityGraph("User.withProfiles")
+    @Query("SELECT u FROM User u WHERE u.lastModified > :since")
+    List<User> findModifiedSince(@Param("since") LocalDateTime since);
 }
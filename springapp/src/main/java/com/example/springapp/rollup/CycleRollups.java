@@ -0,0 +1,176 @@
+package com.example.springapp.rollup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.springapp.model.AppraisalRollupSource;
+import com.example.springapp.model.CycleRollup;
+
+// Calibration figures per review cycle, department and reporting manager, kept as running sums. The last contribution
+// of every appraisal is remembered, so a write takes back exactly what that appraisal added before and adds its new
+// values: a fixed number of hash updates, however many appraisals the cycle or group holds. Reading one group is a
+// lookup; listing a cycle visits only that cycle's groups.
+//
+// Reads share a lock; writes take it exclusively.
+public class CycleRollups {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, AppraisalRollupSource> contributions = new HashMap<>();
+    private final Map<Long, Map<GroupKey, Group>> cycles = new HashMap<>();
+
+    public void rebuild(Collection<AppraisalRollupSource> sources) {
+        lock.writeLock().lock();
+        try {
+            contributions.clear();
+            cycles.clear();
+            sources.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds an appraisal, or replaces what it counted before; one without a cycle only drops out
+    public void put(AppraisalRollupSource source) {
+        putAll(List.of(source));
+    }
+
+    public void putAll(Collection<AppraisalRollupSource> sources) {
+        lock.writeLock().lock();
+        try {
+            sources.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long appraisalId) {
+        removeAll(List.of(appraisalId));
+    }
+
+    public void removeAll(Collection<Long> appraisalIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long appraisalId : appraisalIds) {
+                AppraisalRollupSource previous = contributions.remove(appraisalId);
+                if (previous != null) {
+                    add(previous, -1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Null when the cycle has no appraisal in that department under that manager
+    public CycleRollup get(Long cycleId, String department, Long managerId) {
+        lock.readLock().lock();
+        try {
+            Map<GroupKey, Group> groups = cycles.get(cycleId);
+            Group group = groups != null ? groups.get(new GroupKey(department, managerId)) : null;
+            return group != null ? group.snapshot(cycleId, department, managerId) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CycleRollup> cycle(Long cycleId) {
+        lock.readLock().lock();
+        try {
+            Map<GroupKey, Group> groups = cycles.get(cycleId);
+            if (groups == null) {
+                return List.of();
+            }
+            List<CycleRollup> rollups = new ArrayList<>(groups.size());
+            groups.forEach((key, group) -> rollups.add(group.snapshot(cycleId, key.department(), key.managerId())));
+            return rollups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Appraisals counted
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return contributions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(AppraisalRollupSource source) {
+        AppraisalRollupSource previous = source.cycleId() != null
+                ? contributions.put(source.appraisalId(), source)
+                : contributions.remove(source.appraisalId());
+        if (previous != null) {
+            add(previous, -1);
+        }
+        if (source.cycleId() != null) {
+            add(source, 1);
+        }
+    }
+
+    private void add(AppraisalRollupSource source, int sign) {
+        Map<GroupKey, Group> groups = cycles.computeIfAbsent(source.cycleId(), id -> new HashMap<>());
+        GroupKey key = new GroupKey(source.department(), source.managerId());
+        Group group = groups.computeIfAbsent(key, k -> new Group());
+        group.add(source, sign);
+        if (group.appraisals == 0) {
+            groups.remove(key);
+            if (groups.isEmpty()) {
+                cycles.remove(source.cycleId());
+            }
+        }
+    }
+
+    private record GroupKey(String department, Long managerId) {
+    }
+
+    private static final class Group {
+        long appraisals;
+        final Map<String, Long> statuses = new HashMap<>();
+        long selfRated;
+        long selfSum;
+        long managerRated;
+        long managerSum;
+        final Map<Integer, Long> selfHistogram = new HashMap<>();
+        final Map<Integer, Long> managerHistogram = new HashMap<>();
+
+        void add(AppraisalRollupSource source, int sign) {
+            appraisals += sign;
+            if (source.status() != null) {
+                count(statuses, source.status(), sign);
+            }
+            // 0 is the default for "not rated yet"
+            if (source.selfRating() != null && source.selfRating() > 0) {
+                selfRated += sign;
+                selfSum += sign * source.selfRating();
+                count(selfHistogram, source.selfRating(), sign);
+            }
+            if (source.managerRating() != null && source.managerRating() > 0) {
+                managerRated += sign;
+                managerSum += sign * source.managerRating();
+                count(managerHistogram, source.managerRating(), sign);
+            }
+        }
+
+        CycleRollup snapshot(Long cycleId, String department, Long managerId) {
+            return new CycleRollup(cycleId, department, managerId, appraisals, new TreeMap<>(statuses),
+                    average(selfSum, selfRated), average(managerSum, managerRated),
+                    new TreeMap<>(selfHistogram), new TreeMap<>(managerHistogram));
+        }
+
+        private static <K> void count(Map<K, Long> counts, K key, int sign) {
+            counts.merge(key, (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        private static Double average(long sum, long count) {
+            return count == 0 ? null : Math.round((double) sum / count * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.example.springapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.springapp.model.ProfileSearchHit;
+import com.example.springapp.model.ProfileSearchSource;
+
+// In-memory inverted index over the searchable text of employee profiles: the user's full name and email,
+// department, designation and skills. Text is split into lower-case words; the word dictionary is sorted, so a
+// query word matches every word it is a prefix of with one range scan. A query word that matches nothing that
+// way falls back to words within one typo (two for long words) sharing its first letter. Every query word must
+// match; a profile's score is the sum of its best match per query word, weighted by the field it matched in.
+//
+// Searches share a read lock; writes take it exclusively and touch only the postings of the profile's own words.
+//
+// A search accumulates scores in arrays as long as the index (about 9 bytes a profile). They are borrowed from a
+// pool of at most one per core, not kept per thread: a thread-local set would pin them on every Tomcat worker for
+// good, and under virtual threads, where each request runs on a new thread, would be allocated again by every search.
+// Searches beyond the pool's size allocate their own set, which is dropped when they finish.
+public class ProfileSearchIndex {
+
+    // Field bits of a posting; a word found in several fields of one profile keeps all of them
+    static final int NAME = 1;
+    static final int EMAIL = 2;
+    static final int DESIGNATION = 4;
+    static final int DEPARTMENT = 8;
+    static final int SKILLS = 16;
+
+    private static final float[] FIELD_WEIGHT = new float[32];
+
+    static {
+        for (int mask = 1; mask < FIELD_WEIGHT.length; mask++) {
+            float weight = 0;
+            if ((mask & NAME) != 0) weight = Math.max(weight, 3.0f);
+            if ((mask & EMAIL) != 0) weight = Math.max(weight, 2.0f);
+            if ((mask & DESIGNATION) != 0) weight = Math.max(weight, 1.5f);
+            if ((mask & DEPARTMENT) != 0) weight = Math.max(weight, 1.5f);
+            if ((mask & SKILLS) != 0) weight = Math.max(weight, 1.0f);
+            FIELD_WEIGHT[mask] = weight;
+        }
+    }
+
+    private static final float EXACT = 1.0f;
+    private static final float PREFIX = 0.7f;
+    private static final float ONE_TYPO = 0.5f;
+    private static final float TWO_TYPOS = 0.3f;
+
+    // Dictionary words one query word may expand to; keeps one- and two-letter prefixes cheap on large indexes
+    private static final int MAX_EXPANSIONS = 64;
+    // Shorter words get no typo tolerance: at three letters one edit reaches too many unrelated words
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TWO_TYPO_LENGTH = 8;
+    // Per-profile match counters are bytes; words beyond this are ignored
+    private static final int MAX_QUERY_WORDS = 8;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingDouble(Candidate::score).reversed()
+            .thenComparing(c -> c.entry().sortName)
+            .thenComparingLong(c -> c.entry().source.employeeProfileId());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+    // Words that occur outside emails; typo matching only scans these, not every email handle
+    private final TreeMap<String, Postings> textWords = new TreeMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // Dense internal numbering, so a search accumulates scores in arrays instead of maps
+    private Entry[] byOrdinal = new Entry[1024];
+    private int ordinals;
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private final ArrayBlockingQueue<Scratch> scratchPool =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    // Replaces the whole index, e.g. with every profile loaded at startup
+    public void rebuild(Collection<ProfileSearchSource> sources) {
+        lock.writeLock().lock();
+        try {
+            dictionary.clear();
+            textWords.clear();
+            entries.clear();
+            byOrdinal = new Entry[Math.max(1024, sources.size())];
+            ordinals = 0;
+            freeCount = 0;
+            for (ProfileSearchSource source : sources) {
+                add(source);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds a profile, or re-indexes it after its profile or user text changed
+    public void put(ProfileSearchSource source) {
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.get(source.employeeProfileId());
+            if (old != null) {
+                unindex(old);
+            }
+            add(source);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long employeeProfileId) {
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.get(employeeProfileId);
+            if (old != null) {
+                unindex(old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best matches first, at most limit of them
+    public List<ProfileSearchHit> search(String query, int limit) {
+        List<String> words = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (words.size() > MAX_QUERY_WORDS) {
+            words = words.subList(0, MAX_QUERY_WORDS);
+        }
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Most selective word first, so later words only revisit profiles that are still candidates
+            List<List<Expansion>> expanded = new ArrayList<>(words.size());
+            for (String word : words) {
+                List<Expansion> expansions = expand(word);
+                if (expansions.isEmpty()) {
+                    return List.of();
+                }
+                expanded.add(expansions);
+            }
+            expanded.sort(Comparator.comparingInt(ProfileSearchIndex::postingCount));
+
+            Scratch scratch = borrowScratch();
+            float[] total = scratch.total;
+            float[] best = scratch.best;
+            byte[] matched = scratch.matched;
+            // Later words can only touch profiles the first word touched, so resetting those clears everything
+            IntList first = scratch.first;
+            IntList touched = first;
+            first.clear();
+            try {
+                for (int w = 0; w < expanded.size(); w++) {
+                    touched = w == 0 ? first : scratch.current;
+                    touched.clear();
+                    for (Expansion expansion : expanded.get(w)) {
+                        Postings postings = expansion.postings;
+                        for (int i = 0; i < postings.size; i++) {
+                            int ordinal = postings.ordinals[i];
+                            if (matched[ordinal] != w) {
+                                continue;
+                            }
+                            float score = expansion.quality * FIELD_WEIGHT[postings.fields[i]];
+                            if (best[ordinal] == 0) {
+                                touched.add(ordinal);
+                            }
+                            if (score > best[ordinal]) {
+                                best[ordinal] = score;
+                            }
+                        }
+                    }
+                    for (int i = 0; i < touched.size; i++) {
+                        int ordinal = touched.values[i];
+                        total[ordinal] += best[ordinal];
+                        best[ordinal] = 0;
+                        matched[ordinal]++;
+                    }
+                }
+
+                // Profiles touched by the last word have matched every word; keep the top `limit` of them
+                PriorityQueue<Candidate> top = new PriorityQueue<>(Math.min(limit, touched.size) + 1, RANKING.reversed());
+                for (int i = 0; i < touched.size; i++) {
+                    int ordinal = touched.values[i];
+                    float score = total[ordinal];
+                    // Scores are few distinct values, so most candidates lose to the current worst kept one
+                    if (top.size() == limit && !outranks(byOrdinal[ordinal], score, top.peek())) {
+                        continue;
+                    }
+                    top.add(new Candidate(byOrdinal[ordinal], score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+                return toHits(top);
+            } finally {
+                for (int i = 0; i < first.size; i++) {
+                    int ordinal = first.values[i];
+                    total[ordinal] = 0;
+                    matched[ordinal] = 0;
+                }
+                scratchPool.offer(scratch);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean outranks(Entry entry, float score, Candidate kept) {
+        if (score != kept.score()) {
+            return score > kept.score();
+        }
+        int byName = entry.sortName.compareTo(kept.entry().sortName);
+        return byName != 0 ? byName < 0 : entry.source.employeeProfileId() < kept.entry().source.employeeProfileId();
+    }
+
+    private static List<ProfileSearchHit> toHits(Collection<Candidate> top) {
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        List<ProfileSearchHit> hits = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            ProfileSearchSource s = candidate.entry().source;
+            hits.add(new ProfileSearchHit(s.employeeProfileId(), s.userId(), s.fullName(), s.email(),
+                    s.department(), s.designation(), Math.round(candidate.score() * 1000) / 1000.0));
+        }
+        return hits;
+    }
+
+    // Exact word and prefix completions; only when there are none, near misses
+    private List<Expansion> expand(String word) {
+        List<Expansion> expansions = new ArrayList<>();
+        for (Map.Entry<String, Postings> e : dictionary.tailMap(word, true).entrySet()) {
+            String term = e.getKey();
+            if (!term.startsWith(word) || expansions.size() == MAX_EXPANSIONS) {
+                break;
+            }
+            expansions.add(new Expansion(e.getValue(), term.length() == word.length() ? EXACT : PREFIX));
+        }
+        if (!expansions.isEmpty() || word.length() < MIN_FUZZY_LENGTH) {
+            return expansions;
+        }
+
+        int maxEdits = word.length() >= TWO_TYPO_LENGTH ? 2 : 1;
+        String first = word.substring(0, 1);
+        NavigableMap<String, Postings> sameInitial = textWords.subMap(first, true, first + Character.MAX_VALUE, false);
+        for (Map.Entry<String, Postings> e : sameInitial.entrySet()) {
+            String term = e.getKey();
+            if (term.length() < word.length() - maxEdits) {
+                continue;
+            }
+            // A typo in a word that is still being typed: compare against the same-length start of the term
+            int whole = Math.abs(term.length() - word.length()) <= maxEdits
+                    ? distance(word, term, term.length(), maxEdits) : maxEdits + 1;
+            int partial = term.length() > word.length()
+                    ? distance(word, term, word.length(), maxEdits) : maxEdits + 1;
+            int edits = Math.min(whole, partial);
+            if (edits <= maxEdits) {
+                float quality = edits == 1 ? ONE_TYPO : TWO_TYPOS;
+                expansions.add(new Expansion(e.getValue(), whole <= partial ? quality : quality * PREFIX));
+                if (expansions.size() == MAX_EXPANSIONS) {
+                    break;
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private static int postingCount(List<Expansion> expansions) {
+        int count = 0;
+        for (Expansion expansion : expansions) {
+            count += expansion.postings.size;
+        }
+        return count;
+    }
+
+    private void add(ProfileSearchSource source) {
+        Map<String, Integer> fields = new HashMap<>();
+        collect(fields, source.fullName(), NAME);
+        collect(fields, source.email(), EMAIL);
+        collect(fields, source.designation(), DESIGNATION);
+        collect(fields, source.department(), DEPARTMENT);
+        collect(fields, source.skills(), SKILLS);
+
+        int ordinal = allocateOrdinal();
+        Entry entry = new Entry(source, ordinal, fields.keySet().toArray(new String[0]));
+        for (Map.Entry<String, Integer> field : fields.entrySet()) {
+            Postings postings = dictionary.computeIfAbsent(field.getKey(), k -> new Postings());
+            postings.add(ordinal, field.getValue());
+            if (postings.textCount == 1 && (field.getValue() & ~EMAIL) != 0) {
+                textWords.put(field.getKey(), postings);
+            }
+        }
+        entries.put(source.employeeProfileId(), entry);
+        byOrdinal[ordinal] = entry;
+    }
+
+    private void unindex(Entry entry) {
+        for (String word : entry.words) {
+            Postings postings = dictionary.get(word);
+            if (postings == null || !postings.remove(entry.ordinal)) {
+                continue;
+            }
+            if (postings.size == 0) {
+                dictionary.remove(word);
+            }
+            if (postings.textCount == 0) {
+                textWords.remove(word);
+            }
+        }
+        entries.remove(entry.source.employeeProfileId());
+        byOrdinal[entry.ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = entry.ordinal;
+    }
+
+    private int allocateOrdinal() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (ordinals == byOrdinal.length) {
+            byOrdinal = Arrays.copyOf(byOrdinal, ordinals * 2);
+        }
+        return ordinals++;
+    }
+
+    private static void collect(Map<String, Integer> fields, String text, int field) {
+        for (String word : tokenize(text)) {
+            fields.merge(word, field, (a, b) -> a | b);
+        }
+    }
+
+    // Lower-case runs of letters, and runs of digits: "j.doe42@acme.io" is j, doe, 42, acme and io
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean continues = start >= 0 && Character.isLetterOrDigit(c)
+                    && Character.isDigit(c) == Character.isDigit(lower.charAt(start));
+            if (start >= 0 && !continues) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+            if (start < 0 && Character.isLetterOrDigit(c)) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    // Optimal string alignment distance (adjacent swaps count as one edit) between a and the first m characters
+    // of b, or max + 1 once it must exceed max
+    static int distance(String a, String b, int m, int max) {
+        int n = a.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+
+    private static final class Entry {
+        final ProfileSearchSource source;
+        final int ordinal;
+        final String[] words;
+        final String sortName;
+
+        Entry(ProfileSearchSource source, int ordinal, String[] words) {
+            this.source = source;
+            this.ordinal = ordinal;
+            this.words = words;
+            this.sortName = source.fullName() == null ? "" : source.fullName().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // Profiles containing one word, with the fields it occurs in; unordered, removal swaps in the last element
+    private static final class Postings {
+        int[] ordinals = new int[2];
+        byte[] fields = new byte[2];
+        int size;
+        // Postings with a field other than EMAIL
+        int textCount;
+
+        void add(int ordinal, int fieldMask) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            ordinals[size] = ordinal;
+            fields[size] = (byte) fieldMask;
+            size++;
+            if ((fieldMask & ~EMAIL) != 0) {
+                textCount++;
+            }
+        }
+
+        boolean remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    if ((fields[i] & ~EMAIL) != 0) {
+                        textCount--;
+                    }
+                    size--;
+                    ordinals[i] = ordinals[size];
+                    fields[i] = fields[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Expansion(Postings postings, float quality) {
+    }
+
+    private record Candidate(Entry entry, float score) {
+    }
+
+    // Called under the read lock, so the ordinal count cannot grow while the arrays are in use
+    private Scratch borrowScratch() {
+        Scratch scratch = scratchPool.poll();
+        return (scratch == null ? new Scratch() : scratch).ensure(ordinals);
+    }
+
+    // Score accumulators, grown with the index and cleared by each search before it returns them to the pool
+    private static final class Scratch {
+        float[] total = new float[0];
+        float[] best = new float[0];
+        byte[] matched = new byte[0];
+        final IntList first = new IntList();
+        final IntList current = new IntList();
+
+        Scratch ensure(int size) {
+            if (total.length < size) {
+                int capacity = Math.max(size, total.length * 3 / 2);
+                total = new float[capacity];
+                best = new float[capacity];
+                matched = new byte[capacity];
+            }
+            return this;
+        }
+    }
+
+    private static final class IntList {
+        int[] values = new int[64];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
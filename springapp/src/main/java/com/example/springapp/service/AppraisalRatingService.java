@@ -0,0 +1,128 @@
+package com.example.springapp.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.repository.EmployeeRatingRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+
+import static com.example.springapp.service.TransactionHooks.afterCommit;
+
+// Keeps EmployeeProfile.lastAppraisalRating and averageAppraisalRating in step with the employee's Completed
+// appraisals. A committed appraisal change only queues its employee; after `delay` one atomic UPDATE recomputes both
+// values from the appraisals table, so a burst of changes for one employee costs one write and no two writers can
+// overwrite each other with values read earlier. Employees are spread over single-threaded workers by id, so two
+// recomputes of the same employee never run at once.
+@Service
+public class AppraisalRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppraisalRatingService.class);
+
+    private final EmployeeRatingRepository repo;
+    private final OrgHierarchyService hierarchy;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long delayMillis;
+    private final int window;
+    private final ScheduledExecutorService[] workers;
+    // Employees queued and not yet picked up; a change while one is queued rides along with it
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    // Queued or running recomputes
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Counter recomputes;
+
+    public AppraisalRatingService(EmployeeRatingRepository repo,
+                                  OrgHierarchyService hierarchy,
+                                  EntityManagerFactory entityManagerFactory,
+                                  MeterRegistry registry,
+                                  @Value("${app.appraisal-ratings.delay:500ms}") Duration delay,
+                                  @Value("${app.appraisal-ratings.window:4}") int window,
+                                  @Value("${app.appraisal-ratings.threads:2}") int threads) {
+        if (delay.isNegative() || window < 1 || threads < 1) {
+            throw new IllegalArgumentException("app.appraisal-ratings.window and threads must be positive, delay not negative");
+        }
+        this.repo = repo;
+        this.hierarchy = hierarchy;
+        this.entityManagerFactory = entityManagerFactory;
+        this.delayMillis = delay.toMillis();
+        this.window = window;
+        this.workers = new ScheduledExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = "appraisal-ratings-" + (i + 1);
+            workers[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.recomputes = Counter.builder("app.appraisal-ratings.recomputes")
+                .description("Profile rating updates written; each covers every appraisal change queued before it")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledExecutorService worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+
+    // For appraisals that are, or may have been until now, Completed
+    void appraisalChanged(Appraisal appraisal) {
+        EmployeeProfile employee = appraisal.getEmployee();
+        if (employee != null && employee.getEmployeeProfileId() != null) {
+            Long employeeProfileId = employee.getEmployeeProfileId();
+            afterCommit(() -> enqueue(employeeProfileId));
+        }
+    }
+
+    public void enqueue(Long employeeProfileId) {
+        if (pending.add(employeeProfileId)) {
+            outstanding.incrementAndGet();
+            workers[Math.floorMod(employeeProfileId.hashCode(), workers.length)]
+                    .schedule(() -> recompute(employeeProfileId), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // True when no recompute is queued or running
+    public boolean isIdle() {
+        return outstanding.get() == 0;
+    }
+
+    static boolean isCompleted(Appraisal appraisal) {
+        return "completed".equalsIgnoreCase(appraisal.getStatus());
+    }
+
+    private void recompute(Long employeeProfileId) {
+        // Removed before reading, so a change committed from here on queues another pass
+        pending.remove(employeeProfileId);
+        try {
+            if (repo.recomputeRatings(employeeProfileId, window)) {
+                recomputes.increment();
+                entityManagerFactory.getCache().evict(EmployeeProfile.class, employeeProfileId);
+                hierarchy.profileRatingChanged(employeeProfileId);
+            }
+        } catch (DataAccessException e) {
+            // The next change to one of the employee's appraisals recomputes from scratch
+            log.warn("Could not recompute appraisal ratings of employee profile {}", employeeProfileId, e);
+        } finally {
+            outstanding.decrementAndGet();
+        }
+    }
+}
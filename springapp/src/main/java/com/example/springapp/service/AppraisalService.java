@@ -1,30 +1,63 @@
 package com.example.springapp.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.CursorPage;
+import com.example.springapp.model.ReviewCycle;
 import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
 
 @Service
 public class AppraisalService {
 
     private final AppraisalRepository repo;
+    private final EmployeeProfileRepository employeeRepo;
+    private final ReviewCycleRepository cycleRepo;
+    private final ChangeEventPublisher changeEvents;
+    private final CycleRollupService rollups;
+    private final AppraisalRatingService ratings;
 
-    public AppraisalService(AppraisalRepository repo) {
+    public AppraisalService(AppraisalRepository repo, EmployeeProfileRepository employeeRepo, ReviewCycleRepository cycleRepo,
+                            ChangeEventPublisher changeEvents, CycleRollupService rollups, AppraisalRatingService ratings) {
         this.repo = repo;
+        this.employeeRepo = employeeRepo;
+        this.cycleRepo = cycleRepo;
+        this.changeEvents = changeEvents;
+        this.rollups = rollups;
+        this.ratings = ratings;
     }
 
     public List<Appraisal> getAllAppraisals() {
         return repo.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Appraisal> getAppraisalsPage(String cursor, Integer limit, String status, Long cycleId, Long employeeId) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Appraisal> rows = repo.findPageAfter(CursorPage.decodeCursor(cursor), blankToNull(status), cycleId, employeeId,
+                Limit.of(pageSize + 1));
+        return CursorPage.fromOverfetch(rows, pageSize, Appraisal::getAppraisalId);
+    }
+
     public Optional<Appraisal> getAppraisalById(Long id) {
         return repo.findById(id);
     }
 
+    public Optional<Long> getAppraisalVersion(Long id) {
+        return repo.findVersionById(id);
+    }
+
     public List<Appraisal> getAppraisalsByEmployeeId(Long employeeId) {
         return repo.findByEmployee_EmployeeProfileId(employeeId);
     }
@@ -49,14 +82,67 @@ public class AppraisalService {
             appraisal.setStatus("Submitted");
         }
         
-        return repo.save(appraisal);
+        Appraisal saved = repo.save(appraisal);
+        changeEvents.appraisalSaved(saved);
+        rollups.appraisalSaved(saved);
+        if (AppraisalRatingService.isCompleted(saved)) {
+            ratings.appraisalChanged(saved);
+        }
+        return saved;
     }
 
+    // One chunk of a cycle launch: employees that already have an appraisal in the cycle are skipped,
+    // the rest get a Draft in a single batched insert. Returns the number of drafts created.
+    @Transactional
+    public int createDraftAppraisals(ReviewCycle cycle, Collection<Long> employeeIds) {
+        Set<Long> existing = new HashSet<>(repo.findEmployeeIdsWithAppraisalInCycle(cycle.getCycleId(), employeeIds));
+        ReviewCycle cycleRef = cycleRepo.getReferenceById(cycle.getCycleId());
+        List<Appraisal> drafts = new ArrayList<>(employeeIds.size() - existing.size());
+        for (Long employeeId : employeeIds) {
+            if (existing.contains(employeeId)) {
+                continue;
+            }
+            Appraisal draft = new Appraisal();
+            draft.setEmployee(employeeRepo.getReferenceById(employeeId));
+            draft.setReviewCycle(cycleRef);
+            draft.setCycleName(cycle.getCycleName());
+            draft.setPeriodStart(cycle.getStartDate());
+            draft.setPeriodEnd(cycle.getEndDate());
+            draft.setStatus("Draft");
+            draft.setSelfRating(0);
+            draft.setManagerRating(0);
+            drafts.add(draft);
+        }
+        List<Appraisal> saved = repo.saveAll(drafts);
+        changeEvents.appraisalsSaved(saved);
+        rollups.appraisalsSaved(saved);
+        return drafts.size();
+    }
+
+    // The previous status is not known here, and an appraisal leaving Completed changes the ratings as well,
+    // so every update queues the employee; queued recomputes coalesce
     public Appraisal updateAppraisal(Appraisal appraisal) {
-        return repo.save(appraisal);
+        Appraisal saved = repo.save(appraisal);
+        changeEvents.appraisalSaved(saved);
+        rollups.appraisalSaved(saved);
+        ratings.appraisalChanged(saved);
+        return saved;
     }
 
+    // Loaded first so the event can name the employee and cycle
+    @Transactional
     public void deleteAppraisal(Long id) {
-        repo.deleteById(id);
+        repo.findById(id).ifPresent(appraisal -> {
+            repo.delete(appraisal);
+            changeEvents.appraisalDeleted(appraisal);
+            rollups.appraisalDeleted(id);
+            if (AppraisalRatingService.isCompleted(appraisal)) {
+                ratings.appraisalChanged(appraisal);
+            }
+        });
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 }
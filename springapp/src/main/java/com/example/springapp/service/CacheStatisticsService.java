@@ -0,0 +1,42 @@
+package com.example.springapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.config.CacheConfig;
+import com.example.springapp.model.CacheRegionStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Service
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // One row per configured region; the update-timestamps region is internal bookkeeping and left out
+    public List<CacheRegionStats> getRegionStatistics() {
+        List<CacheRegionStats> regions = new ArrayList<>();
+        for (String region : CacheConfig.ENTITY_REGIONS) {
+            regions.add(toStats(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        regions.add(toStats(CacheConfig.QUERY_REGION, statistics.getQueryRegionStatistics(CacheConfig.QUERY_REGION)));
+        return regions;
+    }
+
+    private static CacheRegionStats toStats(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return new CacheRegionStats(region, 0, 0, 0, 0);
+        }
+        return new CacheRegionStats(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount(),
+                stats.getElementCountInMemory());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.springapp.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import com.example.springapp.events.ChangeEventBus;
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.ChangeEvent;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+
+import static com.example.springapp.service.TransactionHooks.afterCommit;
+
+// Turns saved and deleted goals, feedback and appraisals into change events, published once the transaction commits.
+// Nothing is built while no stream is open.
+@Component
+class ChangeEventPublisher {
+
+    private final ChangeEventBus bus;
+    private final OrgHierarchyService hierarchy;
+
+    ChangeEventPublisher(ChangeEventBus bus, OrgHierarchyService hierarchy) {
+        this.bus = bus;
+        this.hierarchy = hierarchy;
+    }
+
+    void goalSaved(Goal goal) {
+        goalChanged(goal, ChangeEvent.SAVED);
+    }
+
+    void goalsSaved(Collection<Goal> goals) {
+        goals.forEach(this::goalSaved);
+    }
+
+    void goalDeleted(Goal goal) {
+        goalChanged(goal, ChangeEvent.DELETED);
+    }
+
+    void feedbackSaved(Feedback feedback) {
+        feedbackChanged(feedback, ChangeEvent.SAVED);
+    }
+
+    void feedbackDeleted(Feedback feedback) {
+        feedbackChanged(feedback, ChangeEvent.DELETED);
+    }
+
+    void appraisalSaved(Appraisal appraisal) {
+        appraisalChanged(appraisal, ChangeEvent.SAVED);
+    }
+
+    void appraisalsSaved(Collection<Appraisal> appraisals) {
+        appraisals.forEach(this::appraisalSaved);
+    }
+
+    void appraisalDeleted(Appraisal appraisal) {
+        appraisalChanged(appraisal, ChangeEvent.DELETED);
+    }
+
+    private void goalChanged(Goal goal, String action) {
+        // A bulk insert only holds references to the appraisals; their cycle is not looked up for the event
+        Appraisal appraisal = goal.getAppraisal();
+        Long cycleId = appraisal != null && Hibernate.isInitialized(appraisal) ? cycleId(appraisal.getReviewCycle()) : null;
+        publish(ChangeEvent.GOAL, action, goal.getGoalId(), goal.getEmployee(), cycleId, goal.getStatus());
+    }
+
+    private void feedbackChanged(Feedback feedback, String action) {
+        publish(ChangeEvent.FEEDBACK, action, feedback.getFeedbackId(), feedback.getEmployee(), null, null);
+    }
+
+    private void appraisalChanged(Appraisal appraisal, String action) {
+        publish(ChangeEvent.APPRAISAL, action, appraisal.getAppraisalId(), appraisal.getEmployee(),
+                cycleId(appraisal.getReviewCycle()), appraisal.getStatus());
+    }
+
+    private void publish(String type, String action, Long id, EmployeeProfile employee, Long cycleId, String status) {
+        if (!bus.hasSubscribers()) {
+            return;
+        }
+        Long employeeId = employee != null ? employee.getEmployeeProfileId() : null;
+        List<Long> managerChain = employeeId != null ? hierarchy.managerChain(employeeId) : List.of();
+        ChangeEvent event = new ChangeEvent(type, action, id, employeeId, cycleId, status, managerChain);
+        afterCommit(() -> bus.publish(event));
+    }
+
+    // Reading a proxy's id does not load it
+    private static Long cycleId(ReviewCycle cycle) {
+        return cycle != null ? cycle.getCycleId() : null;
+    }
+}
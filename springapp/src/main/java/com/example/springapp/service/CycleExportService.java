@@ -0,0 +1,113 @@
+package com.example.springapp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springapp.model.CycleExportRow;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.repository.AppraisalRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Writes a review cycle's appraisals as CSV or newline-delimited JSON straight from a database cursor. Each row is
+// written and dropped before the next is read, so memory use does not grow with the size of the cycle; output is
+// flushed to the client every FLUSH_EVERY rows.
+@Service
+public class CycleExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String[] CSV_HEADER = {"appraisalId", "employeeProfileId", "employeeName", "email",
+            "department", "designation", "reportingManager", "status", "selfRating", "managerRating", "managerName",
+            "appraisalDate", "reviewDate", "goals", "goalsCompleted", "averageGoalProgress", "feedbackCount",
+            "averageFeedbackRating"};
+
+    private final AppraisalRepository repo;
+    private final ObjectMapper objectMapper;
+
+    public CycleExportService(AppraisalRepository repo, ObjectMapper objectMapper) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+    }
+
+    // Feedback counts towards the cycle when it was given between the cycle's start and end dates, inclusive.
+    // Returns the number of rows written; the stream is left open for the caller to finish.
+    @Transactional(readOnly = true)
+    public long export(ReviewCycle cycle, Format format, OutputStream out) throws IOException {
+        LocalDateTime from = cycle.getStartDate().atStartOfDay();
+        LocalDateTime until = cycle.getEndDate().plusDays(1).atStartOfDay();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try (Stream<CycleExportRow> rows = repo.streamCycleExport(cycle.getCycleId(), from, until)) {
+            long written = format == Format.CSV ? writeCsv(rows.iterator(), writer) : writeNdjson(rows.iterator(), writer);
+            writer.flush();
+            return written;
+        }
+    }
+
+    private long writeCsv(Iterator<CycleExportRow> rows, Writer writer) throws IOException {
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        long written = 0;
+        while (rows.hasNext()) {
+            CycleExportRow row = rows.next();
+            writeCsvLine(writer, row.appraisalId(), row.employeeProfileId(), row.employeeName(), row.email(),
+                    row.department(), row.designation(), row.reportingManager(), row.status(), row.selfRating(),
+                    row.managerRating(), row.managerName(), row.appraisalDate(), row.reviewDate(), row.goals(),
+                    row.goalsCompleted(), row.averageGoalProgress(), row.feedbackCount(), row.averageFeedbackRating());
+            if (++written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        return written;
+    }
+
+    private long writeNdjson(Iterator<CycleExportRow> rows, Writer writer) throws IOException {
+        // One generator for the whole export; its flushes stop at the writer so only FLUSH_EVERY reaches the client
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        long written = 0;
+        while (rows.hasNext()) {
+            objectMapper.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            if (++written % FLUSH_EVERY == 0) {
+                generator.flush();
+                writer.flush();
+            }
+        }
+        generator.close();
+        return written;
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, with quotes doubled; nulls are empty
+    private static void writeCsvLine(Writer writer, Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] == null) {
+                continue;
+            }
+            String value = fields[i].toString();
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+            } else {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write("\r\n");
+    }
+}
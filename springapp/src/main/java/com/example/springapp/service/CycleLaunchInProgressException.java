@@ -0,0 +1,9 @@
+package com.example.springapp.service;
+
+// A launch of the same review cycle is still running on this instance; maps to 409
+public class CycleLaunchInProgressException extends RuntimeException {
+
+    public CycleLaunchInProgressException(Long cycleId, String jobId) {
+        super("Review cycle " + cycleId + " is already being launched by job " + jobId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.springapp.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.AppraisalRollupSource;
+import com.example.springapp.model.CycleRollup;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.rollup.CycleRollups;
+
+import static com.example.springapp.service.TransactionHooks.afterCommit;
+
+// Keeps the per-cycle calibration rollups in step with appraisal writes. An appraisal is filed under the department
+// and reporting manager its employee has in the org tree when the appraisal is saved, so a write costs no query.
+// Loaded when the application is ready; rebuild() re-reads every appraisal to repair drift, e.g. after plain SQL
+// updates or a profile moving to another team.
+@Service
+public class CycleRollupService {
+
+    private final AppraisalRepository repo;
+    private final OrgHierarchyService hierarchy;
+    private final CycleRollups rollups = new CycleRollups();
+
+    public CycleRollupService(AppraisalRepository repo, OrgHierarchyService hierarchy) {
+        this.repo = repo;
+        this.hierarchy = hierarchy;
+    }
+
+    // Returns the number of appraisals counted
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        rollups.rebuild(repo.findAllRollupSources());
+        return rollups.size();
+    }
+
+    // Both filters together are a single lookup; otherwise the cycle's groups are filtered
+    public List<CycleRollup> getRollups(Long cycleId, String department, Long managerId) {
+        if (department != null && managerId != null) {
+            CycleRollup rollup = rollups.get(cycleId, department, managerId);
+            return rollup != null ? List.of(rollup) : List.of();
+        }
+        return rollups.cycle(cycleId).stream()
+                .filter(rollup -> department == null || department.equals(rollup.department()))
+                .filter(rollup -> managerId == null || managerId.equals(rollup.managerId()))
+                .toList();
+    }
+
+    void appraisalSaved(Appraisal appraisal) {
+        AppraisalRollupSource source = sourceOf(appraisal);
+        afterCommit(() -> rollups.put(source));
+    }
+
+    void appraisalsSaved(Collection<Appraisal> appraisals) {
+        List<AppraisalRollupSource> sources = appraisals.stream().map(this::sourceOf).toList();
+        afterCommit(() -> rollups.putAll(sources));
+    }
+
+    void appraisalDeleted(Long appraisalId) {
+        afterCommit(() -> rollups.remove(appraisalId));
+    }
+
+    // Call before the profile is deleted; its appraisals are deleted with it
+    void employeeDeleting(Long employeeProfileId) {
+        List<Long> appraisalIds = repo.findIdsByEmployeeId(employeeProfileId);
+        afterCommit(() -> rollups.removeAll(appraisalIds));
+    }
+
+    private AppraisalRollupSource sourceOf(Appraisal appraisal) {
+        Long employeeId = appraisal.getEmployee() != null ? appraisal.getEmployee().getEmployeeProfileId() : null;
+        Long cycleId = appraisal.getReviewCycle() != null ? appraisal.getReviewCycle().getCycleId() : null;
+        return new AppraisalRollupSource(appraisal.getAppraisalId(), cycleId,
+                employeeId != null ? hierarchy.departmentOf(employeeId) : null,
+                employeeId != null ? hierarchy.managerOf(employeeId) : null,
+                appraisal.getStatus(), appraisal.getSelfRating(), appraisal.getManagerRating());
+    }
+}
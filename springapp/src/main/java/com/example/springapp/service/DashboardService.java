@@ -0,0 +1,161 @@
+package com.example.springapp.service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springapp.model.AdminDashboardSummary;
+import com.example.springapp.model.AppraisalSummary;
+import com.example.springapp.model.EmployeeDashboardSummary;
+import com.example.springapp.model.HeadcountSummary;
+import com.example.springapp.model.ProfileSummary;
+import com.example.springapp.model.RatingSummary;
+import com.example.springapp.model.StatusCount;
+import com.example.springapp.model.TeamSize;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    // Employees who joined within this many days count as "newly joined"
+    static final int NEWLY_JOINED_DAYS = 30;
+
+    static final int DEFAULT_RECENT_FEEDBACK = 5;
+    static final int MAX_RECENT_FEEDBACK = 50;
+
+    private final EmployeeProfileRepository employeeRepo;
+    private final GoalRepository goalRepo;
+    private final FeedbackRepository feedbackRepo;
+    private final AppraisalRepository appraisalRepo;
+
+    public DashboardService(EmployeeProfileRepository employeeRepo,
+                            GoalRepository goalRepo,
+                            FeedbackRepository feedbackRepo,
+                            AppraisalRepository appraisalRepo) {
+        this.employeeRepo = employeeRepo;
+        this.goalRepo = goalRepo;
+        this.feedbackRepo = feedbackRepo;
+        this.appraisalRepo = appraisalRepo;
+    }
+
+    // Five aggregate queries, independent of table sizes; nothing is loaded as an entity
+    public AdminDashboardSummary getAdminSummary() {
+        AdminDashboardSummary summary = new AdminDashboardSummary();
+
+        LocalDate today = LocalDate.now();
+        HeadcountSummary headcount = employeeRepo.summarizeEmployeeHeadcount(
+                today.minusDays(NEWLY_JOINED_DAYS).toString(), today.toString());
+        summary.setTotalEmployees(nullToZero(headcount.getTotal()));
+        summary.setNewlyJoined(nullToZero(headcount.getNewlyJoined()));
+        summary.setTotalDepartments(nullToZero(headcount.getDepartments()));
+
+        Map<String, Long> goalsByStatus = toStatusMap(goalRepo.countGroupedByStatus());
+        long totalGoals = sum(goalsByStatus);
+        summary.setGoalsByStatus(goalsByStatus);
+        summary.setTotalGoals(totalGoals);
+        summary.setGoalCompletionRate(percentage(completedCount(goalsByStatus), totalGoals));
+
+        RatingSummary ratings = feedbackRepo.summarizeRatings();
+        summary.setTotalFeedbacks(nullToZero(ratings.getCount()));
+        summary.setAverageFeedbackRating(ratings.getAverageRating() != null ? ratings.getAverageRating() : 0.0);
+
+        Map<String, Long> appraisalsByStatus = toStatusMap(appraisalRepo.countGroupedByStatus());
+        long totalAppraisals = sum(appraisalsByStatus);
+        summary.setAppraisalsByStatus(appraisalsByStatus);
+        summary.setTotalAppraisals(totalAppraisals);
+        summary.setAppraisalCompletionRate(percentage(completedCount(appraisalsByStatus), totalAppraisals));
+
+        Map<String, Long> teamSizes = new LinkedHashMap<>();
+        for (TeamSize team : employeeRepo.countTeamSizesByManager()) {
+            teamSizes.put(team.getReportingManager(), team.getTeamSize());
+        }
+        summary.setTeamSizes(teamSizes);
+
+        return summary;
+    }
+
+    // Four queries whatever the employee's history size: profile, goal counts, recent feedback, appraisals
+    public EmployeeDashboardSummary getEmployeeSummary(Long employeeProfileId, Integer recentFeedback) {
+        ProfileSummary profile = employeeRepo.findSummaryById(employeeProfileId)
+                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Employee not found with ID " + employeeProfileId));
+
+        int feedbackLimit = recentFeedback == null ? DEFAULT_RECENT_FEEDBACK : Math.min(Math.max(recentFeedback, 0), MAX_RECENT_FEEDBACK);
+
+        EmployeeDashboardSummary summary = new EmployeeDashboardSummary();
+        summary.setProfile(profile);
+
+        Map<String, Long> goalsByStatus = toStatusMap(goalRepo.countGroupedByStatusForEmployee(employeeProfileId));
+        long totalGoals = sum(goalsByStatus);
+        summary.setGoalsByStatus(goalsByStatus);
+        summary.setTotalGoals(totalGoals);
+        summary.setGoalCompletionRate(percentage(completedCount(goalsByStatus), totalGoals));
+
+        summary.setRecentFeedback(feedbackLimit == 0 ? List.of()
+                : feedbackRepo.findRecentSummariesByEmployee(employeeProfileId, Limit.of(feedbackLimit)));
+
+        List<AppraisalSummary> appraisals = appraisalRepo.findSummariesByEmployee(employeeProfileId);
+        summary.setAppraisals(appraisals);
+        summary.setAverageManagerRating(averageManagerRating(appraisals));
+
+        return summary;
+    }
+
+    // New appraisals default managerRating to 0, so 0 means "not rated yet" and is left out
+    private static Double averageManagerRating(List<AppraisalSummary> appraisals) {
+        long total = 0;
+        int rated = 0;
+        for (AppraisalSummary appraisal : appraisals) {
+            Integer rating = appraisal.getManagerRating();
+            if (rating != null && rating > 0) {
+                total += rating;
+                rated++;
+            }
+        }
+        return rated > 0 ? (double) total / rated : null;
+    }
+
+    private static Map<String, Long> toStatusMap(List<StatusCount> counts) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (StatusCount count : counts) {
+            String status = count.getStatus() != null ? count.getStatus() : "Unknown";
+            byStatus.merge(status, count.getCount(), Long::sum);
+        }
+        return byStatus;
+    }
+
+    // Status values are free text ("Completed", "COMPLETED"), so match case-insensitively
+    private static long completedCount(Map<String, Long> byStatus) {
+        long completed = 0;
+        for (Map.Entry<String, Long> entry : byStatus.entrySet()) {
+            if ("completed".equalsIgnoreCase(entry.getKey())) {
+                completed += entry.getValue();
+            }
+        }
+        return completed;
+    }
+
+    private static long sum(Map<String, Long> byStatus) {
+        long total = 0;
+        for (Long count : byStatus.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static double percentage(long part, long total) {
+        return total > 0 ? (part * 100.0) / total : 0.0;
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
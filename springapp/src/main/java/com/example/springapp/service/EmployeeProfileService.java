@@ -1,50 +1,183 @@
 package com.example.springapp.service;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ProfileSearchHit;
+import com.example.springapp.model.ProfileSummary;
+import com.example.springapp.model.TeamRollup;
 import com.example.springapp.repository.EmployeeProfileRepository;
 
 @Service
 public class EmployeeProfileService {
 
+    // Rows per IN list when loading an org subtree's summaries
+    private static final int SUMMARY_BATCH = 1000;
+
     private final EmployeeProfileRepository repo;
+    private final ProfileSearchService searchService;
+    private final OrgHierarchyService hierarchyService;
+    private final CycleRollupService rollupService;
 
-    public EmployeeProfileService(EmployeeProfileRepository repo) {
+    public EmployeeProfileService(EmployeeProfileRepository repo,
+                                  ProfileSearchService searchService,
+                                  OrgHierarchyService hierarchyService,
+                                  CycleRollupService rollupService) {
         this.repo = repo;
+        this.searchService = searchService;
+        this.hierarchyService = hierarchyService;
+        this.rollupService = rollupService;
     }
 
     public List<EmployeeProfile> getAllEmployeeProfiles() {
         return repo.findAll();
     }
 
+    public List<ProfileSummary> getEmployeeProfileSummaries() {
+        return repo.findAllSummaries();
+    }
+
+    // A second-level cache hit ignores the entity graph, so the user is resolved here (from the cache as well)
+    @Transactional(readOnly = true)
     public Optional<EmployeeProfile> getEmployeeProfileById(Long id) {
-        return repo.findById(id);
+        Optional<EmployeeProfile> profile = repo.findById(id);
+        profile.ifPresent(p -> Hibernate.initialize(p.getUser()));
+        return profile;
+    }
+
+    public Optional<Long> getEmployeeProfileVersion(Long id) {
+        return repo.findVersionById(id);
     }
 
     public List<EmployeeProfile> getEmployeeProfilesByUserId(Long userId) {
         return repo.findByUserUserId(userId);
     }
 
+    // The hierarchy, rollup and search hooks apply their in-memory changes after commit, and the manager references
+    // they rewrite roll back with the profile's own write
+    @Transactional
     public EmployeeProfile createEmployeeProfile(EmployeeProfile profile) {
         if (profile.getUser() == null) {
             throw new IllegalArgumentException("User must be linked to EmployeeProfile");
         }
-        return repo.save(profile);
+        profile.setDateOfJoining(normalizeDateOfJoining(profile.getDateOfJoining()));
+        hierarchyService.resolveManager(profile);
+        EmployeeProfile saved = repo.save(profile);
+        profileSaved(saved.getEmployeeProfileId());
+        return saved;
     }
 
+    @Transactional
     public EmployeeProfile updateEmployeeProfile(EmployeeProfile profile) {
-        return repo.save(profile);
+        // The ratings columns are not updatable; carrying the stored values keeps whatever the client sent out of the
+        // merged entity, the response and the second-level cache
+        repo.findById(profile.getEmployeeProfileId()).ifPresent(stored -> {
+            profile.setLastAppraisalRating(stored.getLastAppraisalRating());
+            profile.setAverageAppraisalRating(stored.getAverageAppraisalRating());
+        });
+        profile.setDateOfJoining(normalizeDateOfJoining(profile.getDateOfJoining()));
+        hierarchyService.resolveManager(profile);
+        EmployeeProfile saved = repo.save(profile);
+        profileSaved(saved.getEmployeeProfileId());
+        return saved;
+    }
+
+    // The column is a string that the dashboard compares lexically, so only ISO yyyy-MM-dd is stored; a date-time
+    // such as a JavaScript Date.toISOString() keeps its date part
+    static String normalizeDateOfJoining(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        String date = trimmed.length() > 10 && trimmed.charAt(10) == 'T' ? trimmed.substring(0, 10) : trimmed;
+        try {
+            return LocalDate.parse(date).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("dateOfJoining must be a date in yyyy-MM-dd format");
+        }
     }
 
+    @Transactional
     public void deleteEmployeeProfile(Long id) {
+        hierarchyService.profileDeleting(id);
+        rollupService.employeeDeleting(id);
         repo.deleteById(id);
+        searchService.profileDeleted(id);
+    }
+
+    private void profileSaved(Long id) {
+        searchService.profileSaved(id);
+        hierarchyService.profileSaved(id);
     }
-    
-    public List<EmployeeProfile> getEmployeeProfilesByName(String fullName) {
-        return repo.findByUserFullNameContainingIgnoreCase(fullName);
+
+    // Direct or all reports from the org tree, loaded by primary key in tree order
+    public List<ProfileSummary> getReports(Long id, boolean transitive) {
+        requireInHierarchy(id);
+        List<Long> ids = transitive ? hierarchyService.allReports(id) : hierarchyService.directReports(id);
+        Map<Long, ProfileSummary> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SUMMARY_BATCH) {
+            for (ProfileSummary summary : repo.findSummariesByIds(ids.subList(from, Math.min(ids.size(), from + SUMMARY_BATCH)))) {
+                byId.put(summary.getEmployeeProfileId(), summary);
+            }
+        }
+        List<ProfileSummary> reports = new ArrayList<>(ids.size());
+        for (Long reportId : ids) {
+            ProfileSummary summary = byId.get(reportId);
+            if (summary != null) {
+                reports.add(summary);
+            }
+        }
+        return reports;
+    }
+
+    // Headcount, depth, ratings and departments below the profile, computed from the org tree alone
+    public TeamRollup getTeamRollup(Long id) {
+        requireInHierarchy(id);
+        return hierarchyService.rollup(id);
+    }
+
+    private void requireInHierarchy(Long id) {
+        if (!hierarchyService.isLoaded()) {
+            throw new HierarchyLoadingException();
+        }
+        if (!hierarchyService.contains(id)) {
+            throw new jakarta.persistence.EntityNotFoundException("Employee not found with ID " + id);
+        }
+    }
+
+    // Ranked matches on name, email, department, designation and skills from the search index
+    public List<ProfileSearchHit> searchProfiles(String query, int limit) {
+        return searchService.search(query, limit);
+    }
+
+    // Full profiles for the best index matches, in rank order; the database is only asked for them by ID
+    public List<EmployeeProfile> getEmployeeProfilesByName(String fullName, int limit) {
+        if (!searchService.isLoaded()) {
+            return repo.findByUserFullNameContainingIgnoreCase(fullName);
+        }
+        List<Long> ranked = searchService.search(fullName, limit).stream()
+                .map(ProfileSearchHit::employeeProfileId)
+                .toList();
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            rank.put(ranked.get(i), i);
+        }
+        List<EmployeeProfile> profiles = new ArrayList<>(repo.findByEmployeeProfileIdIn(ranked));
+        profiles.sort(Comparator.comparing(p -> rank.get(p.getEmployeeProfileId())));
+        return profiles;
     }
 }
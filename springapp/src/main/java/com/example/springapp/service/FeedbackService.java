@@ -1,30 +1,62 @@
 package com.example.springapp.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.springapp.model.CursorPage;
 import com.example.springapp.model.Feedback;
+import com.example.springapp.model.ReviewCycle;
 import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
 
 @Service
 public class FeedbackService {
 
     private final FeedbackRepository repo;
+    private final ReviewCycleRepository reviewCycleRepo;
+    private final ChangeEventPublisher changeEvents;
 
-    public FeedbackService(FeedbackRepository repo) {
+    public FeedbackService(FeedbackRepository repo, ReviewCycleRepository reviewCycleRepo, ChangeEventPublisher changeEvents) {
         this.repo = repo;
+        this.reviewCycleRepo = reviewCycleRepo;
+        this.changeEvents = changeEvents;
     }
 
     public List<Feedback> getAllFeedbacks() {
         return repo.findAll();
     }
 
+    // Feedback is not linked to a cycle, so a cycle filter means "created within the cycle's date range"
+    @Transactional(readOnly = true)
+    public CursorPage<Feedback> getFeedbacksPage(String cursor, Integer limit, String feedbackType, Long cycleId, Long employeeId) {
+        int pageSize = CursorPage.clampLimit(limit);
+        LocalDateTime createdFrom = null;
+        LocalDateTime createdTo = null;
+        if (cycleId != null) {
+            ReviewCycle cycle = reviewCycleRepo.findById(cycleId)
+                    .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("ReviewCycle not found with ID " + cycleId));
+            createdFrom = cycle.getStartDate().atStartOfDay();
+            createdTo = cycle.getEndDate().plusDays(1).atStartOfDay();
+        }
+        String type = feedbackType == null || feedbackType.isBlank() ? null : feedbackType;
+        List<Feedback> rows = repo.findPageAfter(CursorPage.decodeCursor(cursor), type, employeeId, createdFrom, createdTo,
+                Limit.of(pageSize + 1));
+        return CursorPage.fromOverfetch(rows, pageSize, Feedback::getFeedbackId);
+    }
+
     public Optional<Feedback> getFeedbackById(Long id) {
         return repo.findById(id);
     }
 
+    public Optional<Long> getFeedbackVersion(Long id) {
+        return repo.findVersionById(id);
+    }
+
     public List<Feedback> getFeedbacksByEmployeeId(Long employeeProfileId) {
         return repo.findByEmployee_EmployeeProfileId(employeeProfileId);
     }
@@ -46,14 +78,23 @@ public class FeedbackService {
             feedback.setRating(0);
         }
         
-        return repo.save(feedback);
+        Feedback saved = repo.save(feedback);
+        changeEvents.feedbackSaved(saved);
+        return saved;
     }
 
     public Feedback updateFeedback(Feedback feedback) {
-        return repo.save(feedback);
+        Feedback saved = repo.save(feedback);
+        changeEvents.feedbackSaved(saved);
+        return saved;
     }
 
+    // Loaded first so the event can name the employee
+    @Transactional
     public void deleteFeedback(Long id) {
-        repo.deleteById(id);
+        repo.findById(id).ifPresent(feedback -> {
+            repo.delete(feedback);
+            changeEvents.feedbackDeleted(feedback);
+        });
     }
 }
@@ -1,30 +1,66 @@
 package com.example.springapp.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.BulkGoalRequest;
+import com.example.springapp.model.BulkGoalResult;
+import com.example.springapp.model.CursorPage;
+import com.example.springapp.model.EmployeeProfile;
 import com.example.springapp.model.Goal;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
 import com.example.springapp.repository.GoalRepository;
 
 @Service
 public class GoalService {
 
+    public static final int MAX_BULK_GOALS = 10_000;
+
     private final GoalRepository repo;
+    private final EmployeeProfileRepository employeeRepo;
+    private final AppraisalRepository appraisalRepo;
+    private final ChangeEventPublisher changeEvents;
 
-    public GoalService(GoalRepository repo) {
+    public GoalService(GoalRepository repo, EmployeeProfileRepository employeeRepo, AppraisalRepository appraisalRepo,
+                       ChangeEventPublisher changeEvents) {
         this.repo = repo;
+        this.employeeRepo = employeeRepo;
+        this.appraisalRepo = appraisalRepo;
+        this.changeEvents = changeEvents;
     }
 
     public List<Goal> getAllGoals() {
         return repo.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Goal> getGoalsPage(String cursor, Integer limit, String status, Long cycleId, Long employeeId) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Goal> rows = repo.findPageAfter(CursorPage.decodeCursor(cursor), blankToNull(status), cycleId, employeeId,
+                Limit.of(pageSize + 1));
+        return CursorPage.fromOverfetch(rows, pageSize, Goal::getGoalId);
+    }
+
     public Optional<Goal> getGoalById(Long id) {
         return repo.findById(id);
     }
 
+    public Optional<Long> getGoalVersion(Long id) {
+        return repo.findVersionById(id);
+    }
+
     public List<Goal> getGoalsByEmployeeId(Long employeeProfileId) {
         return repo.findByEmployee_EmployeeProfileId(employeeProfileId);
     }
@@ -38,18 +74,53 @@ public class GoalService {
             throw new IllegalArgumentException("Goal must be linked to an EmployeeProfile");
         }
         
-        // Set default values for new fields if not provided
-        if (goal.getStatus() == null || goal.getStatus().isEmpty()) {
-            goal.setStatus("PENDING");
+        applyDefaults(goal);
+        Goal saved = repo.save(goal);
+        changeEvents.goalSaved(saved);
+        return saved;
+    }
+
+    // Employee and appraisal IDs are each checked with one IN query and attached as references,
+    // so nothing is hydrated per row; the inserts go out in JDBC batches
+    @Transactional
+    public BulkGoalResult createGoalsBulk(BulkGoalRequest request) {
+        List<Goal> goals = expandBulkRequest(request);
+        if (goals.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain a template with employeeIds, or goals");
         }
-        if (goal.getProgress() == null) {
-            goal.setProgress(0);
+        if (goals.size() > MAX_BULK_GOALS) {
+            throw new IllegalArgumentException("Bulk request may create at most " + MAX_BULK_GOALS + " goals");
         }
-        if (goal.getCreatedBy() == null || goal.getCreatedBy().isEmpty()) {
-            goal.setCreatedBy("manager"); // Default to manager-created
+
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        Set<Long> appraisalIds = new LinkedHashSet<>();
+        for (Goal goal : goals) {
+            employeeIds.add(goal.getEmployee().getEmployeeProfileId());
+            if (goal.getAppraisal() != null && goal.getAppraisal().getAppraisalId() != null) {
+                appraisalIds.add(goal.getAppraisal().getAppraisalId());
+            }
         }
-        
-        return repo.save(goal);
+
+        requireAllExist(employeeRepo.findExistingIds(employeeIds), employeeIds, "Employee");
+        if (!appraisalIds.isEmpty()) {
+            requireAllExist(appraisalRepo.findExistingIds(appraisalIds), appraisalIds, "Appraisal");
+        }
+
+        Map<Long, EmployeeProfile> employees = new HashMap<>();
+        Map<Long, Appraisal> appraisals = new HashMap<>();
+        for (Goal goal : goals) {
+            goal.setEmployee(employees.computeIfAbsent(goal.getEmployee().getEmployeeProfileId(), employeeRepo::getReferenceById));
+            if (goal.getAppraisal() != null) {
+                Long appraisalId = goal.getAppraisal().getAppraisalId();
+                goal.setAppraisal(appraisalId == null ? null : appraisals.computeIfAbsent(appraisalId, appraisalRepo::getReferenceById));
+            }
+            applyDefaults(goal);
+        }
+
+        List<Goal> saved = repo.saveAll(goals);
+        changeEvents.goalsSaved(saved);
+        List<Long> goalIds = saved.stream().map(Goal::getGoalId).toList();
+        return new BulkGoalResult(goalIds.size(), goalIds);
     }
 
     public Goal updateGoal(Goal goal) {
@@ -67,10 +138,106 @@ public class GoalService {
             throw new IllegalArgumentException("Goal must be linked to an EmployeeProfile");
         }
         
-        return repo.save(goal);
+        Goal saved = repo.save(goal);
+        changeEvents.goalSaved(saved);
+        return saved;
     }
 
+    // Loaded first so the event can name the employee and cycle
+    @Transactional
     public void deleteGoal(Long id) {
-        repo.deleteById(id);
+        repo.findById(id).ifPresent(goal -> {
+            repo.delete(goal);
+            changeEvents.goalDeleted(goal);
+        });
+    }
+
+    // Set default values for new fields if not provided
+    private static void applyDefaults(Goal goal) {
+        if (goal.getStatus() == null || goal.getStatus().isEmpty()) {
+            goal.setStatus("PENDING");
+        }
+        if (goal.getProgress() == null) {
+            goal.setProgress(0);
+        }
+        if (goal.getCreatedBy() == null || goal.getCreatedBy().isEmpty()) {
+            goal.setCreatedBy("manager"); // Default to manager-created
+        }
+    }
+
+    // A template fans out into one copy per employee; explicit goals are taken as-is. Each entry is checked here, with
+    // its position in the request, so a bad one is a 400 naming it rather than a constraint failure at flush
+    private static List<Goal> expandBulkRequest(BulkGoalRequest request) {
+        List<Goal> goals = new ArrayList<>();
+        if (request == null) {
+            return goals;
+        }
+        if (request.getTemplate() != null && request.getEmployeeIds() != null) {
+            requireValidBulkGoal(request.getTemplate(), "template");
+            for (Long employeeId : request.getEmployeeIds()) {
+                if (employeeId == null) {
+                    throw new IllegalArgumentException("employeeIds must not contain null");
+                }
+                EmployeeProfile employee = new EmployeeProfile();
+                employee.setEmployeeProfileId(employeeId);
+                Goal goal = copyOf(request.getTemplate());
+                goal.setEmployee(employee);
+                goals.add(goal);
+            }
+        }
+        if (request.getGoals() != null) {
+            for (int i = 0; i < request.getGoals().size(); i++) {
+                Goal goal = request.getGoals().get(i);
+                if (goal == null) {
+                    throw new IllegalArgumentException("goals must not contain null");
+                }
+                requireValidBulkGoal(goal, "goals[" + i + "]");
+                if (goal.getEmployee() == null || goal.getEmployee().getEmployeeProfileId() == null) {
+                    throw new IllegalArgumentException("goals[" + i + "] must be linked to an EmployeeProfile");
+                }
+                goal.setGoalId(null);
+                goals.add(goal);
+            }
+        }
+        return goals;
+    }
+
+    // The checks GoalRequest.Create applies to a single new goal
+    private static void requireValidBulkGoal(Goal goal, String entry) {
+        if (goal.getTitle() == null || goal.getTitle().isBlank()) {
+            throw new IllegalArgumentException(entry + ": title is required");
+        }
+        if (goal.getProgress() != null && (goal.getProgress() < 0 || goal.getProgress() > 100)) {
+            throw new IllegalArgumentException(entry + ": progress must be between 0 and 100");
+        }
+    }
+
+    private static Goal copyOf(Goal template) {
+        Goal goal = new Goal();
+        goal.setTitle(template.getTitle());
+        goal.setDescription(template.getDescription());
+        goal.setStatus(template.getStatus());
+        goal.setPriority(template.getPriority());
+        goal.setCategory(template.getCategory());
+        goal.setProgress(template.getProgress());
+        goal.setStartDate(template.getStartDate());
+        goal.setTargetDate(template.getTargetDate());
+        goal.setCompletionDate(template.getCompletionDate());
+        goal.setCreatedBy(template.getCreatedBy());
+        goal.setManagerComments(template.getManagerComments());
+        goal.setAppraisal(template.getAppraisal());
+        return goal;
+    }
+
+    private static void requireAllExist(List<Long> found, Set<Long> requested, String label) {
+        if (found.size() != requested.size()) {
+            Set<Long> existing = new HashSet<>(found);
+            List<Long> missing = requested.stream().filter(id -> !existing.contains(id)).toList();
+            throw new jakarta.persistence.EntityNotFoundException(label + " not found with IDs " + missing);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 }
@@ -0,0 +1,9 @@
+package com.example.springapp.service;
+
+// The org tree is built when the application is ready; until then hierarchy queries get 503 with Retry-After
+public class HierarchyLoadingException extends RuntimeException {
+
+    public HierarchyLoadingException() {
+        super("The reporting hierarchy is still loading, please retry");
+    }
+}
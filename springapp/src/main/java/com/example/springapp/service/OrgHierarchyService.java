@@ -0,0 +1,190 @@
+package com.example.springapp.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.etag.VersionTags;
+import com.example.springapp.hierarchy.OrgTree;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.OrgTreeSource;
+import com.example.springapp.model.TeamRollup;
+import com.example.springapp.repository.EmployeeProfileRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static com.example.springapp.service.TransactionHooks.afterCommit;
+
+// Turns the free-text reportingManager into a manager reference and keeps the in-memory org tree in step with it.
+// A name resolves when it matches the full name of exactly one profile's user (trimmed, ignoring case); names that
+// match nobody, or several people, stay unresolved until a save makes them unambiguous. The tree is loaded when the
+// application is ready, resolving whatever older rows still lack a reference, then updated one profile at a time.
+@Service
+public class OrgHierarchyService {
+
+    private static final Long AMBIGUOUS = -1L;
+
+    private final EmployeeProfileRepository repo;
+    private final VersionTags versionTags;
+    private final EntityManagerFactory entityManagerFactory;
+    private final OrgTree tree = new OrgTree();
+    private volatile boolean loaded;
+
+    public OrgHierarchyService(EmployeeProfileRepository repo, VersionTags versionTags,
+                               EntityManagerFactory entityManagerFactory) {
+        this.repo = repo;
+        this.versionTags = versionTags;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<OrgTreeSource> sources = repo.findAllOrgTreeSources();
+        tree.rebuild(sources);
+
+        Map<String, Long> byName = new HashMap<>();
+        for (OrgTreeSource source : sources) {
+            String name = normalize(source.fullName());
+            if (name != null) {
+                byName.merge(name, source.employeeProfileId(), (a, b) -> AMBIGUOUS);
+            }
+        }
+        Map<Long, List<Long>> resolved = new LinkedHashMap<>();
+        for (OrgTreeSource source : sources) {
+            String name = normalize(source.reportingManager());
+            Long managerId = name != null && source.managerId() == null ? byName.get(name) : null;
+            if (managerId == null || managerId.equals(AMBIGUOUS) || managerId.equals(source.employeeProfileId())
+                    || tree.wouldCreateCycle(source.employeeProfileId(), managerId)) {
+                continue;
+            }
+            tree.moveUnder(source.employeeProfileId(), managerId);
+            resolved.computeIfAbsent(managerId, id -> new ArrayList<>()).add(source.employeeProfileId());
+        }
+        // One update per manager for rows saved before references existed
+        resolved.forEach((managerId, ids) -> {
+            repo.assignManager(repo.getReferenceById(managerId), ids, LocalDateTime.now());
+            managerReferencesChanged(ids);
+        });
+        loaded = true;
+    }
+
+    // Before a profile is saved: point its manager reference at whoever reportingManager names
+    public void resolveManager(EmployeeProfile profile) {
+        Long managerId = resolve(profile.getReportingManager());
+        if (managerId == null || managerId.equals(profile.getEmployeeProfileId())) {
+            profile.setManager(null);
+            return;
+        }
+        if (profile.getEmployeeProfileId() != null && tree.wouldCreateCycle(profile.getEmployeeProfileId(), managerId)) {
+            throw new IllegalArgumentException("Reporting manager '" + profile.getReportingManager()
+                    + "' reports to this employee already");
+        }
+        profile.setManager(repo.getReferenceById(managerId));
+    }
+
+    // After a profile is saved: place it in the tree, and adopt profiles that were waiting for a manager of this name
+    public void profileSaved(Long employeeProfileId) {
+        repo.findOrgTreeSourceById(employeeProfileId).ifPresent(source -> {
+            List<Long> adopted = adoptWaitingReports(source);
+            afterCommit(() -> {
+                tree.put(source);
+                adopted.forEach(id -> tree.moveUnder(id, employeeProfileId));
+            });
+        });
+    }
+
+    // After the profile's rating was recomputed outside JPA; nothing else about it changed
+    public void profileRatingChanged(Long employeeProfileId) {
+        repo.findOrgTreeSourceById(employeeProfileId).ifPresent(tree::put);
+    }
+
+    // Call before the profile is deleted; its reports are left without a manager reference
+    public void profileDeleting(Long employeeProfileId) {
+        List<Long> reports = repo.findIdsByManagerId(employeeProfileId);
+        if (!reports.isEmpty()) {
+            repo.clearManager(employeeProfileId, LocalDateTime.now());
+            managerReferencesChanged(reports);
+        }
+        afterCommit(() -> tree.remove(employeeProfileId));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean contains(Long employeeProfileId) {
+        return tree.contains(employeeProfileId);
+    }
+
+    public Long managerOf(Long employeeProfileId) {
+        return tree.managerOf(employeeProfileId);
+    }
+
+    public String departmentOf(Long employeeProfileId) {
+        return tree.departmentOf(employeeProfileId);
+    }
+
+    public List<Long> managerChain(Long employeeProfileId) {
+        return tree.managerChain(employeeProfileId);
+    }
+
+    public List<Long> directReports(Long employeeProfileId) {
+        return tree.directReports(employeeProfileId);
+    }
+
+    public List<Long> allReports(Long employeeProfileId) {
+        return tree.allReports(employeeProfileId);
+    }
+
+    public TeamRollup rollup(Long employeeProfileId) {
+        return tree.rollup(employeeProfileId);
+    }
+
+    private List<Long> adoptWaitingReports(OrgTreeSource manager) {
+        String name = normalize(manager.fullName());
+        if (name == null || repo.findIdsByUserFullName(name).size() != 1) {
+            return List.of();
+        }
+        List<Long> waiting = repo.findUnresolvedIdsByReportingManager(name).stream()
+                .filter(id -> !id.equals(manager.employeeProfileId()))
+                .filter(id -> !tree.wouldCreateCycle(id, manager.employeeProfileId()))
+                .toList();
+        if (!waiting.isEmpty()) {
+            repo.assignManager(repo.getReferenceById(manager.employeeProfileId()), waiting, LocalDateTime.now());
+            managerReferencesChanged(waiting);
+        }
+        return waiting;
+    }
+
+    // After a bulk manager update: the rows' ETags and cached copies must not outlive it. In the caller's transaction
+    // when there is one; at startup the counter goes up just after the update commits, which only costs a revalidation.
+    private void managerReferencesChanged(Collection<Long> ids) {
+        versionTags.tablesChanged(EmployeeProfile.class);
+        ids.forEach(id -> entityManagerFactory.getCache().evict(EmployeeProfile.class, id));
+    }
+
+    private Long resolve(String reportingManager) {
+        String name = normalize(reportingManager);
+        if (name == null) {
+            return null;
+        }
+        List<Long> matches = repo.findIdsByUserFullName(name);
+        return matches.size() == 1 ? matches.get(0) : null;
+    }
+
+    private static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
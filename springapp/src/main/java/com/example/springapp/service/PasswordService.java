@@ -0,0 +1,82 @@
+package com.example.springapp.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.config.PasswordConfig;
+import com.example.springapp.logging.MdcTaskDecorator;
+
+import jakarta.annotation.PreDestroy;
+
+// BCrypt is deliberately slow, so hashing and verification run on a small bounded pool instead of the request
+// threads. A login storm fills the queue and is then rejected (TaskRejectedException, mapped to 503) rather than
+// taking every CPU and Tomcat thread with it.
+@Service
+public class PasswordService {
+
+    // Outcome of a verification; upgradedHash is set when a legacy or weaker hash should be replaced
+    public record Verification(boolean matches, String upgradedHash) { }
+
+    private static final String ENCODED_PREFIX = "{" + PasswordConfig.BCRYPT + "}";
+
+    // Stored for accounts created without a password (bulk imports): it is not a BCrypt hash, so no input matches
+    // it and the user has to set a password through a reset before signing in
+    public static final String NO_PASSWORD = ENCODED_PREFIX + "!";
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    public PasswordService(PasswordEncoder encoder,
+                           @Value("${app.security.password.threads:0}") int threads,
+                           @Value("${app.security.password.queue-capacity:100}") int queueCapacity) {
+        // 0 means one thread per core: the work is pure CPU, more threads only add contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("app.security.password.queue-capacity must not be negative");
+        }
+        this.encoder = encoder;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Completes on the hashing pool; the caller's thread is free in the meantime
+    public CompletableFuture<Verification> verify(String rawPassword, String storedPassword) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (rawPassword == null || storedPassword == null || !encoder.matches(rawPassword, storedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgraded = encoder.upgradeEncoding(storedPassword) ? encoder.encode(rawPassword) : null;
+            return new Verification(true, upgraded);
+        }, executor);
+    }
+
+    // Blocking variant for signup and password changes, which are rare compared to logins
+    public String encode(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), executor).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // True for values this service produced; clients that echo a user back send the stored hash, not a new password
+    public boolean isEncoded(String password) {
+        return password != null && password.startsWith(ENCODED_PREFIX);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.springapp.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.model.ProfileSearchHit;
+import com.example.springapp.model.ProfileSearchSource;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.search.ProfileSearchIndex;
+
+import static com.example.springapp.service.TransactionHooks.afterCommit;
+
+// Keeps the in-memory profile search index in step with the database: every profile is loaded once the
+// application is ready, then profiles are re-indexed one at a time as they or their users are saved or deleted.
+// Changes made inside a transaction reach the index only after it commits.
+@Service
+public class ProfileSearchService {
+
+    private final EmployeeProfileRepository repo;
+    private final ProfileSearchIndex index = new ProfileSearchIndex();
+    private final int maxLimit;
+    private volatile boolean loaded;
+
+    public ProfileSearchService(EmployeeProfileRepository repo,
+                                @Value("${app.search.max-limit:100}") int maxLimit) {
+        this.repo = repo;
+        this.maxLimit = maxLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.rebuild(repo.findAllSearchSources());
+        loaded = true;
+    }
+
+    // False until the startup load has finished; callers fall back to the database meanwhile
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public List<ProfileSearchHit> search(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return index.search(query, Math.min(limit, maxLimit));
+    }
+
+    public void profileSaved(Long employeeProfileId) {
+        repo.findSearchSourceById(employeeProfileId).ifPresent(source -> afterCommit(() -> index.put(source)));
+    }
+
+    public void profileDeleted(Long employeeProfileId) {
+        afterCommit(() -> index.remove(employeeProfileId));
+    }
+
+    // A user's name or email is part of each of their profiles' entries
+    public void userSaved(Long userId) {
+        List<ProfileSearchSource> sources = repo.findSearchSourcesByUserId(userId);
+        afterCommit(() -> sources.forEach(index::put));
+    }
+
+    // Profiles inserted in bulk for the given users, in one query
+    public void usersImported(Collection<Long> userIds) {
+        List<ProfileSearchSource> sources = repo.findSearchSourcesByUserIdIn(userIds);
+        afterCommit(() -> sources.forEach(index::put));
+    }
+
+    // Call before the user's rows are deleted; the IDs are dropped from the index once that commits
+    public void userDeleting(Long userId) {
+        List<Long> ids = repo.findSearchSourcesByUserId(userId).stream()
+                .map(ProfileSearchSource::employeeProfileId)
+                .toList();
+        afterCommit(() -> ids.forEach(index::remove));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.springapp.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.logging.MdcTaskDecorator;
+import com.example.springapp.model.CycleLaunchJob;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+
+// Launching a review cycle creates a Draft appraisal for every eligible employee. The candidate IDs are read once,
+// cut into chunks and spread over a fixed number of partitions; each partition inserts its chunks one transaction
+// at a time on a bounded pool, so one large launch cannot take every database connection.
+@Service
+public class ReviewCycleLaunchService {
+
+    private static final int MAX_RETAINED_JOBS = 100;
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final ReviewCycleRepository cycleRepo;
+    private final EmployeeProfileRepository employeeRepo;
+    private final AppraisalService appraisalService;
+    private final int chunkSize;
+    private final int threads;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<Long, CycleLaunchJob> runningByCycle = new ConcurrentHashMap<>();
+    private final Map<String, CycleLaunchJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<String, CycleLaunchJob>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CycleLaunchJob> eldest) {
+                    return size() > MAX_RETAINED_JOBS;
+                }
+            });
+
+    public ReviewCycleLaunchService(ReviewCycleRepository cycleRepo,
+                                    EmployeeProfileRepository employeeRepo,
+                                    AppraisalService appraisalService,
+                                    @Value("${app.cycle-launch.chunk-size:500}") int chunkSize,
+                                    @Value("${app.cycle-launch.threads:4}") int threads) {
+        if (chunkSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("app.cycle-launch.chunk-size and app.cycle-launch.threads must be positive");
+        }
+        this.cycleRepo = cycleRepo;
+        this.employeeRepo = employeeRepo;
+        this.appraisalService = appraisalService;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+
+        // Private pool: a shared Executor bean would replace Spring Boot's default task executor
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(MAX_RETAINED_JOBS * threads);
+        executor.setThreadNamePrefix("cycle-launch-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Starts the launch and returns immediately; poll getJob for progress
+    public CycleLaunchJob launch(Long cycleId, String department) {
+        ReviewCycle cycle = cycleRepo.findById(cycleId)
+                .orElseThrow(() -> new EntityNotFoundException("ReviewCycle not found with ID " + cycleId));
+        String departmentFilter = department == null || department.isBlank() ? null : department.trim();
+
+        CycleLaunchJob job = new CycleLaunchJob(UUID.randomUUID().toString(), cycleId, departmentFilter);
+        CycleLaunchJob running = runningByCycle.putIfAbsent(cycleId, job);
+        if (running != null) {
+            throw new CycleLaunchInProgressException(cycleId, running.getJobId());
+        }
+        jobs.put(job.getJobId(), job);
+
+        try {
+            List<Long> candidates = employeeRepo.findLaunchCandidateIds(cycleId, departmentFilter);
+            job.setTotalEmployees(candidates.size());
+
+            List<CompletableFuture<Void>> partitions = new ArrayList<>();
+            for (List<List<Long>> partition : partition(candidates)) {
+                partitions.add(CompletableFuture.runAsync(() -> runPartition(job, cycle, partition), executor));
+            }
+            CompletableFuture.allOf(partitions.toArray(new CompletableFuture[0]))
+                    .whenComplete((ignored, failure) -> complete(job, failure));
+        } catch (RuntimeException e) {
+            complete(job, e);
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<CycleLaunchJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    // Chunks are dealt round-robin so every partition gets a similar share of the work
+    private List<List<List<Long>>> partition(List<Long> candidates) {
+        int chunks = (candidates.size() + chunkSize - 1) / chunkSize;
+        List<List<List<Long>>> partitions = new ArrayList<>();
+        for (int p = 0; p < Math.min(threads, chunks); p++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int c = 0; c < chunks; c++) {
+            int from = c * chunkSize;
+            List<Long> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+            partitions.get(c % partitions.size()).add(chunk);
+        }
+        return partitions;
+    }
+
+    // A failed chunk is recorded and the partition moves on; the rest of the launch still completes
+    private void runPartition(CycleLaunchJob job, ReviewCycle cycle, List<List<Long>> chunks) {
+        for (List<Long> chunk : chunks) {
+            try {
+                job.recordChunk(chunk.size(), createDrafts(cycle, chunk));
+            } catch (RuntimeException e) {
+                job.recordFailedChunk(chunk.size(), e);
+            }
+        }
+    }
+
+    // The unique (cycle, employee) index rejects a chunk when another instance's launch, or a single create, added an
+    // appraisal for one of its employees after the chunk checked; the retry skips that employee
+    private int createDrafts(ReviewCycle cycle, List<Long> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return appraisalService.createDraftAppraisals(cycle, chunk);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void complete(CycleLaunchJob job, Throwable failure) {
+        job.finish(failure);
+        runningByCycle.remove(job.getCycleId(), job);
+    }
+}
@@ -25,6 +25,10 @@ public class ReviewCycleService {
         return repo.findById(id);
     }
 
+    public Optional<Long> getReviewCycleVersion(Long id) {
+        return repo.findVersionById(id);
+    }
+
     public ReviewCycle createReviewCycle(ReviewCycle cycle) {
         return repo.save(cycle);
     }
@@ -0,0 +1,91 @@
+package com.example.springapp.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.SyncChanges;
+import com.example.springapp.model.SyncResult;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.TombstoneRepository;
+import com.example.springapp.repository.UserRepository;
+
+// Delta sync: one range scan on last_modified per entity table plus one on the tombstones, all in one read-only
+// transaction. Timestamps are set when a row is flushed, not when it commits, so a transaction that commits after
+// this read can carry a timestamp before it; the watermark handed back trails the read by app.sync.overlap to pick
+// such rows up on the next call.
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final UserRepository userRepo;
+    private final EmployeeProfileRepository profileRepo;
+    private final ReviewCycleRepository cycleRepo;
+    private final AppraisalRepository appraisalRepo;
+    private final GoalRepository goalRepo;
+    private final FeedbackRepository feedbackRepo;
+    private final TombstoneRepository tombstoneRepo;
+    private final Duration overlap;
+
+    public SyncService(UserRepository userRepo,
+                       EmployeeProfileRepository profileRepo,
+                       ReviewCycleRepository cycleRepo,
+                       AppraisalRepository appraisalRepo,
+                       GoalRepository goalRepo,
+                       FeedbackRepository feedbackRepo,
+                       TombstoneRepository tombstoneRepo,
+                       @Value("${app.sync.overlap:5s}") Duration overlap) {
+        this.userRepo = userRepo;
+        this.profileRepo = profileRepo;
+        this.cycleRepo = cycleRepo;
+        this.appraisalRepo = appraisalRepo;
+        this.goalRepo = goalRepo;
+        this.feedbackRepo = feedbackRepo;
+        this.tombstoneRepo = tombstoneRepo;
+        this.overlap = overlap;
+    }
+
+    // Without a watermark, every row (a client's first sync); deletions before it are of no interest
+    public SyncResult changesSince(LocalDateTime since) {
+        LocalDateTime watermark = LocalDateTime.now().minus(overlap);
+        if (since == null) {
+            return new SyncResult(watermark,
+                    new SyncChanges<>(userRepo.findAll(), List.of()),
+                    new SyncChanges<>(profileRepo.findAll(), List.of()),
+                    new SyncChanges<>(cycleRepo.findAll(), List.of()),
+                    new SyncChanges<>(appraisalRepo.findAll(), List.of()),
+                    new SyncChanges<>(goalRepo.findAll(), List.of()),
+                    new SyncChanges<>(feedbackRepo.findAll(), List.of()));
+        }
+        Map<String, List<Long>> deleted = tombstoneRepo.findDeletedSince(since);
+        return new SyncResult(watermark,
+                changes(User.class, userRepo::findModifiedSince, since, deleted),
+                changes(EmployeeProfile.class, profileRepo::findModifiedSince, since, deleted),
+                changes(ReviewCycle.class, cycleRepo::findModifiedSince, since, deleted),
+                changes(Appraisal.class, appraisalRepo::findModifiedSince, since, deleted),
+                changes(Goal.class, goalRepo::findModifiedSince, since, deleted),
+                changes(Feedback.class, feedbackRepo::findModifiedSince, since, deleted));
+    }
+
+    private static <T> SyncChanges<T> changes(Class<T> type, Function<LocalDateTime, List<T>> modifiedSince,
+                                              LocalDateTime since, Map<String, List<Long>> deleted) {
+        return new SyncChanges<>(modifiedSince.apply(since),
+                deleted.getOrDefault(TombstoneRepository.tableOf(type), List.of()));
+    }
+}
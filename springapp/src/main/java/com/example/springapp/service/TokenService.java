@@ -0,0 +1,69 @@
+package com.example.springapp.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+
+// Issues the bearer token returned by login. The claims are everything a request needs to know about its caller
+// (user id, role, employee profile id), so nothing is looked up per request.
+@Service
+public class TokenService {
+
+    public static final String ISSUER = "springapp";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EMPLOYEE_PROFILE_CLAIM = "employeeProfileId";
+
+    private final JwtEncoder encoder;
+    private final Duration ttl;
+
+    public TokenService(JwtEncoder encoder, @Value("${app.security.token.ttl:8h}") Duration ttl) {
+        this.encoder = encoder;
+        this.ttl = ttl;
+    }
+
+    public Jwt issue(User user) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(String.valueOf(user.getUserId()))
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(ROLE_CLAIM, user.getRole() != null ? user.getRole() : "");
+        Long employeeProfileId = employeeProfileId(user);
+        if (employeeProfileId != null) {
+            claims.claim(EMPLOYEE_PROFILE_CLAIM, employeeProfileId);
+        }
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims.build()));
+    }
+
+    // Users have at most one profile in practice; the first one is the caller's
+    static Long employeeProfileId(User user) {
+        List<EmployeeProfile> profiles = user.getEmployeeProfiles();
+        if (profiles == null || profiles.isEmpty()) {
+            return null;
+        }
+        return profiles.get(0).getEmployeeProfileId();
+    }
+
+    public static Long userId(Jwt jwt) {
+        return Long.valueOf(jwt.getSubject());
+    }
+
+    public static Long employeeProfileId(Jwt jwt) {
+        Object value = jwt.getClaim(EMPLOYEE_PROFILE_CLAIM);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
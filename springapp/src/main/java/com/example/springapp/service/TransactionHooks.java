@@ -0,0 +1,25 @@
+package com.example.springapp.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// In-memory indexes must not see changes that roll back
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // Runs the change once the current transaction commits, or right away outside a transaction
+    static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
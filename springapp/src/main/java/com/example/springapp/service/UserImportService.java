@@ -0,0 +1,393 @@
+package com.example.springapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.springapp.csv.CsvReader;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ImportRowError;
+import com.example.springapp.model.User;
+import com.example.springapp.model.UserIdentity;
+import com.example.springapp.model.UserImportReport;
+import com.example.springapp.repository.UserImportRepository;
+import com.example.springapp.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Bulk onboarding from CSV: one user per row, plus an employee profile when the file has profile columns. The file is
+// read a record at a time and handled in chunks of app.import.chunk-size rows. Each chunk is validated, checked for
+// duplicates in a single query, and inserted in one transaction with JDBC batches; a chunk that commits stays
+// committed, so later chunks see its users as existing ones. Rows that fail are reported by line and skipped.
+@Service
+public class UserImportService {
+
+    // Header names match case-insensitively, ignoring spaces, dashes and underscores ("Full Name", "full_name")
+    private enum Column {
+        EMAIL(false, User::getEmail),
+        FULL_NAME(false, User::getFullName),
+        FIRST_NAME(false, User::getFirstName),
+        LAST_NAME(false, User::getLastName),
+        USERNAME(false, User::getUsername),
+        PHONE_NUMBER(false, User::getPhoneNumber),
+        ROLE(false, User::getRole),
+        PASSWORD(false, null),
+        DEPARTMENT(true, null),
+        DESIGNATION(true, null),
+        DATE_OF_JOINING(true, null),
+        REPORTING_MANAGER(true, null),
+        CURRENT_PROJECT(true, null),
+        CURRENT_TEAM(true, null),
+        SKILLS(true, null);
+
+        final boolean profile;
+        final Function<User, String> userValue;
+
+        Column(boolean profile, Function<User, String> userValue) {
+            this.profile = profile;
+            this.userValue = userValue;
+        }
+
+        String key() {
+            return name().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Map<String, Column> COLUMNS_BY_KEY = new HashMap<>();
+    static {
+        for (Column column : Column.values()) {
+            COLUMNS_BY_KEY.put(column.key(), column);
+        }
+    }
+
+    // Plain VARCHAR columns; skills is TEXT
+    private static final int MAX_LENGTH = 255;
+
+    private final UserRepository userRepo;
+    private final UserImportRepository importRepo;
+    private final PasswordService passwordService;
+    private final ProfileSearchService searchService;
+    private final OrgHierarchyService hierarchyService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public UserImportService(UserRepository userRepo,
+                             UserImportRepository importRepo,
+                             PasswordService passwordService,
+                             ProfileSearchService searchService,
+                             OrgHierarchyService hierarchyService,
+                             TransactionTemplate transactionTemplate,
+                             EntityManagerFactory entityManagerFactory,
+                             Validator validator,
+                             @Value("${app.import.chunk-size:500}") int chunkSize,
+                             @Value("${app.import.max-errors:1000}") int maxErrors) {
+        if (chunkSize < 1 || maxErrors < 0) {
+            throw new IllegalArgumentException("app.import.chunk-size must be positive and app.import.max-errors not negative");
+        }
+        this.userRepo = userRepo;
+        this.importRepo = importRepo;
+        this.passwordService = passwordService;
+        this.searchService = searchService;
+        this.hierarchyService = hierarchyService;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    // The header must name email, fullName and phoneNumber; unknown columns are rejected so a typo is not silently
+    // dropped. Rows without a password get an account that needs a password reset before its first sign-in; rows
+    // with one are hashed at the configured BCrypt cost, which dominates the import time.
+    public UserImportReport importCsv(Reader input) throws IOException {
+        CsvReader csv = new CsvReader(input);
+        List<String> header = csv.readRecord();
+        if (header == null || header.isEmpty()) {
+            throw new IllegalArgumentException("The file is empty; expected a header row");
+        }
+        Column[] columns = resolveColumns(header);
+        boolean withProfiles = false;
+        for (Column column : columns) {
+            withProfiles |= column.profile;
+        }
+
+        Progress progress = new Progress();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        for (List<String> record = csv.readRecord(); record != null; record = csv.readRecord()) {
+            if (record.isEmpty()) {
+                continue;
+            }
+            progress.rows++;
+            if (record.size() != columns.length) {
+                progress.fail(csv.recordLine(), null, "Expected " + columns.length + " fields but found " + record.size());
+                continue;
+            }
+            chunk.add(toRow(csv.recordLine(), columns, record, withProfiles));
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+        if (progress.profilesCreated > 0) {
+            // Resolves the imported reporting-manager names in bulk, in both directions
+            hierarchyService.rebuild();
+        }
+        return new UserImportReport(progress.rows, progress.usersCreated, progress.profilesCreated, progress.failed,
+                progress.errors, progress.failed > progress.errors.size());
+    }
+
+    private void importChunk(List<Row> chunk, Progress progress) {
+        List<Row> candidates = validate(chunk, progress);
+        candidates = withoutDuplicates(candidates, progress);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        for (Row row : candidates) {
+            String password = row.user.getPassword();
+            row.user.setPassword(password == null ? PasswordService.NO_PASSWORD : passwordService.encode(password));
+        }
+
+        List<Row> inserted = candidates;
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(inserted));
+        } catch (DataAccessException e) {
+            // Typically a row inserted concurrently through the API between the duplicate check and the insert
+            for (Row row : candidates) {
+                progress.fail(row.line, row.user.getEmail(), "Not imported: the database rejected this chunk ("
+                        + e.getMostSpecificCause().getClass().getSimpleName() + ")");
+            }
+            return;
+        }
+        // The inserts bypassed Hibernate, so cached query results over users (e.g. users by role) are stale
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+        progress.usersCreated += candidates.size();
+        for (Row row : candidates) {
+            if (row.profile != null) {
+                progress.profilesCreated++;
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        List<User> users = new ArrayList<>(rows.size());
+        rows.forEach(row -> users.add(row.user));
+        importRepo.insertUsers(users);
+
+        Map<String, Long> idsByEmail = new HashMap<>();
+        for (UserIdentity identity : userRepo.findIdentitiesByEmailIn(users.stream().map(User::getEmail).toList())) {
+            idsByEmail.put(identity.getEmail(), identity.getUserId());
+        }
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            row.user.setUserId(idsByEmail.get(row.user.getEmail()));
+            userIds.add(row.user.getUserId());
+            if (row.profile != null) {
+                profiles.add(row.profile);
+            }
+        }
+        if (!profiles.isEmpty()) {
+            importRepo.insertProfiles(profiles);
+            searchService.usersImported(userIds);
+        }
+    }
+
+    // Required fields, email format, column lengths and the joining date's format, row by row
+    private List<Row> validate(List<Row> chunk, Progress progress) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String error = null;
+            // The bean constraints require a password; a missing one is allowed here and replaced later
+            String password = row.user.getPassword();
+            row.user.setPassword(password == null ? PasswordService.NO_PASSWORD : password);
+            for (ConstraintViolation<User> violation : validator.validate(row.user)) {
+                error = violation.getMessage();
+                break;
+            }
+            row.user.setPassword(password);
+            if (error == null) {
+                error = tooLong(row);
+            }
+            if (error == null && row.profile != null) {
+                try {
+                    row.profile.setDateOfJoining(EmployeeProfileService.normalizeDateOfJoining(row.profile.getDateOfJoining()));
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                progress.fail(row.line, row.user.getEmail(), error);
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    // Repeats within the chunk, then existing users, found with one query for the whole chunk
+    private List<Row> withoutDuplicates(List<Row> rows, Progress progress) {
+        Set<String> emails = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        List<Row> unique = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            User user = row.user;
+            if (!emails.add(user.getEmail().toLowerCase(Locale.ROOT))) {
+                progress.fail(row.line, user.getEmail(), "Email appears more than once in the file");
+            } else if (user.getUsername() != null && !usernames.add(user.getUsername())) {
+                progress.fail(row.line, user.getEmail(), "Username appears more than once in the file");
+            } else if (!phoneNumbers.add(user.getPhoneNumber())) {
+                progress.fail(row.line, user.getEmail(), "Phone number appears more than once in the file");
+            } else {
+                unique.add(row);
+            }
+        }
+        if (unique.isEmpty()) {
+            return unique;
+        }
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenPhoneNumbers = new HashSet<>();
+        for (UserIdentity existing : userRepo.findIdentitiesMatching(
+                unique.stream().map(row -> row.user.getEmail()).toList(),
+                unique.stream().map(row -> row.user.getUsername()).filter(username -> username != null).toList(),
+                unique.stream().map(row -> row.user.getPhoneNumber()).toList())) {
+            if (existing.getEmail() != null) {
+                takenEmails.add(existing.getEmail().toLowerCase(Locale.ROOT));
+            }
+            if (existing.getUsername() != null) {
+                takenUsernames.add(existing.getUsername());
+            }
+            takenPhoneNumbers.add(existing.getPhoneNumber());
+        }
+        List<Row> fresh = new ArrayList<>(unique.size());
+        for (Row row : unique) {
+            User user = row.user;
+            if (takenEmails.contains(user.getEmail().toLowerCase(Locale.ROOT))) {
+                progress.fail(row.line, user.getEmail(), "Email already registered");
+            } else if (user.getUsername() != null && takenUsernames.contains(user.getUsername())) {
+                progress.fail(row.line, user.getEmail(), "Username already exists");
+            } else if (takenPhoneNumbers.contains(user.getPhoneNumber())) {
+                progress.fail(row.line, user.getEmail(), "Phone number already registered");
+            } else {
+                fresh.add(row);
+            }
+        }
+        return fresh;
+    }
+
+    private static String tooLong(Row row) {
+        for (Column column : Column.values()) {
+            String value = column.userValue != null ? column.userValue.apply(row.user) : null;
+            if (value != null && value.length() > MAX_LENGTH) {
+                return column.key() + " is longer than " + MAX_LENGTH + " characters";
+            }
+        }
+        EmployeeProfile profile = row.profile;
+        if (profile != null) {
+            for (String value : new String[] {profile.getDepartment(), profile.getDesignation(), profile.getDateOfJoining(),
+                    profile.getReportingManager(), profile.getCurrentProject(), profile.getCurrentTeam()}) {
+                if (value != null && value.length() > MAX_LENGTH) {
+                    return "A profile field is longer than " + MAX_LENGTH + " characters";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Column[] resolveColumns(List<String> header) {
+        Map<Column, Integer> seen = new LinkedHashMap<>();
+        Column[] columns = new Column[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            String key = header.get(i).replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+            Column column = COLUMNS_BY_KEY.get(key);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column '" + header.get(i).trim() + "'");
+            }
+            if (seen.put(column, i) != null) {
+                throw new IllegalArgumentException("Column '" + header.get(i).trim() + "' appears twice");
+            }
+            columns[i] = column;
+        }
+        for (Column required : new Column[] {Column.EMAIL, Column.FULL_NAME, Column.PHONE_NUMBER}) {
+            if (!seen.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column '" + required.key() + "'");
+            }
+        }
+        return columns;
+    }
+
+    private static Row toRow(long line, Column[] columns, List<String> record, boolean withProfile) {
+        User user = new User();
+        EmployeeProfile profile = withProfile ? new EmployeeProfile() : null;
+        for (int i = 0; i < columns.length; i++) {
+            String value = record.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns[i]) {
+                case EMAIL -> user.setEmail(value);
+                case FULL_NAME -> user.setFullName(value);
+                case FIRST_NAME -> user.setFirstName(value);
+                case LAST_NAME -> user.setLastName(value);
+                case USERNAME -> user.setUsername(value);
+                case PHONE_NUMBER -> user.setPhoneNumber(value);
+                case ROLE -> user.setRole(value);
+                case PASSWORD -> user.setPassword(value);
+                case DEPARTMENT -> profile.setDepartment(value);
+                case DESIGNATION -> profile.setDesignation(value);
+                case DATE_OF_JOINING -> profile.setDateOfJoining(value);
+                case REPORTING_MANAGER -> profile.setReportingManager(value);
+                case CURRENT_PROJECT -> profile.setCurrentProject(value);
+                case CURRENT_TEAM -> profile.setCurrentTeam(value);
+                case SKILLS -> profile.setSkills(value);
+            }
+        }
+        if (user.getRole() == null) {
+            user.setRole("Employee");
+        }
+        if (profile != null) {
+            profile.setUser(user);
+        }
+        return new Row(line, user, profile);
+    }
+
+    private record Row(long line, User user, EmployeeProfile profile) { }
+
+    private final class Progress {
+        int rows;
+        int usersCreated;
+        int profilesCreated;
+        int failed;
+        final List<ImportRowError> errors = new ArrayList<>();
+
+        void fail(long line, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportRowError(line, email, message));
+            }
+        }
+    }
+}
@@ -2,21 +2,33 @@ package com.example.springapp.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.springapp.model.User;
+import com.example.springapp.model.UserSummary;
 import com.example.springapp.repository.UserRepository;
 
 @Service
 @Transactional
 public class UserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository repo;
+    private final PasswordService passwordService;
+    private final ProfileSearchService searchService;
 
-    public UserService(UserRepository repo) {
+    public UserService(UserRepository repo, PasswordService passwordService, ProfileSearchService searchService) {
         this.repo = repo;
+        this.passwordService = passwordService;
+        this.searchService = searchService;
     }
 
     // ✅ Get all users
@@ -24,24 +36,30 @@ public class UserService {
         return repo.findAll();
     }
 
+    // ✅ Get lightweight summaries of all users
+    public List<UserSummary> getUserSummaries() {
+        return repo.findAllProjectedByOrderByUserIdAsc();
+    }
+
+    // Single-row projection for the signed-in user; no entity or profile collection is loaded
+    public Optional<UserSummary> getUserSummary(Long id) {
+        return repo.findProjectedByUserId(id);
+    }
+
     // ✅ Get users by role (e.g., only employees)
     public List<User> getUsersByRole(String role) {
         return repo.findByRole(role);
     }
 
-    // ✅ Get user by ID
+    // ✅ Get user by ID (a second-level cache hit ignores the entity graph, so profiles are resolved here)
     public Optional<User> getUserById(Long id) {
-        return repo.findById(id);
+        Optional<User> user = repo.findById(id);
+        user.ifPresent(u -> Hibernate.initialize(u.getEmployeeProfiles()));
+        return user;
     }
 
     // ✅ Create new user
     public User createUser(User user) {
-        System.out.println("=== CREATE USER DEBUG ===");
-        System.out.println("Email: " + user.getEmail());
-        System.out.println("FullName: " + user.getFullName());
-        System.out.println("Phone: " + user.getPhoneNumber());
-        System.out.println("Role: " + user.getRole());
-
         // Validate required fields
         if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
             throw new IllegalArgumentException("Email is required!");
@@ -78,25 +96,38 @@ public class UserService {
                 throw new IllegalArgumentException("Phone number already registered!");
             }
 
+            // Hashed only once the cheap checks have passed
+            user.setPassword(passwordService.encode(user.getPassword()));
             User saved = repo.save(user);
-            System.out.println("User created successfully with ID: " + saved.getUserId());
+            log.info("Created user {} with role {}", saved.getUserId(), saved.getRole());
             return saved;
-        } catch (IllegalArgumentException e) {
-            // Re-throw validation errors
+        } catch (IllegalArgumentException | RejectedExecutionException e) {
+            // Re-throw validation errors and hashing pool overload
             throw e;
         } catch (Exception e) {
-            System.err.println("Error saving user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to save new user", e);
             throw new RuntimeException("Failed to create user: " + e.getMessage(), e);
         }
     }
 
     // ✅ Update existing user
     public User updateUser(User user) {
+        if (user.getUserId() != null) {
+            String password = user.getPassword();
+            if (password == null || password.isBlank() || passwordService.isEncoded(password)) {
+                // The client echoed the stored hash back (or sent none): keep what is stored
+                repo.findPasswordById(user.getUserId()).ifPresent(user::setPassword);
+            } else {
+                user.setPassword(passwordService.encode(password));
+            }
+        }
         if (user.getEmployeeProfiles() != null) {
             user.getEmployeeProfiles().forEach(profile -> profile.setUser(user));
         }
-        return repo.save(user);
+        User saved = repo.save(user);
+        // Name and email are searchable through the user's profiles
+        searchService.userSaved(saved.getUserId());
+        return saved;
     }
 
     // ✅ Delete user by ID
@@ -104,14 +135,13 @@ public class UserService {
         if (!repo.existsById(id)) {
             throw new RuntimeException("User not found with ID: " + id);
         }
+        searchService.userDeleting(id);
         repo.deleteById(id);
     }
 
-    // ✅ Authenticate user (email or phone + password)
-    public User authenticateUser(String email, String phoneNumber, String password) {
-        System.out.println("=== AUTHENTICATION DEBUG ===");
-        System.out.println("Email: " + email + " | Phone: " + phoneNumber);
-
+    // ✅ Authenticate user (email or phone + password); the hash check completes on the password pool.
+    // Legacy plaintext rows are re-hashed on their first successful login.
+    public CompletableFuture<User> authenticateUser(String email, String phoneNumber, String password) {
         Optional<User> userOpt = Optional.empty();
 
         if (email != null && !email.isBlank()) {
@@ -121,33 +151,38 @@ public class UserService {
         }
 
         if (userOpt.isEmpty()) {
+            log.debug("Login rejected: no matching account");
             throw new RuntimeException("User not found");
         }
 
         User user = userOpt.get();
+        String storedPassword = user.getPassword();
 
-        if (password != null && password.equals(user.getPassword())) {
-            System.out.println("Authentication successful for: " + user.getEmail());
+        return passwordService.verify(password, storedPassword).thenApply(result -> {
+            if (!result.matches()) {
+                log.debug("Login rejected for user {}: wrong password", user.getUserId());
+                throw new RuntimeException("Invalid credentials");
+            }
+            if (result.upgradedHash() != null
+                    && repo.updatePasswordIfUnchanged(user.getUserId(), storedPassword, result.upgradedHash()) == 1) {
+                user.setPassword(result.upgradedHash());
+            }
+            log.debug("User {} signed in", user.getUserId());
             return user;
-        }
-
-        throw new RuntimeException("Invalid credentials");
+        });
     }
 
     // ✅ Reset user password
     public User resetPassword(String email, String newPassword) {
-        System.out.println("=== PASSWORD RESET DEBUG ===");
-        System.out.println("Email: " + email);
-
         Optional<User> userOpt = repo.findByEmail(email.trim());
         if (userOpt.isEmpty()) {
             throw new RuntimeException("User not found with email: " + email);
         }
 
         User user = userOpt.get();
-        user.setPassword(newPassword);
+        user.setPassword(passwordService.encode(newPassword));
         User updated = repo.save(user);
-        System.out.println("Password reset successfully for: " + updated.getEmail());
+        log.info("Password reset for user {}", updated.getUserId());
         return updated;
     }
 }
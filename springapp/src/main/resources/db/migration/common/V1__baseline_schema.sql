@@ -0,0 +1,102 @@
+-- Schema as Hibernate's ddl-auto=update built it before the migrations existed, so those databases are baselined at
+-- this version. Everything added since then goes into a later migration that checks whether the column, sequence or
+-- index is already there (databases updated by ddl-auto may have some of them).
+-- Written in MySQL syntax that H2 also accepts in MySQL mode (the test database).
+-- Goal and appraisal ids come from pooled sequences, created per database in V1_1.
+
+CREATE TABLE users (
+    user_id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    username VARCHAR(255),
+    phone_number VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE employee_profiles (
+    employee_profile_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    department VARCHAR(255),
+    designation VARCHAR(255),
+    date_of_joining VARCHAR(255),
+    reporting_manager VARCHAR(255),
+    current_project VARCHAR(255),
+    current_team VARCHAR(255),
+    skills TEXT,
+    current_goals TEXT,
+    last_appraisal_rating DOUBLE,
+    PRIMARY KEY (employee_profile_id),
+    CONSTRAINT fk_employee_profiles_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE review_cycles (
+    cycle_id BIGINT NOT NULL AUTO_INCREMENT,
+    cycle_name VARCHAR(255) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    description TEXT,
+    PRIMARY KEY (cycle_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE appraisals (
+    appraisal_id BIGINT NOT NULL,
+    employee_id BIGINT,
+    cycle_id BIGINT,
+    cycle_name VARCHAR(255),
+    status VARCHAR(255),
+    self_rating INT,
+    manager_rating INT,
+    manager_name VARCHAR(255),
+    manager_comments TEXT,
+    reviewer_role VARCHAR(255),
+    appraisal_date DATE,
+    review_date DATE,
+    period_start DATE,
+    period_end DATE,
+    PRIMARY KEY (appraisal_id),
+    CONSTRAINT fk_appraisals_employee FOREIGN KEY (employee_id) REFERENCES employee_profiles (employee_profile_id),
+    CONSTRAINT fk_appraisals_cycle FOREIGN KEY (cycle_id) REFERENCES review_cycles (cycle_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE goals (
+    goal_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    category VARCHAR(255),
+    priority VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    progress INT,
+    start_date DATE,
+    target_date DATE,
+    completion_date DATE,
+    created_by VARCHAR(255),
+    created_date DATETIME(6),
+    manager_comments TEXT,
+    employee_id BIGINT,
+    appraisal_id BIGINT,
+    PRIMARY KEY (goal_id),
+    CONSTRAINT fk_goals_employee FOREIGN KEY (employee_id) REFERENCES employee_profiles (employee_profile_id),
+    CONSTRAINT fk_goals_appraisal FOREIGN KEY (appraisal_id) REFERENCES appraisals (appraisal_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE feedbacks (
+    feedback_id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT,
+    reviewer_id BIGINT,
+    feedback_type VARCHAR(255),
+    rating INT,
+    comments TEXT,
+    achievements TEXT,
+    challenges TEXT,
+    improvements TEXT,
+    created_date DATETIME(6),
+    PRIMARY KEY (feedback_id),
+    CONSTRAINT fk_feedbacks_employee FOREIGN KEY (employee_id) REFERENCES employee_profiles (employee_profile_id),
+    CONSTRAINT fk_feedbacks_reviewer FOREIGN KEY (reviewer_id) REFERENCES users (user_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,22 @@
+-- Optimistic locking versions (@Version) for the entities the client edits; existing rows start at 0.
+ALTER TABLE goals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE feedbacks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE appraisals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE employee_profiles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE review_cycles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- One counter per table, incremented by every transaction that writes to it (VersionTags). List and entity ETags are
+-- built from these, so a conditional GET reads a few rows by primary key instead of the tables themselves.
+CREATE TABLE table_versions (
+    table_name VARCHAR(64) NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (table_name)
+) ENGINE=InnoDB;
+
+INSERT INTO table_versions (table_name, version) VALUES
+    ('users', 0),
+    ('employee_profiles', 0),
+    ('review_cycles', 0),
+    ('appraisals', 0),
+    ('goals', 0),
+    ('feedbacks', 0);
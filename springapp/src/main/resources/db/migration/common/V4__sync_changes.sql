@@ -0,0 +1,25 @@
+-- Audit timestamp of the last insert or update, for GET /api/sync?since=. Existing rows count as changed now.
+ALTER TABLE users ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE employee_profiles ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE review_cycles ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE appraisals ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE goals ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE feedbacks ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- findModifiedSince: a range scan over the rows changed after the watermark
+CREATE INDEX idx_users_last_modified ON users (last_modified);
+CREATE INDEX idx_employee_profiles_last_modified ON employee_profiles (last_modified);
+CREATE INDEX idx_review_cycles_last_modified ON review_cycles (last_modified);
+CREATE INDEX idx_appraisals_last_modified ON appraisals (last_modified);
+CREATE INDEX idx_goals_last_modified ON goals (last_modified);
+CREATE INDEX idx_feedbacks_last_modified ON feedbacks (last_modified);
+
+-- Ids of deleted rows, written in the deleting transaction (TombstoneListener), so sync clients can drop them too
+CREATE TABLE sync_tombstones (
+    table_name VARCHAR(64) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (table_name, entity_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_sync_tombstones_deleted ON sync_tombstones (deleted_at);
@@ -0,0 +1,3 @@
+-- Mean manager rating of the employee's most recent Completed appraisals; like last_appraisal_rating it is
+-- recomputed from the appraisals table whenever one of them changes (AppraisalRatingService)
+ALTER TABLE employee_profiles ADD COLUMN average_appraisal_rating DOUBLE;
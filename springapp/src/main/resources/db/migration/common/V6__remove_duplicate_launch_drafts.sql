@@ -0,0 +1,29 @@
+-- Before V7 made (cycle_id, employee_id) unique, two instances launching one cycle could both create an employee's
+-- draft. Such a duplicate is an untouched Draft (no ratings, comments or goals) next to another appraisal of the same
+-- employee in the same cycle; it is removed, keeping the other one, or the oldest when all of them are untouched.
+-- Any other duplicate is left for an administrator to resolve, and V7 fails until then.
+CREATE TABLE duplicate_launch_drafts (
+    appraisal_id BIGINT NOT NULL,
+    PRIMARY KEY (appraisal_id)
+) ENGINE=InnoDB;
+
+INSERT INTO duplicate_launch_drafts (appraisal_id)
+SELECT DISTINCT d.appraisal_id
+FROM appraisals d
+JOIN appraisals o ON o.cycle_id = d.cycle_id AND o.employee_id = d.employee_id AND o.appraisal_id <> d.appraisal_id
+WHERE d.status = 'Draft' AND COALESCE(d.self_rating, 0) = 0 AND COALESCE(d.manager_rating, 0) = 0
+  AND d.manager_comments IS NULL
+  AND NOT EXISTS (SELECT 1 FROM goals g WHERE g.appraisal_id = d.appraisal_id)
+  AND (o.appraisal_id < d.appraisal_id
+       OR o.status <> 'Draft' OR COALESCE(o.self_rating, 0) <> 0 OR COALESCE(o.manager_rating, 0) <> 0
+       OR o.manager_comments IS NOT NULL);
+
+-- Delta sync clients drop them like any other deleted appraisal, and cached list tags no longer match
+INSERT INTO sync_tombstones (table_name, entity_id, deleted_at)
+SELECT 'appraisals', appraisal_id, CURRENT_TIMESTAMP(6) FROM duplicate_launch_drafts;
+
+DELETE FROM appraisals WHERE appraisal_id IN (SELECT appraisal_id FROM duplicate_launch_drafts);
+
+UPDATE table_versions SET version = version + 1 WHERE table_name = 'appraisals';
+
+DROP TABLE duplicate_launch_drafts;
@@ -0,0 +1,7 @@
+-- date_of_joining is compared as an ISO yyyy-MM-dd string (the admin dashboard's newly joined count), and profile
+-- writes now store only that form. Values saved earlier as a full ISO date-time keep their date part.
+UPDATE employee_profiles
+SET date_of_joining = SUBSTRING(date_of_joining, 1, 10), version = version + 1, last_modified = CURRENT_TIMESTAMP(6)
+WHERE date_of_joining LIKE '____-__-__T%';
+
+UPDATE table_versions SET version = version + 1 WHERE table_name = 'employee_profiles';
@@ -0,0 +1,3 @@
+-- Pooled id sequences for goals and appraisals; the increment must match the entities' allocationSize
+CREATE SEQUENCE IF NOT EXISTS goals_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS appraisals_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- EmployeeProfile.manager: the resolved reporting manager (OrgHierarchyService fills it from reporting_manager)
+ALTER TABLE employee_profiles ADD COLUMN IF NOT EXISTS manager_id BIGINT;
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_manager ON employee_profiles (manager_id);
+ALTER TABLE employee_profiles ADD CONSTRAINT IF NOT EXISTS fk_employee_profiles_manager
+    FOREIGN KEY (manager_id) REFERENCES employee_profiles (employee_profile_id);
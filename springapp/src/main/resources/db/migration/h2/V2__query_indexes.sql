@@ -0,0 +1,40 @@
+-- One index per repository lookup, composite where a finder filters on two columns so the pair is a single range.
+-- RepositoryQueryPlanTest fails when a repository query would scan a whole table instead.
+
+-- findByUsername, findByPhoneNumber
+CREATE INDEX IF NOT EXISTS idx_users_username ON users (username);
+CREATE INDEX IF NOT EXISTS idx_users_phone_number ON users (phone_number);
+-- findByRole
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
+
+-- findByUserUserId and the User.withProfiles fetch
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_user ON employee_profiles (user_id);
+-- findByDepartment, findByDesignation, findByReportingManager
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_department ON employee_profiles (department);
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_designation ON employee_profiles (designation);
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_reporting_manager ON employee_profiles (reporting_manager);
+
+-- The status counts and keyset filter; a cycle's appraisals by employee (launch check, cycle export)
+CREATE INDEX IF NOT EXISTS idx_appraisals_status ON appraisals (status);
+CREATE INDEX IF NOT EXISTS idx_appraisals_cycle_employee ON appraisals (cycle_id, employee_id);
+-- findByEmployee_EmployeeProfileId and the employee's appraisal history
+CREATE INDEX IF NOT EXISTS idx_appraisals_employee ON appraisals (employee_id);
+
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_goals_status ON goals (status);
+-- findByEmployee_EmployeeProfileId(AndStatus) and the per-employee status counts
+CREATE INDEX IF NOT EXISTS idx_goals_employee_status ON goals (employee_id, status);
+-- findByAppraisal_AppraisalId and the cycle export's goal summaries
+CREATE INDEX IF NOT EXISTS idx_goals_appraisal ON goals (appraisal_id);
+-- findByCreatedBy, findByCategory
+CREATE INDEX IF NOT EXISTS idx_goals_created_by ON goals (created_by);
+CREATE INDEX IF NOT EXISTS idx_goals_category ON goals (category);
+
+-- findByEmployee_EmployeeProfileId(AndFeedbackType)
+CREATE INDEX IF NOT EXISTS idx_feedbacks_employee_type ON feedbacks (employee_id, feedback_type);
+-- Recent feedback for an employee (newest first) and the cycle export's created-date window
+CREATE INDEX IF NOT EXISTS idx_feedbacks_employee_created ON feedbacks (employee_id, created_date);
+-- findByReviewer_UserId, findByFeedbackType, findByRating
+CREATE INDEX IF NOT EXISTS idx_feedbacks_reviewer ON feedbacks (reviewer_id);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_type ON feedbacks (feedback_type);
+CREATE INDEX IF NOT EXISTS idx_feedbacks_rating ON feedbacks (rating);
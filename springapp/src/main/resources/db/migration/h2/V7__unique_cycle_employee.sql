@@ -0,0 +1,4 @@
+-- One appraisal per employee per review cycle, so a cycle launched on two instances at once cannot create an
+-- employee's draft twice. Appraisals without a cycle are not affected.
+DROP INDEX IF EXISTS idx_appraisals_cycle_employee;
+CREATE UNIQUE INDEX idx_appraisals_cycle_employee ON appraisals (cycle_id, employee_id);
@@ -0,0 +1,18 @@
+-- MySQL has no sequences; Hibernate emulates goals_seq and appraisals_seq with single-row tables.
+-- Start past any ids assigned while goals and appraisals were AUTO_INCREMENT; the extra 50 covers one pooled block.
+-- A database updated by ddl-auto after the switch to sequences already has the tables, possibly still at 1, so they
+-- are only created when missing and moved forward, never back.
+
+CREATE TABLE IF NOT EXISTS goals_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO goals_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM goals_seq);
+UPDATE goals_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(goal_id), 0) + 51 FROM goals));
+
+CREATE TABLE IF NOT EXISTS appraisals_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO appraisals_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM appraisals_seq);
+UPDATE appraisals_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(appraisal_id), 0) + 51 FROM appraisals));
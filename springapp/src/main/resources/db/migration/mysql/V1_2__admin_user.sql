@@ -0,0 +1,6 @@
+-- Initial admin account (formerly data-init.sql). The plaintext password is hashed on first login.
+-- Inserted once and only if the email is free, so a changed admin password is never reset.
+INSERT INTO users (username, email, password, first_name, last_name, full_name, phone_number, role)
+SELECT 'admin', 'admin@appraise360.com', 'Admin@123', 'Admin', 'User', 'Admin User', '5550000000', 'Admin'
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'admin@appraise360.com');
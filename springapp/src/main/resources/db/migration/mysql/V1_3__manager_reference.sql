@@ -0,0 +1,24 @@
+-- EmployeeProfile.manager: the resolved reporting manager (OrgHierarchyService fills it from reporting_manager).
+-- ddl-auto may already have added the column with a foreign key of its own; then only the index is added.
+
+DROP PROCEDURE IF EXISTS add_manager_reference;
+
+DELIMITER //
+CREATE PROCEDURE add_manager_reference()
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = 'employee_profiles' AND column_name = 'manager_id') THEN
+        ALTER TABLE employee_profiles ADD COLUMN manager_id BIGINT;
+        ALTER TABLE employee_profiles ADD CONSTRAINT fk_employee_profiles_manager
+            FOREIGN KEY (manager_id) REFERENCES employee_profiles (employee_profile_id);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = 'employee_profiles'
+                     AND index_name = 'idx_employee_profiles_manager') THEN
+        CREATE INDEX idx_employee_profiles_manager ON employee_profiles (manager_id);
+    END IF;
+END //
+DELIMITER ;
+
+CALL add_manager_reference();
+DROP PROCEDURE add_manager_reference;
@@ -0,0 +1,59 @@
+-- One index per repository lookup, composite where a finder filters on two columns so the pair is a single range.
+-- RepositoryQueryPlanTest fails when a repository query would scan a whole table instead.
+-- Databases updated by ddl-auto already have some of these from the entities' former @Index annotations, so each one
+-- is created only when no index of that name exists on the table.
+
+DROP PROCEDURE IF EXISTS create_index_if_missing;
+
+DELIMITER //
+CREATE PROCEDURE create_index_if_missing(IN table_name_in VARCHAR(64), IN index_name_in VARCHAR(64), IN columns_in VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = table_name_in AND index_name = index_name_in) THEN
+        SET @create_index = CONCAT('CREATE INDEX ', index_name_in, ' ON ', table_name_in, ' (', columns_in, ')');
+        PREPARE create_index FROM @create_index;
+        EXECUTE create_index;
+        DEALLOCATE PREPARE create_index;
+    END IF;
+END //
+DELIMITER ;
+
+-- findByUsername, findByPhoneNumber
+CALL create_index_if_missing('users', 'idx_users_username', 'username');
+CALL create_index_if_missing('users', 'idx_users_phone_number', 'phone_number');
+-- findByRole
+CALL create_index_if_missing('users', 'idx_users_role', 'role');
+
+-- findByUserUserId and the User.withProfiles fetch
+CALL create_index_if_missing('employee_profiles', 'idx_employee_profiles_user', 'user_id');
+-- findByDepartment, findByDesignation, findByReportingManager
+CALL create_index_if_missing('employee_profiles', 'idx_employee_profiles_department', 'department');
+CALL create_index_if_missing('employee_profiles', 'idx_employee_profiles_designation', 'designation');
+CALL create_index_if_missing('employee_profiles', 'idx_employee_profiles_reporting_manager', 'reporting_manager');
+
+-- The status counts and keyset filter; a cycle's appraisals by employee (launch check, cycle export)
+CALL create_index_if_missing('appraisals', 'idx_appraisals_status', 'status');
+CALL create_index_if_missing('appraisals', 'idx_appraisals_cycle_employee', 'cycle_id, employee_id');
+-- findByEmployee_EmployeeProfileId and the employee's appraisal history
+CALL create_index_if_missing('appraisals', 'idx_appraisals_employee', 'employee_id');
+
+-- findByStatus
+CALL create_index_if_missing('goals', 'idx_goals_status', 'status');
+-- findByEmployee_EmployeeProfileId(AndStatus) and the per-employee status counts
+CALL create_index_if_missing('goals', 'idx_goals_employee_status', 'employee_id, status');
+-- findByAppraisal_AppraisalId and the cycle export's goal summaries
+CALL create_index_if_missing('goals', 'idx_goals_appraisal', 'appraisal_id');
+-- findByCreatedBy, findByCategory
+CALL create_index_if_missing('goals', 'idx_goals_created_by', 'created_by');
+CALL create_index_if_missing('goals', 'idx_goals_category', 'category');
+
+-- findByEmployee_EmployeeProfileId(AndFeedbackType)
+CALL create_index_if_missing('feedbacks', 'idx_feedbacks_employee_type', 'employee_id, feedback_type');
+-- Recent feedback for an employee (newest first) and the cycle export's created-date window
+CALL create_index_if_missing('feedbacks', 'idx_feedbacks_employee_created', 'employee_id, created_date');
+-- findByReviewer_UserId, findByFeedbackType, findByRating
+CALL create_index_if_missing('feedbacks', 'idx_feedbacks_reviewer', 'reviewer_id');
+CALL create_index_if_missing('feedbacks', 'idx_feedbacks_type', 'feedback_type');
+CALL create_index_if_missing('feedbacks', 'idx_feedbacks_rating', 'rating');
+
+DROP PROCEDURE create_index_if_missing;
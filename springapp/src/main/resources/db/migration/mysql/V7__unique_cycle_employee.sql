@@ -0,0 +1,6 @@
+-- One appraisal per employee per review cycle, so a cycle launched on two instances at once cannot create an
+-- employee's draft twice. Appraisals without a cycle are not affected. Dropped and re-added in one statement because
+-- the index also backs fk_appraisals_cycle.
+ALTER TABLE appraisals
+    DROP INDEX idx_appraisals_cycle_employee,
+    ADD UNIQUE INDEX idx_appraisals_cycle_employee (cycle_id, employee_id);
@@ -0,0 +1,148 @@
+package com.example.springapp.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+// Requests queue in arrival order for a connection slot and get a 503 instead of a pool timeout when none frees up
+class ConnectionAdmissionFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void waitingRequestsGetTheSlotInArrivalOrder() throws Exception {
+        ConnectionAdmissionFilter filter = filter(1, 10, Duration.ofSeconds(10));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = send(filter, "/api/goals", (req, res) -> {
+            holding.countDown();
+            await(release);
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger order = new AtomicInteger();
+        int[] ranAt = new int[3];
+        List<CompletableFuture<MockHttpServletResponse>> queued = new ArrayList<>();
+        for (int i = 0; i < ranAt.length; i++) {
+            int request = i;
+            queued.add(send(filter, "/api/goals", (req, res) -> ranAt[request] = order.incrementAndGet()));
+            awaitWaiting(i + 1);
+        }
+        assertEquals(1.0, registry.get("app.admission.active").gauge().value());
+
+        release.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+        for (CompletableFuture<MockHttpServletResponse> response : queued) {
+            assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatus());
+        }
+        assertEquals(List.of(1, 2, 3), List.of(ranAt[0], ranAt[1], ranAt[2]));
+        assertEquals(0.0, registry.get("app.admission.active").gauge().value());
+        assertEquals(0.0, registry.get("app.admission.rejected").counter().count());
+    }
+
+    @Test
+    void requestsThatCannotGetASlotInTimeAreTurnedAway() throws Exception {
+        ConnectionAdmissionFilter filter = filter(1, 1, Duration.ofMillis(200));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = send(filter, "/api/goals", (req, res) -> {
+            holding.countDown();
+            await(release);
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // Waited max-wait without a slot
+        MockHttpServletResponse timedOut = send(filter, "/api/goals", (req, res) -> { }).get(5, TimeUnit.SECONDS);
+        assertEquals(503, timedOut.getStatus());
+        assertEquals("1", timedOut.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(timedOut.getContentAsString().contains("\"status\":503"));
+
+        // The queue is full: rejected without waiting
+        CompletableFuture<MockHttpServletResponse> waiting = send(filter, "/api/goals", (req, res) -> { });
+        awaitWaiting(1);
+        long start = System.nanoTime();
+        assertEquals(503, send(filter, "/api/goals", (req, res) -> { }).get(5, TimeUnit.SECONDS).getStatus());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(150));
+        waiting.get(5, TimeUnit.SECONDS);
+
+        release.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(3.0, registry.get("app.admission.rejected").counter().count());
+    }
+
+    @Test
+    void pathsOutsideTheApiAndExemptPathsSkipTheQueue() throws Exception {
+        ConnectionAdmissionFilter filter = filter(1, 0, Duration.ZERO);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = send(filter, "/api/goals", (req, res) -> {
+            holding.countDown();
+            await(release);
+        });
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        assertEquals(200, send(filter, "/actuator/health", (req, res) -> { }).get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, send(filter, "/api/users/health", (req, res) -> { }).get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(503, send(filter, "/api/feedbacks", (req, res) -> { }).get(5, TimeUnit.SECONDS).getStatus());
+
+        release.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    private ConnectionAdmissionFilter filter(int permits, int maxQueue, Duration maxWait) {
+        return new ConnectionAdmissionFilter(null, registry, permits, maxQueue, maxWait, List.of("/api/users/health"));
+    }
+
+    private CompletableFuture<MockHttpServletResponse> send(ConnectionAdmissionFilter filter, String path, FilterChain chain) {
+        return CompletableFuture.supplyAsync(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        }, pool);
+    }
+
+    private void awaitWaiting(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("app.admission.waiting").gauge().value() < count) {
+            assertTrue(System.nanoTime() < deadline, "requests did not queue");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
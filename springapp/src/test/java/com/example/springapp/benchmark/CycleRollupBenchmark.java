@@ -0,0 +1,67 @@
+package com.example.springapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.springapp.model.AppraisalRollupSource;
+import com.example.springapp.rollup.CycleRollups;
+
+// Cost of one appraisal write to the in-memory cycle rollups, in a small and a large group: a status and rating
+// change to the same appraisal, as an edit in the review screen makes. The two sizes should report about the same
+// time; a rescan of the group would be some 20000x slower in the large one.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleRollupBenchmark {
+
+    private static final long CYCLE_ID = 1L;
+
+    @Param({"10", "200000"})
+    public int groupSize;
+
+    private CycleRollups rollups;
+    private int writes;
+
+    @Setup
+    public void setUp() {
+        rollups = new CycleRollups();
+        List<AppraisalRollupSource> group = new ArrayList<>(groupSize);
+        for (long i = 0; i < groupSize; i++) {
+            group.add(new AppraisalRollupSource(i, CYCLE_ID, "Engineering", 1L, "Submitted", 3, 3));
+        }
+        rollups.putAll(group);
+    }
+
+    @Benchmark
+    public void updateOneAppraisal() {
+        int i = writes++;
+        rollups.put(new AppraisalRollupSource(0L, CYCLE_ID, "Engineering", 1L,
+                (i & 1) == 0 ? "Completed" : "In Review", 1 + i % 5, 1 + (i + 2) % 5));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(CycleRollupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.springapp.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.springapp.config.JacksonConfig;
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Response serialization for the entity endpoints: a single Goal, Feedback, Appraisal and User with their nested
+// associations populated, so every @JsonIgnoreProperties trim on the way down is exercised, plus a 100-goal list
+// the size of one keyset page. The mapper is configured like the MVC one, including the Hibernate module.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int GOAL_PAGE_SIZE = 100;
+
+    private ObjectMapper objectMapper;
+    private Goal goal;
+    private Feedback feedback;
+    private Appraisal appraisal;
+    private User user;
+    private List<Goal> goalPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JacksonConfig().hibernateModule())
+                .build();
+
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleId(3L);
+        cycle.setCycleName("2026 H1");
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        cycle.setDescription("First half review");
+
+        user = user(7L, "Priya Raman");
+        // The profile's goal, appraisal and feedback collections stay null, as they are unfetched on the
+        // list endpoints; Goal.employee does not trim them, so a populated list would be written per goal
+        EmployeeProfile profile = profile(42L, user);
+        user.setEmployeeProfiles(List.of(profile));
+
+        appraisal = new Appraisal();
+        appraisal.setAppraisalId(11L);
+        appraisal.setSelfRating(4);
+        appraisal.setManagerRating(4);
+        appraisal.setStatus("In Review");
+        appraisal.setCycleName(cycle.getCycleName());
+        appraisal.setAppraisalDate(LocalDate.of(2026, 6, 15));
+        appraisal.setPeriodStart(cycle.getStartDate());
+        appraisal.setPeriodEnd(cycle.getEndDate());
+        appraisal.setManagerName("Arjun Mehta");
+        appraisal.setReviewerRole("Manager");
+        appraisal.setManagerComments("Consistently strong delivery");
+        appraisal.setEmployee(profile);
+        appraisal.setReviewCycle(cycle);
+
+        goalPage = new ArrayList<>(GOAL_PAGE_SIZE);
+        for (int i = 0; i < GOAL_PAGE_SIZE; i++) {
+            goalPage.add(goal(1_000L + i, profile, appraisal));
+        }
+        goal = goalPage.get(0);
+
+        feedback = new Feedback();
+        feedback.setFeedbackId(5L);
+        feedback.setFeedbackType("Peer");
+        feedback.setComments("Great collaboration on the release");
+        feedback.setRating(4);
+        feedback.setAchievements("Shipped the cycle launch job");
+        feedback.setChallenges("Tight deadline");
+        feedback.setImprovements("Earlier design reviews");
+        feedback.setEmployee(profile);
+        feedback.setReviewer(user(8L, "Arjun Mehta"));
+        feedback.setCreatedDate(LocalDateTime.of(2026, 3, 2, 10, 30));
+    }
+
+    @Benchmark
+    public byte[] goal() throws Exception {
+        return objectMapper.writeValueAsBytes(goal);
+    }
+
+    @Benchmark
+    public byte[] feedback() throws Exception {
+        return objectMapper.writeValueAsBytes(feedback);
+    }
+
+    @Benchmark
+    public byte[] appraisal() throws Exception {
+        return objectMapper.writeValueAsBytes(appraisal);
+    }
+
+    @Benchmark
+    public byte[] user() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] goalPage() throws Exception {
+        return objectMapper.writeValueAsBytes(goalPage);
+    }
+
+    private static User user(Long id, String fullName) {
+        User user = new User();
+        user.setUserId(id);
+        user.setFullName(fullName);
+        user.setEmail(fullName.toLowerCase().replace(' ', '.') + "@example.com");
+        user.setPassword("secret");
+        user.setPhoneNumber("9876543210");
+        user.setRole("employee");
+        user.setUsername(fullName.toLowerCase().replace(' ', '.'));
+        return user;
+    }
+
+    private static EmployeeProfile profile(Long id, User user) {
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setEmployeeProfileId(id);
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        profile.setDesignation("Senior Developer");
+        profile.setDateOfJoining("2021-04-12");
+        profile.setReportingManager("Arjun Mehta");
+        profile.setCurrentProject("Appraise360");
+        profile.setCurrentTeam("Platform");
+        profile.setSkills("Java, Spring Boot, Angular, SQL");
+        profile.setLastAppraisalRating(4.2);
+        profile.setCurrentGoals("Improve test coverage");
+        return profile;
+    }
+
+    private static Goal goal(Long id, EmployeeProfile employee, Appraisal appraisal) {
+        Goal goal = new Goal();
+        goal.setGoalId(id);
+        goal.setTitle("Improve test coverage " + id);
+        goal.setDescription("Raise service coverage to 80%");
+        goal.setStatus("In Progress");
+        goal.setPriority("High");
+        goal.setStartDate(LocalDate.of(2026, 1, 5));
+        goal.setTargetDate(LocalDate.of(2026, 6, 30));
+        goal.setProgress(40);
+        goal.setManagerComments("Focus on the appraisal flow");
+        goal.setCreatedBy("manager");
+        goal.setCategory("Technical");
+        goal.setCreatedDate(LocalDateTime.of(2026, 1, 5, 9, 0));
+        goal.setEmployee(employee);
+        goal.setAppraisal(appraisal);
+        return goal;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JsonSerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
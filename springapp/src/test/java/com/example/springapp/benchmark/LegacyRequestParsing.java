@@ -0,0 +1,129 @@
+package com.example.springapp.benchmark;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+
+// Baseline for the binding benchmarks: the map parsing GoalController.createGoal and FeedbackController.createFeedback
+// did before they took typed request records, minus the console logging and the repository lookups
+final class LegacyRequestParsing {
+
+    private LegacyRequestParsing() {}
+
+    static Goal goalFromMap(Map<String, Object> goalData) {
+        Goal goal = new Goal();
+        if (goalData.containsKey("title")) {
+            goal.setTitle((String) goalData.get("title"));
+        }
+        if (goalData.containsKey("description")) {
+            goal.setDescription((String) goalData.get("description"));
+        }
+        if (goalData.containsKey("status")) {
+            goal.setStatus((String) goalData.get("status"));
+        } else {
+            goal.setStatus("Pending");
+        }
+        if (goalData.containsKey("priority")) {
+            goal.setPriority((String) goalData.get("priority"));
+        }
+        if (goalData.containsKey("category")) {
+            goal.setCategory((String) goalData.get("category"));
+        }
+        if (goalData.containsKey("created_by")) {
+            goal.setCreatedBy((String) goalData.get("created_by"));
+        } else {
+            goal.setCreatedBy("manager");
+        }
+        if (goalData.containsKey("manager_comments")) {
+            goal.setManagerComments((String) goalData.get("manager_comments"));
+        }
+
+        Object progressObj = goalData.get("progress");
+        if (progressObj instanceof Integer) {
+            goal.setProgress((Integer) progressObj);
+        } else if (progressObj instanceof String) {
+            try {
+                goal.setProgress(Integer.parseInt((String) progressObj));
+            } catch (NumberFormatException e) {
+                goal.setProgress(0);
+            }
+        } else {
+            goal.setProgress(0);
+        }
+
+        goal.setStartDate(date(goalData, "start_date", "startDate"));
+        goal.setTargetDate(date(goalData, "target_date", "targetDate", "endDate"));
+        goal.setCompletionDate(date(goalData, "completion_date", "completionDate"));
+
+        if (id(goalData, "employee_id", "employeeId") == null) {
+            throw new IllegalArgumentException("employee_id is required");
+        }
+        id(goalData, "appraisal_id", "appraisalId");
+        return goal;
+    }
+
+    static Feedback feedbackFromMap(Map<String, Object> feedbackData) {
+        Feedback feedback = new Feedback();
+        if (feedbackData.containsKey("feedback_type")) {
+            feedback.setFeedbackType((String) feedbackData.get("feedback_type"));
+        } else if (feedbackData.containsKey("feedbackType")) {
+            feedback.setFeedbackType((String) feedbackData.get("feedbackType"));
+        } else {
+            feedback.setFeedbackType("Manager Feedback");
+        }
+        if (feedbackData.containsKey("comments")) {
+            feedback.setComments((String) feedbackData.get("comments"));
+        }
+        Object ratingObj = feedbackData.get("rating");
+        if (ratingObj instanceof Integer) {
+            feedback.setRating((Integer) ratingObj);
+        } else if (ratingObj instanceof String) {
+            try {
+                feedback.setRating(Integer.parseInt((String) ratingObj));
+            } catch (NumberFormatException e) {
+                // ignored, as before
+            }
+        }
+        if (feedbackData.containsKey("achievements")) {
+            feedback.setAchievements((String) feedbackData.get("achievements"));
+        }
+        if (feedbackData.containsKey("challenges")) {
+            feedback.setChallenges((String) feedbackData.get("challenges"));
+        }
+        if (feedbackData.containsKey("improvements")) {
+            feedback.setImprovements((String) feedbackData.get("improvements"));
+        }
+        if (id(feedbackData, "employee_id", "employeeId") == null) {
+            throw new IllegalArgumentException("employee_id is required");
+        }
+        id(feedbackData, "reviewer_id", "reviewerId");
+        return feedback;
+    }
+
+    private static LocalDate date(Map<String, Object> data, String... keys) {
+        for (String key : keys) {
+            if (data.containsKey(key)) {
+                String value = (String) data.get(key);
+                return value != null && !value.isEmpty() ? LocalDate.parse(value) : null;
+            }
+        }
+        return null;
+    }
+
+    private static Long id(Map<String, Object> data, String... keys) {
+        for (String key : keys) {
+            if (data.containsKey(key)) {
+                Object value = data.get(key);
+                if (value instanceof Integer) {
+                    return ((Integer) value).longValue();
+                } else if (value instanceof String) {
+                    return Long.parseLong((String) value);
+                }
+                return (Long) value;
+            }
+        }
+        return null;
+    }
+}
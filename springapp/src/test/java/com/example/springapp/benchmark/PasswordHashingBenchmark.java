@@ -0,0 +1,74 @@
+package com.example.springapp.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.springapp.config.PasswordConfig;
+
+// Login verification latency per BCrypt cost, to choose app.security.password.bcrypt-strength on the target machine.
+// One verification is single-threaded CPU work and the hashing pool has one thread per core, so the sampled
+// latency is what a login sees while the pool is not queueing. main() prints the highest cost whose p99 fits
+// the target: -Dlogin.p99.target.ms=250 (default).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"8", "10", "11", "12", "13", "14"})
+    public int strength;
+
+    private PasswordEncoder encoder;
+    private String stored;
+
+    @Setup
+    public void setUp() {
+        encoder = new PasswordConfig().passwordEncoder(strength);
+        stored = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, stored);
+    }
+
+    public static void main(String[] args) throws Exception {
+        double targetMillis = Double.parseDouble(System.getProperty("login.p99.target.ms", "250"));
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getSimpleName())
+                .build()).run();
+
+        int chosen = -1;
+        for (RunResult result : results) {
+            int cost = Integer.parseInt(result.getParams().getParam("strength"));
+            double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+            System.out.printf("bcrypt cost %d: p99 %.1f ms%n", cost, p99);
+            if (p99 <= targetMillis && cost > chosen) {
+                chosen = cost;
+            }
+        }
+        System.out.println(chosen < 0
+                ? "No cost meets a p99 of " + targetMillis + " ms; use the lowest measured cost and add hashing threads"
+                : "app.security.password.bcrypt-strength=" + chosen + " meets a p99 of " + targetMillis + " ms");
+    }
+}
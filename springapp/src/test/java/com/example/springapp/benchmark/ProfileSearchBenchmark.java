@@ -0,0 +1,115 @@
+package com.example.springapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.springapp.model.ProfileSearchHit;
+import com.example.springapp.model.ProfileSearchSource;
+import com.example.springapp.search.ProfileSearchIndex;
+
+// Search-box latency of the in-memory profile index at 100k profiles: a one-letter and a short prefix (the
+// widest expansions), a full name, a name plus department, a typo, and the cost of re-indexing one profile.
+// Names, departments and skills are drawn from small vocabularies, so common words have long posting lists.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileSearchBenchmark {
+
+    private static final String[] FIRST = {"james", "mary", "robert", "patricia", "john", "jennifer", "michael",
+            "linda", "david", "elizabeth", "william", "barbara", "richard", "susan", "joseph", "jessica", "thomas",
+            "sarah", "priya", "arjun", "lakshmi", "rahul", "ananya", "vikram", "deepa", "karthik", "meera", "suresh"};
+    private static final String[] LAST = {"smith", "johnson", "williams", "brown", "jones", "garcia", "miller",
+            "davis", "rodriguez", "martinez", "hernandez", "lopez", "wilson", "anderson", "taylor", "thomas",
+            "moore", "jackson", "martin", "lee", "krishnan", "sharma", "iyer", "reddy", "nair", "patel", "menon"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "Human Resources",
+            "Operations", "Support", "Legal", "Product", "Design"};
+    private static final String[] DESIGNATIONS = {"Software Engineer", "Senior Software Engineer", "Team Lead",
+            "Manager", "Analyst", "Associate", "Director", "Consultant", "Architect", "Intern"};
+    private static final String[] SKILLS = {"Java", "Spring", "Angular", "SQL", "Python", "Kubernetes", "AWS",
+            "Negotiation", "Excel", "Figma", "Communication", "Leadership", "Accounting", "Docker", "React"};
+
+    @Param({"100000"})
+    public int profiles;
+
+    private ProfileSearchIndex index;
+    private ProfileSearchSource updated;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<ProfileSearchSource> sources = new ArrayList<>(profiles);
+        for (int i = 1; i <= profiles; i++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            String skills = SKILLS[random.nextInt(SKILLS.length)] + ", " + SKILLS[random.nextInt(SKILLS.length)];
+            sources.add(new ProfileSearchSource((long) i, (long) i, capitalize(first) + " " + capitalize(last),
+                    first + "." + last + i + "@example.com", DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    DESIGNATIONS[random.nextInt(DESIGNATIONS.length)], skills));
+        }
+        index = new ProfileSearchIndex();
+        index.rebuild(sources);
+        updated = new ProfileSearchSource(1L, 1L, "Renamed Person", "renamed.person1@example.com",
+                "Engineering", "Architect", "Java, Kubernetes");
+    }
+
+    @Benchmark
+    public List<ProfileSearchHit> singleLetterPrefix() {
+        return index.search("p", 20);
+    }
+
+    @Benchmark
+    public List<ProfileSearchHit> shortPrefix() {
+        return index.search("lak", 20);
+    }
+
+    @Benchmark
+    public List<ProfileSearchHit> fullName() {
+        return index.search("priya sharma", 20);
+    }
+
+    @Benchmark
+    public List<ProfileSearchHit> nameAndDepartment() {
+        return index.search("john eng", 20);
+    }
+
+    @Benchmark
+    public List<ProfileSearchHit> typo() {
+        return index.search("jenifer", 20);
+    }
+
+    @Benchmark
+    public void reindexOne() {
+        index.put(updated);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ProfileSearchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
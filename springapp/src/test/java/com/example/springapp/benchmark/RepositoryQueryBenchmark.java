@@ -0,0 +1,237 @@
+package com.example.springapp.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.springapp.SpringappApplication;
+import com.example.springapp.model.AdminDashboardSummary;
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.CursorPage;
+import com.example.springapp.model.EmployeeDashboardSummary;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ProfileSummary;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.DashboardService;
+import com.example.springapp.service.EmployeeProfileService;
+import com.example.springapp.service.FeedbackService;
+import com.example.springapp.service.GoalService;
+
+// The read paths behind the list and dashboard endpoints, called through the services so transaction and
+// second-level cache behaviour match production, against the embedded H2 database from the test profile.
+// Volumes are those of a mid-sized company: 2,000 employees, 4 review cycles, 10 goals and 10 feedback each.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int CYCLES = 4;
+    private static final int GOALS_PER_EMPLOYEE = 10;
+    private static final int FEEDBACK_PER_EMPLOYEE = 10;
+    private static final int PAGE_SIZE = 50;
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "HR", "Support"};
+    private static final String[] GOAL_STATUSES = {"Pending", "In Progress", "Completed"};
+
+    private ConfigurableApplicationContext context;
+    private GoalService goalService;
+    private FeedbackService feedbackService;
+    private EmployeeProfileService profileService;
+    private DashboardService dashboardService;
+    private GoalRepository goalRepo;
+
+    private List<Long> employeeIds;
+    private long middleGoalCursor;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringappApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .logStartupInfo(false)
+                .run();
+        goalService = context.getBean(GoalService.class);
+        feedbackService = context.getBean(FeedbackService.class);
+        profileService = context.getBean(EmployeeProfileService.class);
+        dashboardService = context.getBean(DashboardService.class);
+        goalRepo = context.getBean(GoalRepository.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Deep keyset page in the middle of the table, the case OFFSET paging used to make expensive
+    @Benchmark
+    public CursorPage<Goal> goalPage() {
+        return goalService.getGoalsPage(CursorPage.encodeCursor(middleGoalCursor), PAGE_SIZE, null, null, null);
+    }
+
+    @Benchmark
+    public CursorPage<Goal> goalPageByStatus() {
+        return goalService.getGoalsPage(null, PAGE_SIZE, "In Progress", null, null);
+    }
+
+    @Benchmark
+    public CursorPage<Feedback> feedbackPage() {
+        return feedbackService.getFeedbacksPage(null, PAGE_SIZE, "Peer", null, null);
+    }
+
+    @Benchmark
+    public List<Goal> goalsByEmployee() {
+        return goalRepo.findByEmployee_EmployeeProfileId(nextEmployee());
+    }
+
+    @Benchmark
+    public EmployeeDashboardSummary employeeDashboard() {
+        return dashboardService.getEmployeeSummary(nextEmployee(), 10);
+    }
+
+    @Benchmark
+    public AdminDashboardSummary adminDashboard() {
+        return dashboardService.getAdminSummary();
+    }
+
+    @Benchmark
+    public List<ProfileSummary> profileSummaries() {
+        return profileService.getEmployeeProfileSummaries();
+    }
+
+    // Rotate through employees so the benchmark does not measure one hot row
+    private Long nextEmployee() {
+        next = (next + 1) % employeeIds.size();
+        return employeeIds.get(next);
+    }
+
+    private void seed() {
+        ReviewCycleRepository cycleRepo = context.getBean(ReviewCycleRepository.class);
+        UserRepository userRepo = context.getBean(UserRepository.class);
+        EmployeeProfileRepository profileRepo = context.getBean(EmployeeProfileRepository.class);
+        AppraisalRepository appraisalRepo = context.getBean(AppraisalRepository.class);
+        FeedbackRepository feedbackRepo = context.getBean(FeedbackRepository.class);
+
+        List<ReviewCycle> cycles = new ArrayList<>();
+        for (int c = 0; c < CYCLES; c++) {
+            ReviewCycle cycle = new ReviewCycle();
+            cycle.setCycleName("Cycle " + c);
+            cycle.setStartDate(LocalDate.of(2023 + c / 2, c % 2 == 0 ? 1 : 7, 1));
+            cycle.setEndDate(cycle.getStartDate().plusMonths(6).minusDays(1));
+            cycle.setStatus(c == CYCLES - 1 ? "Active" : "Completed");
+            cycles.add(cycle);
+        }
+        cycles = cycleRepo.saveAll(cycles);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            User user = new User();
+            user.setEmail("employee" + i + "@example.com");
+            user.setFullName("Employee " + i);
+            user.setPassword("secret");
+            user.setPhoneNumber("555" + i);
+            user.setRole(i % 20 == 0 ? "manager" : "employee");
+            users.add(user);
+        }
+        users = userRepo.saveAll(users);
+
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            EmployeeProfile profile = new EmployeeProfile();
+            profile.setUser(users.get(i));
+            profile.setDepartment(DEPARTMENTS[i % DEPARTMENTS.length]);
+            profile.setDesignation(i % 20 == 0 ? "Manager" : "Developer");
+            profile.setDateOfJoining(LocalDate.of(2018, 1, 1).plusDays(i).toString());
+            profile.setReportingManager("Employee " + (i / 20 * 20));
+            profile.setSkills("Java, SQL");
+            profiles.add(profile);
+        }
+        profiles = profileRepo.saveAll(profiles);
+
+        employeeIds = new ArrayList<>(EMPLOYEES);
+        List<Appraisal> appraisals = new ArrayList<>();
+        for (EmployeeProfile profile : profiles) {
+            employeeIds.add(profile.getEmployeeProfileId());
+            for (ReviewCycle cycle : cycles) {
+                Appraisal appraisal = new Appraisal();
+                appraisal.setEmployee(profile);
+                appraisal.setReviewCycle(cycle);
+                appraisal.setCycleName(cycle.getCycleName());
+                appraisal.setStatus("Active".equals(cycle.getStatus()) ? "Submitted" : "Completed");
+                appraisal.setSelfRating(3 + profile.getEmployeeProfileId().intValue() % 3);
+                appraisal.setManagerRating(2 + profile.getEmployeeProfileId().intValue() % 4);
+                appraisals.add(appraisal);
+            }
+        }
+        appraisals = appraisalRepo.saveAll(appraisals);
+
+        List<Goal> goals = new ArrayList<>();
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            EmployeeProfile profile = profiles.get(i);
+            for (int g = 0; g < GOALS_PER_EMPLOYEE; g++) {
+                Goal goal = new Goal();
+                goal.setTitle("Goal " + g + " for employee " + i);
+                goal.setStatus(GOAL_STATUSES[(i + g) % GOAL_STATUSES.length]);
+                goal.setPriority("Medium");
+                goal.setCategory("Technical");
+                goal.setCreatedBy("manager");
+                goal.setProgress(g * 10);
+                goal.setEmployee(profile);
+                goal.setAppraisal(appraisals.get(i * CYCLES + g % CYCLES));
+                goals.add(goal);
+            }
+            for (int f = 0; f < FEEDBACK_PER_EMPLOYEE; f++) {
+                Feedback feedback = new Feedback();
+                feedback.setEmployee(profile);
+                feedback.setReviewer(users.get((i + f + 1) % users.size()));
+                feedback.setFeedbackType(f % 3 == 0 ? "Manager Feedback" : "Peer");
+                feedback.setComments("Feedback " + f);
+                feedback.setRating(1 + (i + f) % 5);
+                feedbacks.add(feedback);
+            }
+        }
+        goals = goalRepo.saveAll(goals);
+        feedbackRepo.saveAll(feedbacks);
+        middleGoalCursor = goals.get(goals.size() / 2).getGoalId();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(RepositoryQueryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springapp.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.FeedbackRequest;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.GoalRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+// Request body binding for POST /api/goals and /api/feedbacks: the Map<String, Object> parsing the controllers
+// used to do versus the typed records. Both paths start from the JSON bytes the Angular client sends.
+// Run main() (or the JMH runner) and compare ops/s and gc.alloc.rate.norm (bytes per request).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBindingBenchmark {
+
+    private static final byte[] GOAL_JSON = ("{\"title\":\"Improve test coverage\",\"description\":\"Raise service coverage to 80%\","
+            + "\"category\":\"Technical\",\"status\":\"Pending\",\"priority\":\"High\",\"start_date\":\"2026-01-05\","
+            + "\"target_date\":\"2026-06-30\",\"manager_comments\":\"Focus on the appraisal flow\",\"employee_id\":42,"
+            + "\"created_by\":\"manager\",\"progress\":\"15\"}").getBytes();
+
+    private static final byte[] FEEDBACK_JSON = ("{\"feedback_type\":\"Peer\",\"comments\":\"Great collaboration on the release\","
+            + "\"rating\":4,\"achievements\":\"Shipped the cycle launch job\",\"challenges\":\"Tight deadline\","
+            + "\"improvements\":\"Earlier design reviews\",\"employee_id\":42,\"reviewer_id\":\"7\"}").getBytes();
+
+    private ObjectMapper objectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @Benchmark
+    public Goal goalMapParsing() throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> goalData = objectMapper.readValue(GOAL_JSON, Map.class);
+        return LegacyRequestParsing.goalFromMap(goalData);
+    }
+
+    // Like for like with the map path, which did no validation
+    @Benchmark
+    public Goal goalTypedBinding() throws Exception {
+        return objectMapper.readValue(GOAL_JSON, GoalRequest.class).toGoal();
+    }
+
+    // What the endpoint actually does: binding plus @Validated(Create.class)
+    @Benchmark
+    public Goal goalTypedBindingValidated() throws Exception {
+        GoalRequest request = objectMapper.readValue(GOAL_JSON, GoalRequest.class);
+        if (!validator.validate(request, GoalRequest.Create.class).isEmpty()) {
+            throw new IllegalStateException("benchmark payload must be valid");
+        }
+        return request.toGoal();
+    }
+
+    @Benchmark
+    public Feedback feedbackMapParsing() throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> feedbackData = objectMapper.readValue(FEEDBACK_JSON, Map.class);
+        return LegacyRequestParsing.feedbackFromMap(feedbackData);
+    }
+
+    @Benchmark
+    public Feedback feedbackTypedBinding() throws Exception {
+        return objectMapper.readValue(FEEDBACK_JSON, FeedbackRequest.class).toFeedback();
+    }
+
+    @Benchmark
+    public Feedback feedbackTypedBindingValidated() throws Exception {
+        FeedbackRequest request = objectMapper.readValue(FEEDBACK_JSON, FeedbackRequest.class);
+        if (!validator.validate(request, FeedbackRequest.Create.class).isEmpty()) {
+            throw new IllegalStateException("benchmark payload must be valid");
+        }
+        return request.toFeedback();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(RequestBindingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
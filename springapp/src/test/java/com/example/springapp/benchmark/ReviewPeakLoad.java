@@ -0,0 +1,205 @@
+package com.example.springapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Closed-loop HTTP load for the review-peak read mix: each simulated user requests one of its own pages, waits for the
+// answer, thinks, and goes again. Latency is recorded per endpoint group from the moment a request is sent, so time
+// spent queueing in the server (threads, admission, connections) is included. Run against a started backend, with and
+// without the virtual-threads profile, through loadtest/compare-virtual-threads.sh or:
+//   mvn -Ploadtest test -Dload.args="-users=2000 -duration=120s -base-url=http://localhost:8080"
+public class ReviewPeakLoad {
+
+    private static final Pattern PROFILE_ID = Pattern.compile("\"employeeProfileId\"\\s*:\\s*(\\d+)");
+
+    // Share of requests per page, in percent
+    private static final String[][] MIX = {
+            {"30", "dashboard", "/api/dashboard/employee/%d"},
+            {"25", "goals", "/api/goals/employee/%d"},
+            {"20", "feedbacks", "/api/feedbacks/employee/%d"},
+            {"15", "appraisals", "/api/appraisals/employee/%d"},
+            {"10", "profile", "/api/employeeProfiles/%d"},
+    };
+
+    private static final int MAX_MILLIS = 60_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int users = Integer.parseInt(options.getOrDefault("users", "2000"));
+        Duration duration = duration(options.getOrDefault("duration", "120s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "30s"));
+        Duration ramp = duration(options.getOrDefault("ramp", "20s"));
+        Duration think = duration(options.getOrDefault("think", "500ms"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        List<Long> profileIds = profileIds(client, baseUrl);
+        if (profileIds.isEmpty()) {
+            throw new IllegalStateException("No employee profiles at " + baseUrl + "; import users first (POST /api/users/import)");
+        }
+        System.out.printf("%d users over %d profiles against %s: ramp %s, warmup %s, measure %s, think %s%n",
+                users, profileIds.size(), baseUrl, ramp, warmup, duration, think);
+
+        Stats stats = new Stats();
+        long start = System.nanoTime();
+        long measureFrom = start + ramp.toNanos() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            long profileId = profileIds.get(user % profileIds.size());
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            Executor rampedStart = CompletableFuture.delayedExecutor(ramp.toNanos() * user / users, TimeUnit.NANOSECONDS);
+            rampedStart.execute(() -> loop(client, baseUrl, profileId, think, stats, measureFrom, measureUntil, done));
+            loops.add(done);
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        stats.print(Duration.ofNanos(measureUntil - measureFrom));
+        System.exit(0);
+    }
+
+    // One user: request, record, think, and schedule the next round until the measurement window ends
+    private static void loop(HttpClient client, String baseUrl, long profileId, Duration think,
+                             Stats stats, long measureFrom, long measureUntil, CompletableFuture<Void> done) {
+        if (System.nanoTime() >= measureUntil) {
+            done.complete(null);
+            return;
+        }
+        String[] page = pick();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + String.format(page[2], profileId)))
+                .timeout(Duration.ofSeconds(MAX_MILLIS / 1000))
+                .GET()
+                .build();
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long now = System.nanoTime();
+                    if (sent >= measureFrom && now < measureUntil) {
+                        stats.record(page[1], failure == null ? response.statusCode() : -1, now - sent);
+                    }
+                    CompletableFuture.delayedExecutor(jitter(think), TimeUnit.NANOSECONDS).execute(
+                            () -> loop(client, baseUrl, profileId, think, stats, measureFrom, measureUntil, done));
+                });
+    }
+
+    private static String[] pick() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        for (String[] page : MIX) {
+            roll -= Integer.parseInt(page[0]);
+            if (roll < 0) {
+                return page;
+            }
+        }
+        return MIX[MIX.length - 1];
+    }
+
+    // Think time varies +-50% so users do not fire in lockstep
+    private static long jitter(Duration think) {
+        long nanos = think.toNanos();
+        return nanos == 0 ? 0 : nanos / 2 + ThreadLocalRandom.current().nextLong(nanos);
+    }
+
+    private static List<Long> profileIds(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/employeeProfiles/summaries")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/employeeProfiles/summaries returned " + response.statusCode());
+        }
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = PROFILE_ID.matcher(response.body());
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^-+", "").split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected -name=value, got " + arg);
+            }
+            options.put(pair[0], pair[1]);
+        }
+        return options;
+    }
+
+    // 120s, 500ms or 2m
+    private static Duration duration(String value) {
+        Matcher matcher = Pattern.compile("(\\d+)(ms|s|m)").matcher(value);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Expected a duration like 120s, 500ms or 2m, got " + value);
+        }
+        long amount = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2)) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            default -> Duration.ofMinutes(amount);
+        };
+    }
+
+    // Millisecond-bucket latency histograms per endpoint group, plus status counts (-1 for connect/timeout errors)
+    private static final class Stats {
+
+        private final Map<String, AtomicLongArray> histograms = new ConcurrentSkipListMap<>();
+        private final Map<Integer, AtomicLong> statuses = new ConcurrentSkipListMap<>();
+
+        void record(String group, int status, long nanos) {
+            int millis = (int) Math.min(TimeUnit.NANOSECONDS.toMillis(nanos), MAX_MILLIS);
+            histograms.computeIfAbsent(group, g -> new AtomicLongArray(MAX_MILLIS + 1)).incrementAndGet(millis);
+            histograms.computeIfAbsent("all", g -> new AtomicLongArray(MAX_MILLIS + 1)).incrementAndGet(millis);
+            statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+        }
+
+        void print(Duration window) {
+            System.out.printf("%n%-12s %10s %8s %8s %8s %8s %10s%n", "group", "requests", "p50 ms", "p90 ms", "p99 ms", "max ms", "req/s");
+            histograms.forEach((group, histogram) -> {
+                long count = 0;
+                for (int i = 0; i < histogram.length(); i++) {
+                    count += histogram.get(i);
+                }
+                System.out.printf("%-12s %10d %8d %8d %8d %8d %10.1f%n", group, count,
+                        percentile(histogram, count, 0.50), percentile(histogram, count, 0.90),
+                        percentile(histogram, count, 0.99), percentile(histogram, count, 1.0),
+                        count / (window.toMillis() / 1000.0));
+            });
+            System.out.println();
+            statuses.forEach((status, count) -> System.out.printf("status %s: %d%n",
+                    status == -1 ? "error" : status.toString(), count.get()));
+        }
+
+        private static int percentile(AtomicLongArray histogram, long count, double quantile) {
+            long rank = Math.max(1, (long) Math.ceil(count * quantile));
+            long seen = 0;
+            for (int millis = 0; millis < histogram.length(); millis++) {
+                seen += histogram.get(millis);
+                if (seen >= rank) {
+                    return millis;
+                }
+            }
+            return MAX_MILLIS;
+        }
+    }
+}
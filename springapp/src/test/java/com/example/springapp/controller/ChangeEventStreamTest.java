@@ -0,0 +1,91 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.GoalService;
+
+// Committed goal changes reach the streams whose filter they match, and only those
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeEventStreamTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private GoalService goalService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+
+    @Test
+    void streamCarriesSavesAndDeletesForTheFilteredEmployee() throws Exception {
+        EmployeeProfile watched = seedProfile("Watched Employee");
+        EmployeeProfile other = seedProfile("Other Employee");
+
+        MvcResult stream = mockMvc.perform(get("/api/events").param("employeeId", watched.getEmployeeProfileId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Goal goal = goalService.createGoal(goal(watched, "Ship the event stream"));
+        Goal otherGoal = goalService.createGoal(goal(other, "Not for this stream"));
+        mockMvc.perform(delete("/api/goals/" + goal.getGoalId())).andExpect(status().isNoContent());
+
+        String deleted = "\"type\":\"goal\",\"action\":\"deleted\",\"id\":" + goal.getGoalId();
+        String body = awaitContent(stream, deleted);
+        assertTrue(body.contains("event:goal"));
+        assertTrue(body.contains("\"type\":\"goal\",\"action\":\"saved\",\"id\":" + goal.getGoalId()));
+        assertTrue(body.contains("\"employeeId\":" + watched.getEmployeeProfileId()));
+        assertFalse(body.contains("\"id\":" + otherGoal.getGoalId() + ","));
+    }
+
+    private static String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = stream.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertTrue(body.contains(expected), "stream was: " + body);
+        return body;
+    }
+
+    private EmployeeProfile seedProfile(String name) {
+        User user = new User();
+        user.setEmail("events" + System.nanoTime() + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber("5550142");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        return profileRepo.save(profile);
+    }
+
+    private static Goal goal(EmployeeProfile employee, String title) {
+        Goal goal = new Goal();
+        goal.setTitle(title);
+        goal.setEmployee(employee);
+        return goal;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.EmployeeProfileService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// A matching If-None-Match is answered with 304 before anything is loaded; writes, including to embedded rows,
+// change the tags; If-Match and body versions keep a stale copy from overwriting a newer one
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalRequestTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Goal goal;
+
+    @BeforeEach
+    void seed() {
+        user = new User();
+        user.setEmail("etag" + System.nanoTime() + "@example.com");
+        user.setFullName("Tag Owner");
+        user.setPassword("secret");
+        user.setPhoneNumber("5550100");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        profile = profileRepo.save(profile);
+
+        goal = new Goal();
+        goal.setTitle("Ship conditional requests");
+        goal.setStatus("PENDING");
+        goal.setProgress(0);
+        goal.setEmployee(profile);
+        goal = goalRepo.save(goal);
+    }
+
+    @Test
+    void unchangedCollectionIsNotModifiedWithoutQueryingIt() throws Exception {
+        String tag = etag("/api/goals?all=true");
+
+        Statistics stats = statistics();
+        stats.clear();
+        mockMvc.perform(get("/api/goals?all=true").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertEquals(0, stats.getPrepareStatementCount());
+        assertEquals(0, stats.getEntityLoadCount());
+
+        // Any write to the goals table, or to a table its JSON embeds, changes the tag
+        goal.setProgress(40);
+        goal = goalRepo.save(goal);
+        String afterGoalWrite = etag("/api/goals?all=true");
+        assertNotEquals(tag, afterGoalWrite);
+
+        user.setFullName("Renamed Owner");
+        user = userRepo.save(user);
+        assertNotEquals(afterGoalWrite, etag("/api/goals?all=true"));
+    }
+
+    @Test
+    void unchangedEntityIsNotModifiedAfterOneVersionRead() throws Exception {
+        String path = "/api/goals/" + goal.getGoalId();
+        String tag = etag(path);
+
+        Statistics stats = statistics();
+        stats.clear();
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, stats.getPrepareStatementCount());
+        assertEquals(0, stats.getEntityLoadCount());
+
+        // The goal row is untouched, but the employee name in its JSON changed
+        user.setFullName("Another Name");
+        user = userRepo.save(user);
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employee.user.fullName").value("Another Name"));
+
+        mockMvc.perform(get("/api/goals/" + Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void ifMatchRefusesUpdatesToAChangedEntity() throws Exception {
+        String path = "/api/goals/" + goal.getGoalId();
+        String tag = etag(path);
+
+        mockMvc.perform(put(path).header(HttpHeaders.IF_MATCH, tag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"progress\":50}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.progress").value(50));
+
+        // The first update bumped the version, so the same tag is now stale
+        mockMvc.perform(put(path).header(HttpHeaders.IF_MATCH, tag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"progress\":10}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+        assertEquals(50, goalRepo.findById(goal.getGoalId()).orElseThrow().getProgress());
+
+        mockMvc.perform(put(path).header(HttpHeaders.IF_MATCH, etag(path))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"progress\":60}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void managerReferenceChangesInvalidateTheReportsTags() throws Exception {
+        EmployeeProfile report = new EmployeeProfile();
+        report.setUser(user);
+        report.setReportingManager("Tag Manager " + user.getUserId());
+        report = profileService.createEmployeeProfile(report);
+        User managerUser = new User();
+        managerUser.setEmail("etag-manager" + System.nanoTime() + "@example.com");
+        managerUser.setFullName("Tag Manager " + user.getUserId());
+        managerUser.setPassword("secret");
+        managerUser.setPhoneNumber("5550101");
+        managerUser.setRole("Employee");
+        managerUser = userRepo.save(managerUser);
+        String path = "/api/employeeProfiles/" + report.getEmployeeProfileId();
+        String tag = etag(path);
+        String listTag = etag("/api/employeeProfiles");
+
+        // Creating the named manager assigns the waiting report in a bulk update; the report's own row and the
+        // users table it embeds are otherwise untouched
+        EmployeeProfile manager = new EmployeeProfile();
+        manager.setUser(managerUser);
+        manager = profileService.createEmployeeProfile(manager);
+
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.managerId").value(manager.getEmployeeProfileId()));
+        mockMvc.perform(get("/api/employeeProfiles").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isOk());
+
+        // Deleting the manager clears the reference the same way
+        String assignedTag = etag(path);
+        profileService.deleteEmployeeProfile(manager.getEmployeeProfileId());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, assignedTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.managerId").doesNotExist());
+    }
+
+    @Test
+    void staleBodyVersionIsAConflict() throws Exception {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName("Conditional " + System.nanoTime());
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        cycle = cycleRepo.save(cycle);
+        String path = "/api/reviewCycles/" + cycle.getCycleId();
+        String body = "{\"cycleName\":\"%s\",\"startDate\":\"2026-01-01\",\"endDate\":\"2026-06-30\","
+                + "\"status\":\"%s\",\"version\":%d}";
+
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(cycle.getCycleName(), "Closed", cycle.getVersion())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(cycle.getVersion() + 1));
+
+        // A second client still holding the version it read before
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(cycle.getCycleName(), "Active", cycle.getVersion())))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+        assertEquals("Closed", cycleRepo.findById(cycle.getCycleId()).orElseThrow().getStatus());
+    }
+
+    private String etag(String path) throws Exception {
+        String tag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(tag, path + " sent no ETag");
+        return tag;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
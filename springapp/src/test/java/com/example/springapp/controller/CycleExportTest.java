@@ -0,0 +1,182 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// A cycle export streams one row per appraisal, with goal and feedback summaries, from a single query
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CycleExportTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void streamsCsvAndNdjsonWithSummaries() throws Exception {
+        ReviewCycle cycle = cycle("Export FY26", LocalDate.now().minusDays(30), LocalDate.now().plusDays(30));
+        ReviewCycle otherCycle = cycle("Export FY25", LocalDate.now().minusYears(1), LocalDate.now().minusMonths(6));
+
+        EmployeeProfile quoted = profile("Ines \"Quotes\" Exportwell, Jr.", "Engineering");
+        EmployeeProfile plain = profile("Jonah Exportwell", "Sales");
+        EmployeeProfile idle = profile("Kira Exportwell", "Sales");
+
+        Appraisal rated = appraisal(quoted, cycle, "Completed", 4);
+        appraisal(plain, cycle, "Draft", 0);
+        appraisal(idle, cycle, "Draft", 0);
+        appraisal(quoted, otherCycle, "Completed", 2);
+
+        goal(quoted, rated, "Completed", 100);
+        goal(quoted, rated, "In Progress", 50);
+        feedback(quoted, 4, null);
+        feedback(quoted, 5, null);
+        // Given before the cycle started, so it is left out
+        feedback(quoted, 1, LocalDateTime.now().minusDays(90));
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        MvcResult csvResult = export(get("/api/export/cycle/" + cycle.getCycleId()));
+        assertTrue(stats.getPrepareStatementCount() <= 2, "the cycle lookup and one export query, however many rows");
+        assertEquals("text/csv;charset=UTF-8", csvResult.getResponse().getContentType());
+        assertTrue(csvResult.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION).contains(".csv"));
+
+        String[] lines = csvResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("appraisalId,employeeProfileId,employeeName,"));
+        // Ordered by employee; the quoted name keeps its comma and doubles its quotes
+        assertEquals(rated.getAppraisalId() + "," + quoted.getEmployeeProfileId()
+                + ",\"Ines \"\"Quotes\"\" Exportwell, Jr.\",", lines[1].substring(0, lines[1].indexOf("Jr.\",") + 5));
+        assertTrue(lines[1].endsWith(",Completed,0,4,,,,2,1,75.0,2,4.5"), lines[1]);
+        assertTrue(lines[2].endsWith(",Draft,0,0,,,,0,0,,0,"), lines[2]);
+
+        List<JsonNode> rows = new ArrayList<>();
+        String ndjson = export(get("/api/export/cycle/" + cycle.getCycleId()).param("format", "ndjson"))
+                .getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(ndjson.endsWith("\n"));
+        for (String line : ndjson.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertEquals(3, rows.size());
+        assertEquals("Ines \"Quotes\" Exportwell, Jr.", rows.get(0).get("employeeName").asText());
+        assertEquals(2, rows.get(0).get("goals").asInt());
+        assertEquals(4.5, rows.get(0).get("averageFeedbackRating").asDouble());
+        assertTrue(rows.get(1).get("averageGoalProgress").isNull());
+
+        MvcResult gzipped = export(get("/api/export/cycle/" + cycle.getCycleId()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+        assertEquals("gzip", gzipped.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray())).readAllBytes();
+        assertArrayEquals(csvResult.getResponse().getContentAsByteArray(), inflated);
+
+        mockMvc.perform(get("/api/export/cycle/" + Long.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/export/cycle/" + cycle.getCycleId()).param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+        assertTrue(result.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+        return result;
+    }
+
+    private ReviewCycle cycle(String name, LocalDate start, LocalDate end) {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName(name);
+        cycle.setStartDate(start);
+        cycle.setEndDate(end);
+        cycle.setStatus("Active");
+        return cycleRepo.save(cycle);
+    }
+
+    private EmployeeProfile profile(String fullName, String department) {
+        String handle = fullName.toLowerCase().replaceAll("[^a-z]+", " ").trim().replace(' ', '.');
+        User user = new User();
+        user.setEmail(handle + "@example.com");
+        user.setFullName(fullName);
+        user.setPassword("secret");
+        user.setPhoneNumber(handle);
+        user.setRole("employee");
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(userRepo.save(user));
+        profile.setDepartment(department);
+        return profileRepo.save(profile);
+    }
+
+    private Appraisal appraisal(EmployeeProfile employee, ReviewCycle cycle, String status, int managerRating) {
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setReviewCycle(cycle);
+        appraisal.setStatus(status);
+        appraisal.setSelfRating(0);
+        appraisal.setManagerRating(managerRating);
+        return appraisalRepo.save(appraisal);
+    }
+
+    private void goal(EmployeeProfile employee, Appraisal appraisal, String status, int progress) {
+        Goal goal = new Goal();
+        goal.setTitle("Export goal");
+        goal.setStatus(status);
+        goal.setProgress(progress);
+        goal.setEmployee(employee);
+        goal.setAppraisal(appraisal);
+        goalRepo.save(goal);
+    }
+
+    private void feedback(EmployeeProfile employee, int rating, LocalDateTime createdDate) {
+        Feedback feedback = new Feedback();
+        feedback.setFeedbackType("Peer");
+        feedback.setRating(rating);
+        feedback.setEmployee(employee);
+        feedback.setCreatedDate(createdDate);
+        feedbackRepo.save(feedback);
+    }
+}
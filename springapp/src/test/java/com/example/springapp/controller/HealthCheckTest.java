@@ -0,0 +1,124 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.User;
+import com.example.springapp.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Health probes must not load entities, and must answer DOWN quickly when the pool has nothing to give
+@SpringBootTest(properties = {"app.health.user-count.refresh=100ms", "spring.datasource.hikari.maximum-pool-size=4"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HealthCheckTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private DataSource dataSource;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void healthReportsCachedCountWithoutLoadingUsers() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setEmail("health" + i + "@example.com");
+            user.setFullName("Health " + i);
+            user.setPassword("secret");
+            user.setPhoneNumber("555-000" + i);
+            user.setRole("employee");
+            userRepo.save(user);
+        }
+        Thread.sleep(500); // a few background refreshes
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mockMvc.perform(get("/api/users/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.userCount").value((int) userRepo.count()))
+                .andExpect(jsonPath("$.connectionPool.max").value(4));
+        assertEquals(0, stats.getEntityLoadCount(), "health check loaded entities");
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.database.status").value("UP"))
+                .andExpect(jsonPath("$.components.connectionPool.status").value("UP"));
+        mockMvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk());
+    }
+
+    @Test
+    void exhaustedPoolDegradesToDownWithinTheProbeTimeout() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        List<Connection> held = new ArrayList<>();
+        CompletableFuture<Connection> waiter = null;
+        try {
+            for (int i = 0; i < hikari.getMaximumPoolSize(); i++) {
+                held.add(dataSource.getConnection());
+            }
+            // One request queued behind the exhausted pool
+            waiter = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (Exception e) {
+                    return null;
+                }
+            });
+            while (hikari.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) {
+                Thread.sleep(10);
+            }
+
+            long start = System.nanoTime();
+            mockMvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.components.database.status").value("DOWN"))
+                    .andExpect(jsonPath("$.components.connectionPool.status").value("DOWN"));
+            mockMvc.perform(get("/api/users/health"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.status").value("DOWN"));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // First probe waits out the 500 ms timeout, the second sees the stuck probe and returns at once
+            assertTrue(elapsedMillis < 1_500, "probes took " + elapsedMillis + " ms");
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+            if (waiter != null) {
+                Connection connection = waiter.get(5, TimeUnit.SECONDS);
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+        }
+
+        // Recovers as soon as the stuck probe gets its connection back
+        int recovered = 503;
+        for (int i = 0; i < 50 && recovered != 200; i++) {
+            Thread.sleep(20);
+            recovered = mockMvc.perform(get("/actuator/health/readiness")).andReturn().getResponse().getStatus();
+        }
+        assertEquals(200, recovered, "readiness did not recover after the pool was released");
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.CursorPage;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Following nextCursor through goals, feedback and appraisals visits every matching row once, in id order, and stops
+// with a null cursor; limits are clamped and cursors that were not issued by the server are 400s
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class KeysetPaginationTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+
+    private EmployeeProfile employee;
+    private final List<Long> goalIds = new ArrayList<>();
+    private final List<Long> completedGoalIds = new ArrayList<>();
+    private final List<Long> feedbackIds = new ArrayList<>();
+    private final List<Long> peerFeedbackIds = new ArrayList<>();
+    private final List<Long> appraisalIds = new ArrayList<>();
+    private final List<Long> submittedAppraisalIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        employee = seedProfile("Paged Employee");
+        // Rows of another employee interleave with the seeded ones, so the employee filter has something to skip
+        EmployeeProfile other = seedProfile("Paged Other");
+        for (int i = 0; i < ROWS; i++) {
+            Goal goal = goalRepo.save(goal(employee, i % 2 == 0 ? "Completed" : "Pending"));
+            goalIds.add(goal.getGoalId());
+            if (i % 2 == 0) {
+                completedGoalIds.add(goal.getGoalId());
+            }
+            goalRepo.save(goal(other, "Completed"));
+
+            Feedback feedback = feedbackRepo.save(feedback(employee, i % 2 == 0 ? "Peer" : "Manager"));
+            feedbackIds.add(feedback.getFeedbackId());
+            if (i % 2 == 0) {
+                peerFeedbackIds.add(feedback.getFeedbackId());
+            }
+            feedbackRepo.save(feedback(other, "Peer"));
+
+            // One appraisal per employee and cycle
+            ReviewCycle cycle = seedCycle();
+            Appraisal appraisal = appraisalRepo.save(appraisal(employee, cycle, i % 2 == 0 ? "Submitted" : "Draft"));
+            appraisalIds.add(appraisal.getAppraisalId());
+            if (i % 2 == 0) {
+                submittedAppraisalIds.add(appraisal.getAppraisalId());
+            }
+            appraisalRepo.save(appraisal(other, cycle, "Submitted"));
+        }
+    }
+
+    @Test
+    void followingTheCursorVisitsEveryRowOnceAndEndsWithNull() throws Exception {
+        assertEquals(goalIds, walk("/api/goals", "goalId", 2, "employeeId", employee.getEmployeeProfileId()));
+        assertEquals(feedbackIds, walk("/api/feedbacks", "feedbackId", 2, "employeeId", employee.getEmployeeProfileId()));
+        assertEquals(appraisalIds, walk("/api/appraisals", "appraisalId", 2, "employeeId", employee.getEmployeeProfileId()));
+        // A limit that is an exact multiple of the rows still ends on a page with a null cursor
+        assertEquals(goalIds, walk("/api/goals", "goalId", ROWS, "employeeId", employee.getEmployeeProfileId()));
+    }
+
+    @Test
+    void filtersApplyToEveryPage() throws Exception {
+        assertEquals(completedGoalIds, walk("/api/goals", "goalId", 1,
+                "employeeId", employee.getEmployeeProfileId(), "status", "Completed"));
+        assertEquals(peerFeedbackIds, walk("/api/feedbacks", "feedbackId", 1,
+                "employeeId", employee.getEmployeeProfileId(), "type", "Peer"));
+        assertEquals(submittedAppraisalIds, walk("/api/appraisals", "appraisalId", 1,
+                "employeeId", employee.getEmployeeProfileId(), "status", "Submitted"));
+    }
+
+    @Test
+    void limitIsDefaultedAndClamped() throws Exception {
+        for (String path : List.of("/api/goals", "/api/feedbacks", "/api/appraisals")) {
+            mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.limit").value(CursorPage.DEFAULT_LIMIT));
+            mockMvc.perform(get(path).param("limit", "100000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.limit").value(CursorPage.MAX_LIMIT));
+            mockMvc.perform(get(path).param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(path).param("limit", "ten"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void malformedCursorsAreBadRequests() throws Exception {
+        List<String> cursors = List.of("not a cursor", "%%%", encode("abc"), encode("-5"), encode("99999999999999999999"));
+        for (String path : List.of("/api/goals", "/api/feedbacks", "/api/appraisals")) {
+            for (String cursor : cursors) {
+                mockMvc.perform(get(path).param("cursor", cursor))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message").value("Invalid cursor"));
+            }
+        }
+    }
+
+    @Test
+    void cursorRoundTripsTheLastId() {
+        for (long id : new long[] {0L, 1L, 42L, Long.MAX_VALUE}) {
+            assertEquals(id, CursorPage.decodeCursor(CursorPage.encodeCursor(id)));
+        }
+        assertEquals(0L, CursorPage.decodeCursor(null));
+        assertEquals(0L, CursorPage.decodeCursor(" "));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decodeCursor("abc"));
+
+        CursorPage<Long> page = CursorPage.fromOverfetch(List.of(7L, 8L, 9L), 2, Long::valueOf);
+        assertEquals(List.of(7L, 8L), page.getItems());
+        assertEquals(8L, CursorPage.decodeCursor(page.getNextCursor()));
+        assertEquals(null, CursorPage.fromOverfetch(List.of(7L, 8L), 2, Long::valueOf).getNextCursor());
+    }
+
+    // Ids of every row the endpoint returns when its cursor is followed to the end; each page but the last is full
+    private List<Long> walk(String path, String idField, int limit, Object... filters) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path).param("limit", Integer.toString(limit));
+            for (int i = 0; i < filters.length; i += 2) {
+                request.param((String) filters[i], filters[i + 1].toString());
+            }
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.limit").value(limit))
+                    .andReturn().getResponse().getContentAsString());
+            for (JsonNode item : page.get("items")) {
+                ids.add(item.get(idField).asLong());
+            }
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            assertEquals(cursor != null, page.get("hasMore").asBoolean());
+            if (cursor != null) {
+                assertEquals(limit, page.get("items").size());
+            }
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private EmployeeProfile seedProfile(String name) {
+        User user = new User();
+        user.setEmail("paged" + System.nanoTime() + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber("5550144");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        return profileRepo.save(profile);
+    }
+
+    private ReviewCycle seedCycle() {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName("Paged " + System.nanoTime());
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        return cycleRepo.save(cycle);
+    }
+
+    private static Goal goal(EmployeeProfile employee, String status) {
+        Goal goal = new Goal();
+        goal.setTitle("Paged goal");
+        goal.setStatus(status);
+        goal.setEmployee(employee);
+        return goal;
+    }
+
+    private static Feedback feedback(EmployeeProfile employee, String type) {
+        Feedback feedback = new Feedback();
+        feedback.setEmployee(employee);
+        feedback.setFeedbackType(type);
+        feedback.setRating(4);
+        return feedback;
+    }
+
+    private static Appraisal appraisal(EmployeeProfile employee, ReviewCycle cycle, String status) {
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setReviewCycle(cycle);
+        appraisal.setStatus(status);
+        return appraisal;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// The unbounded list endpoints, including JSON serialization, must not fan out into N+1 selects
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListEndpointQueryCountTest {
+
+    private static final String[] ENDPOINTS = {
+        "/api/feedbacks?all=true",
+        "/api/users",
+        "/api/employeeProfiles"
+    };
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private int seeded;
+
+    @Test
+    void statementCountStaysConstantFromTenToTenThousandRows() throws Exception {
+        seedUpTo(10);
+        Map<String, Long> small = measureAll();
+
+        seedUpTo(10_000);
+        Map<String, Long> large = measureAll();
+
+        for (String endpoint : ENDPOINTS) {
+            assertEquals(small.get(endpoint), large.get(endpoint), endpoint + " statement count grew with row count");
+            assertTrue(large.get(endpoint) <= 2, endpoint + " ran " + large.get(endpoint) + " statements");
+        }
+    }
+
+    private Map<String, Long> measureAll() throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            stats.clear();
+            mockMvc.perform(get(endpoint)).andExpect(status().isOk());
+            counts.put(endpoint, stats.getPrepareStatementCount());
+        }
+        return counts;
+    }
+
+    // Every row is a user with one profile and one feedback, reviewed by the previous user
+    private void seedUpTo(int rows) {
+        List<User> users = new ArrayList<>();
+        for (int i = seeded; i < rows; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@example.com");
+            user.setFullName("User " + i);
+            user.setPassword("secret");
+            user.setPhoneNumber("555" + i);
+            user.setRole("Employee");
+            users.add(user);
+        }
+        users = userRepo.saveAll(users);
+
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        for (User user : users) {
+            EmployeeProfile profile = new EmployeeProfile();
+            profile.setUser(user);
+            profile.setDepartment("Engineering");
+            profiles.add(profile);
+        }
+        profiles = profileRepo.saveAll(profiles);
+
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            Feedback feedback = new Feedback();
+            feedback.setEmployee(profiles.get(i));
+            feedback.setReviewer(users.get(i == 0 ? users.size() - 1 : i - 1));
+            feedback.setFeedbackType("Peer");
+            feedback.setRating(i % 5 + 1);
+            feedbacks.add(feedback);
+        }
+        feedbackRepo.saveAll(feedbacks);
+        seeded = rows;
+    }
+}
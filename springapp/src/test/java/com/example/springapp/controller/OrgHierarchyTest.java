@@ -0,0 +1,179 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.TeamRollup;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.EmployeeProfileService;
+import com.example.springapp.service.OrgHierarchyService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Reporting-manager names resolve to profile references; subtree queries are answered from the in-memory org tree
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrgHierarchyTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private OrgHierarchyService hierarchyService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void resolvesManagersAndAnswersSubtreeQueriesFromMemory() throws Exception {
+        EmployeeProfile head = profile("Octavia Treehead", null, "Leadership", null);
+        EmployeeProfile lead = profile("Bertram Midbranch", "  octavia TREEHEAD ", "Engineering", 4.0);
+        EmployeeProfile dev = profile("Cleo Leafnode", "Bertram Midbranch", "Engineering", 3.0);
+        EmployeeProfile qa = profile("Dario Leafnode", "Bertram Midbranch", "Quality", null);
+        // Named before their manager has a profile: resolved when that profile is created
+        EmployeeProfile intern = profile("Elsie Sapling", "Fenwick Latebloom", "Engineering", 5.0);
+        assertNull(profileRepo.findSummaryById(intern.getEmployeeProfileId()).orElseThrow().getManagerId());
+        EmployeeProfile late = profile("Fenwick Latebloom", "Octavia Treehead", "Engineering", null);
+        assertEquals(late.getEmployeeProfileId(), profileRepo.findSummaryById(intern.getEmployeeProfileId()).orElseThrow().getManagerId());
+
+        assertEquals(List.of(lead.getEmployeeProfileId(), late.getEmployeeProfileId()), reports(head, false));
+        assertEquals(List.of(lead.getEmployeeProfileId(), late.getEmployeeProfileId(), dev.getEmployeeProfileId(),
+                qa.getEmployeeProfileId(), intern.getEmployeeProfileId()), reports(head, true));
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        TeamRollup rollup = rollup(head);
+        assertEquals(0, stats.getPrepareStatementCount(), "rollups must not query employee_profiles");
+        assertEquals(2, rollup.directReports());
+        assertEquals(5, rollup.totalReports());
+        assertEquals(2, rollup.depth());
+        assertEquals(3, rollup.ratedReports());
+        assertEquals(4.0, rollup.averageRating());
+        assertEquals(4, rollup.departments().get("Engineering"));
+
+        stats.clear();
+        reports(head, true);
+        assertEquals(1, stats.getPrepareStatementCount(), "a subtree is loaded by primary key in one query");
+
+        // A manager cannot report to someone below them
+        head.setReportingManager("Cleo Leafnode");
+        assertThrows(IllegalArgumentException.class, () -> profileService.updateEmployeeProfile(head));
+
+        // Moving a report updates both managers' subtrees
+        qa.setReportingManager("Octavia Treehead");
+        profileService.updateEmployeeProfile(qa);
+        assertEquals(List.of(dev.getEmployeeProfileId()), reports(lead, false));
+        assertEquals(3, rollup(head).directReports());
+
+        // Deleting a manager leaves their reports without one
+        profileService.deleteEmployeeProfile(lead.getEmployeeProfileId());
+        assertNull(profileRepo.findSummaryById(dev.getEmployeeProfileId()).orElseThrow().getManagerId());
+        assertEquals(3, rollup(head).totalReports());
+        mockMvc.perform(get("/api/employeeProfiles/" + lead.getEmployeeProfileId() + "/team-rollup"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void failedDeleteLeavesReportsAndTreeUntouched() throws Exception {
+        EmployeeProfile manager = profile("Ingrid Rollback", null, "Legal", null);
+        EmployeeProfile report = profile("Jasper Rollback", "Ingrid Rollback", "Legal", null);
+        // The report's goal points at the manager's appraisal, so deleting the manager violates a foreign key
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(manager);
+        appraisal.setStatus("Draft");
+        appraisal = appraisalRepo.save(appraisal);
+        Goal goal = new Goal();
+        goal.setTitle("Linked goal");
+        goal.setStatus("PENDING");
+        goal.setEmployee(report);
+        goal.setAppraisal(appraisal);
+        goalRepo.save(goal);
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> profileService.deleteEmployeeProfile(manager.getEmployeeProfileId()));
+
+        assertEquals(manager.getEmployeeProfileId(), profileRepo.findSummaryById(report.getEmployeeProfileId()).orElseThrow().getManagerId());
+        assertEquals(List.of(report.getEmployeeProfileId()), reports(manager, false));
+    }
+
+    @Test
+    void rebuildResolvesRowsSavedWithoutAReference() throws Exception {
+        EmployeeProfile boss = profile("Gideon Oldrow", null, "Finance", null);
+        // Saved around the service, as rows from before manager references existed were
+        EmployeeProfile legacy = new EmployeeProfile();
+        legacy.setUser(user("Hattie Oldrow"));
+        legacy.setReportingManager("Gideon Oldrow");
+        legacy = profileRepo.save(legacy);
+
+        hierarchyService.rebuild();
+
+        assertEquals(boss.getEmployeeProfileId(), profileRepo.findSummaryById(legacy.getEmployeeProfileId()).orElseThrow().getManagerId());
+        assertEquals(List.of(legacy.getEmployeeProfileId()), reports(boss, false));
+    }
+
+    private List<Long> reports(EmployeeProfile manager, boolean transitive) throws Exception {
+        String json = mockMvc.perform(get("/api/employeeProfiles/" + manager.getEmployeeProfileId() + "/reports")
+                        .param("transitive", String.valueOf(transitive)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode report : objectMapper.readTree(json)) {
+            ids.add(report.get("employeeProfileId").asLong());
+        }
+        return ids;
+    }
+
+    private TeamRollup rollup(EmployeeProfile manager) throws Exception {
+        String json = mockMvc.perform(get("/api/employeeProfiles/" + manager.getEmployeeProfileId() + "/team-rollup"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, TeamRollup.class);
+    }
+
+    private EmployeeProfile profile(String fullName, String reportingManager, String department, Double rating) {
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user(fullName));
+        profile.setReportingManager(reportingManager);
+        profile.setDepartment(department);
+        profile.setLastAppraisalRating(rating);
+        return profileService.createEmployeeProfile(profile);
+    }
+
+    private User user(String fullName) {
+        String handle = fullName.toLowerCase().replace(' ', '.');
+        User user = new User();
+        user.setEmail(handle + "@example.com");
+        user.setFullName(fullName);
+        user.setPassword("secret");
+        user.setPhoneNumber(handle);
+        user.setRole("employee");
+        return userRepo.save(user);
+    }
+}
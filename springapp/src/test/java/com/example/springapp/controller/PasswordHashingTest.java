@@ -0,0 +1,103 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.springapp.model.User;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.UserService;
+
+// Passwords are stored as BCrypt hashes; plaintext rows from before keep working and are re-hashed on login
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private UserService userService;
+
+    @Test
+    void legacyPlaintextPasswordIsRehashedOnFirstLogin() throws Exception {
+        User legacy = userRepo.save(user("legacy@example.com", "555-0100", "secret"));
+
+        assertEquals(200, login("legacy@example.com", "secret"));
+        String stored = storedPassword(legacy.getUserId());
+        assertTrue(stored.startsWith("{bcrypt}"), "plaintext password was not re-hashed: " + stored);
+
+        // The hash now verifies the same password, and nothing else
+        assertEquals(200, login("legacy@example.com", "secret"));
+        assertEquals(stored, storedPassword(legacy.getUserId()), "an up-to-date hash must not be rewritten");
+        assertEquals(401, login("legacy@example.com", "wrong"));
+    }
+
+    @Test
+    void signupResetAndUpdateStoreHashesOnce() throws Exception {
+        User created = userService.createUser(user("new@example.com", "555-0200", "first-pass"));
+        String hash = storedPassword(created.getUserId());
+        assertTrue(hash.startsWith("{bcrypt}"));
+        assertEquals(200, login("new@example.com", "first-pass"));
+
+        // Older clients send the user back with the hash they were given; it must not be hashed again
+        User echoed = userService.getUserById(created.getUserId()).orElseThrow();
+        echoed.setFullName("Renamed");
+        userService.updateUser(echoed);
+        assertEquals(hash, storedPassword(created.getUserId()));
+
+        // The hash is never served, and a user sent back without a password keeps it
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].password").doesNotExist());
+        User withoutPassword = userService.getUserById(created.getUserId()).orElseThrow();
+        withoutPassword.setPassword(null);
+        userService.updateUser(withoutPassword);
+        assertEquals(hash, storedPassword(created.getUserId()));
+
+        mockMvc.perform(put("/api/users/reset-password").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"new@example.com\",\"newPassword\":\"second-pass\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.password").doesNotExist());
+        assertNotEquals(hash, storedPassword(created.getUserId()));
+        assertEquals(401, login("new@example.com", "first-pass"));
+        assertEquals(200, login("new@example.com", "second-pass"));
+    }
+
+    private int login(String email, String password) throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/users/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(pending)).andReturn().getResponse().getStatus();
+    }
+
+    private String storedPassword(Long userId) {
+        return userRepo.findPasswordById(userId).orElseThrow();
+    }
+
+    private static User user(String email, String phone, String password) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(email);
+        user.setPassword(password);
+        user.setPhoneNumber(phone);
+        user.setRole("employee");
+        return user;
+    }
+}
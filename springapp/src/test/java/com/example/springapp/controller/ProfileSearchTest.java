@@ -0,0 +1,121 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.EmployeeProfileService;
+import com.example.springapp.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Profile search is answered from the in-memory index, which follows profile and user saves and deletes
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProfileSearchTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private UserService userService;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void ranksPrefixAndTypoMatchesWithoutQueryingTheDatabase() throws Exception {
+        EmployeeProfile zora = profile("Zoravar Quintero", "zq@example.com", "Engineering", "Java, Spring");
+        EmployeeProfile zoe = profile("Zoe Quill", "zoe.quill@example.com", "Zymurgy", "Brewing");
+        profile("Adam Zorn", "adam@example.com", "Finance", "Zoraxian accounting");
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // A name match outranks the same word found only in skills
+        List<Long> ids = search("zora", 10);
+        assertEquals(zora.getEmployeeProfileId(), ids.get(0));
+        assertEquals(2, ids.size());
+
+        // Every word must match: name prefix plus department prefix
+        assertEquals(List.of(zoe.getEmployeeProfileId()), search("zo zym", 10));
+        // One typo, still being typed
+        assertEquals(List.of(zora.getEmployeeProfileId()), search("quinetro", 10));
+        // The limit caps the result list
+        assertEquals(1, search("zo", 1).size());
+        assertEquals(0, stats.getPrepareStatementCount(), "ranked search must be served from memory");
+
+        mockMvc.perform(get("/api/employeeProfiles/search/ranked").param("q", "zo").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void indexFollowsProfileAndUserChanges() throws Exception {
+        EmployeeProfile profile = profile("Xanthe Vellacourt", "xanthe@example.com", "Operations", "Logistics");
+        assertEquals(List.of(profile.getEmployeeProfileId()), search("vellacourt", 10));
+
+        profile.setDepartment("Cartography");
+        profileService.updateEmployeeProfile(profile);
+        assertEquals(List.of(profile.getEmployeeProfileId()), search("xanthe cartog", 10));
+        assertTrue(search("xanthe operations", 10).isEmpty());
+
+        User user = userService.getUserById(profile.getUser().getUserId()).orElseThrow();
+        user.setFullName("Xanthe Brightwater");
+        userService.updateUser(user);
+        assertTrue(search("vellacourt", 10).isEmpty());
+        assertEquals(List.of(profile.getEmployeeProfileId()), search("brightwater", 10));
+
+        // The entity endpoint keeps its shape, in rank order
+        JsonNode profiles = objectMapper.readTree(mockMvc.perform(get("/api/employeeProfiles/search").param("name", "brightwater"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertEquals(1, profiles.size());
+        assertEquals("Cartography", profiles.get(0).get("department").asText());
+
+        profileService.deleteEmployeeProfile(profile.getEmployeeProfileId());
+        assertTrue(search("brightwater", 10).isEmpty());
+    }
+
+    private List<Long> search(String query, int limit) throws Exception {
+        String json = mockMvc.perform(get("/api/employeeProfiles/search/ranked")
+                        .param("q", query).param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> ids = new ArrayList<>();
+        objectMapper.readTree(json).forEach(hit -> ids.add(hit.get("employeeProfileId").asLong()));
+        return ids;
+    }
+
+    private EmployeeProfile profile(String fullName, String email, String department, String skills) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(fullName);
+        user.setPassword("secret");
+        user.setPhoneNumber(email);
+        user.setRole("employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment(department);
+        profile.setSkills(skills);
+        return profileService.createEmployeeProfile(profile);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+// The scrape endpoint must carry API latency buckets, pool gauges, Hibernate statistics and JVM/GC meters
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class PrometheusMetricsTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void scrapeExposesApiHistogramsPoolHibernateAndJvmMeters() throws Exception {
+        mockMvc.perform(get("/api/reviewCycles")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{") && bucketLine(scrape, "/api/reviewCycles"),
+                "missing latency buckets for /api/reviewCycles");
+        assertFalse(scrape.contains("uri=\"/actuator/health\""), "actuator requests should not be recorded");
+        assertTrue(scrape.contains("hikaricp_connections_max"), "missing Hikari pool gauges");
+        assertTrue(scrape.contains("hibernate_query_executions_total"), "missing Hibernate query count");
+        assertTrue(scrape.contains("hibernate_entities_loads_total"), "missing Hibernate entity load count");
+        assertTrue(scrape.contains("hibernate_second_level_cache_requests_total"), "missing second-level cache hits");
+        assertTrue(scrape.contains("jvm_memory_used_bytes"), "missing JVM memory meters");
+        assertTrue(scrape.contains("jvm_gc_"), "missing GC meters");
+    }
+
+    private static boolean bucketLine(String scrape, String uri) {
+        return scrape.lines().anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket{")
+                && line.contains("uri=\"" + uri + "\""));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.springapp.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Goal and feedback bodies bind to typed requests: both key spellings work and invalid bodies are 400s
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestBindingTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+
+    @Test
+    void goalAcceptsSnakeAndCamelCaseKeys() throws Exception {
+        Long employeeId = seedEmployee("binding-goal");
+
+        String created = mockMvc.perform(post("/api/goals").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Ship it\",\"start_date\":\"2026-01-05\",\"target_date\":\"2026-06-30\","
+                                + "\"manager_comments\":\"ok\",\"employee_id\":\"" + employeeId + "\",\"progress\":\"15\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Pending"))
+                .andExpect(jsonPath("$.createdBy").value("manager"))
+                .andExpect(jsonPath("$.progress").value(15))
+                .andExpect(jsonPath("$.targetDate").value("2026-06-30"))
+                .andExpect(jsonPath("$.managerComments").value("ok"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode goal = objectMapper.readTree(created);
+
+        mockMvc.perform(put("/api/goals/" + goal.get("goalId").asLong()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"progressPercentage\":60,\"endDate\":\"2026-07-31\",\"status\":\"In Progress\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.progress").value(60))
+                .andExpect(jsonPath("$.targetDate").value("2026-07-31"))
+                .andExpect(jsonPath("$.title").value("Ship it"))
+                .andExpect(jsonPath("$.employee.employeeProfileId").value(employeeId));
+    }
+
+    @Test
+    void invalidBodiesAreRejectedWithBadRequest() throws Exception {
+        mockMvc.perform(post("/api/goals").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"No owner\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("employeeId must not be null"));
+        mockMvc.perform(post("/api/goals").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Too much\",\"employeeId\":1,\"progress\":150}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/feedbacks").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"feedback_type\":\"Peer\",\"employee_id\":1,\"rating\":\"five\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void feedbackKeepsParticipantsOnUpdate() throws Exception {
+        Long employeeId = seedEmployee("binding-feedback");
+        Long reviewerId = profileRepo.findById(employeeId).orElseThrow().getUser().getUserId();
+
+        String created = mockMvc.perform(post("/api/feedbacks").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"feedback_type\":\"Peer\",\"comments\":\"Solid\",\"rating\":\"4\","
+                                + "\"employee_id\":" + employeeId + ",\"reviewer_id\":" + reviewerId + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedbackType").value("Peer"))
+                .andExpect(jsonPath("$.rating").value(4))
+                .andReturn().getResponse().getContentAsString();
+        long feedbackId = objectMapper.readTree(created).get("feedbackId").asLong();
+
+        mockMvc.perform(put("/api/feedbacks/" + feedbackId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"feedbackType\":\"Manager\",\"rating\":5,\"employeeId\":999}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedbackType").value("Manager"))
+                .andExpect(jsonPath("$.comments").value("Solid"))
+                .andExpect(jsonPath("$.employee.employeeProfileId").value(employeeId))
+                .andExpect(jsonPath("$.reviewer.userId").value(reviewerId));
+    }
+
+    private Long seedEmployee(String name) {
+        User user = new User();
+        user.setEmail(name + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber(name + "-phone");
+        user.setRole("Employee");
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(userRepo.save(user));
+        profile.setDepartment("Engineering");
+        return profileRepo.save(profile).getEmployeeProfileId();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.logging.CorrelationIdFilter;
+import com.example.springapp.logging.MdcTaskDecorator;
+import com.example.springapp.model.User;
+import com.example.springapp.service.TokenService;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+// Request logs carry a correlation id, and log levels (SQL included) can be changed at runtime by an admin
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestLoggingTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private MdcTaskDecorator mdcTaskDecorator;
+    @Autowired private TokenService tokenService;
+
+    @Test
+    void everyRequestGetsACorrelationIdInItsLogLines() throws Exception {
+        Logger adminLog = (Logger) LoggerFactory.getLogger(AdminController.class);
+        ListAppender<ILoggingEvent> events = new ListAppender<>();
+        events.start();
+        adminLog.addAppender(events);
+        try {
+            String echoed = mockMvc.perform(post("/api/admin/fix-feedback-mappings").header(CorrelationIdFilter.HEADER, "client-42"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(CorrelationIdFilter.HEADER);
+            assertEquals("client-42", echoed);
+        } finally {
+            adminLog.detachAppender(events);
+        }
+        assertFalse(events.list.isEmpty());
+        assertTrue(events.list.stream().allMatch(e -> "client-42".equals(e.getMDCPropertyMap().get(CorrelationIdFilter.MDC_KEY))));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY), "cleared once the request is done");
+
+        // Without an id, or with one that could break a log line, a fresh id is issued
+        String generated = mockMvc.perform(get("/api/users/summaries"))
+                .andReturn().getResponse().getHeader(CorrelationIdFilter.HEADER);
+        assertTrue(generated.matches("[0-9a-f]{16}"), generated);
+        String replaced = mockMvc.perform(get("/api/users/summaries").header(CorrelationIdFilter.HEADER, "forged\r\nline"))
+                .andReturn().getResponse().getHeader(CorrelationIdFilter.HEADER);
+        assertTrue(replaced.matches("[0-9a-f]{16}"), replaced);
+        assertNotEquals(generated, replaced);
+    }
+
+    @Test
+    void workHandedToAPoolKeepsTheCorrelationId() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            MDC.put(CorrelationIdFilter.MDC_KEY, "handed-off");
+            Runnable task = mdcTaskDecorator.decorate(() -> assertEquals("handed-off", MDC.get(CorrelationIdFilter.MDC_KEY)));
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+            CompletableFuture.runAsync(task, pool).join();
+            // The pool thread does not keep it for the next task
+            CompletableFuture.runAsync(() -> assertNull(MDC.get(CorrelationIdFilter.MDC_KEY)), pool).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void adminsToggleSqlLoggingAtRuntime() throws Exception {
+        org.slf4j.Logger sqlLog = LoggerFactory.getLogger("org.hibernate.SQL");
+        assertFalse(sqlLog.isDebugEnabled());
+
+        String admin = bearer("Admin");
+        String debug = "{\"configuredLevel\":\"DEBUG\"}";
+        mockMvc.perform(post("/actuator/loggers/sql").contentType(MediaType.APPLICATION_JSON).content(debug))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/loggers/sql").header(HttpHeaders.AUTHORIZATION, bearer("Employee"))
+                        .contentType(MediaType.APPLICATION_JSON).content(debug))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/loggers/sql").header(HttpHeaders.AUTHORIZATION, admin)
+                        .contentType(MediaType.APPLICATION_JSON).content(debug))
+                .andExpect(status().isNoContent());
+        try {
+            assertTrue(sqlLog.isDebugEnabled());
+        } finally {
+            mockMvc.perform(post("/actuator/loggers/sql").header(HttpHeaders.AUTHORIZATION, admin)
+                            .contentType(MediaType.APPLICATION_JSON).content("{\"configuredLevel\":null}"))
+                    .andExpect(status().isNoContent());
+        }
+        assertFalse(sqlLog.isDebugEnabled());
+    }
+
+    private String bearer(String role) {
+        User user = new User();
+        user.setUserId(1L);
+        user.setRole(role);
+        return "Bearer " + tokenService.issue(user).getTokenValue();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.springapp.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.EmployeeProfileService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// /api/sync returns only what changed after the watermark: updated rows in full, deleted rows (cascades included) by id
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SyncTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private EmployeeProfile profile;
+    private Goal goal;
+    private Feedback feedback;
+
+    @BeforeEach
+    void seed() {
+        user = new User();
+        user.setEmail("sync" + System.nanoTime() + "@example.com");
+        user.setFullName("Sync Owner");
+        user.setPassword("secret");
+        user.setPhoneNumber("5550199");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        profile = profileRepo.save(profile);
+
+        goal = new Goal();
+        goal.setTitle("Sync only what changed");
+        goal.setStatus("PENDING");
+        goal.setProgress(0);
+        goal.setEmployee(profile);
+        goal = goalRepo.save(goal);
+
+        feedback = new Feedback();
+        feedback.setEmployee(profile);
+        feedback.setReviewer(user);
+        feedback.setFeedbackType("Peer");
+        feedback.setRating(4);
+        feedback = feedbackRepo.save(feedback);
+    }
+
+    @Test
+    void returnsRowsChangedAndDeletedAfterTheWatermark() throws Exception {
+        LocalDateTime since = LocalDateTime.now();
+        goal.setProgress(30);
+        goal = goalRepo.save(goal);
+        mockMvc.perform(delete("/api/feedbacks/" + feedback.getFeedbackId())).andExpect(status().isNoContent());
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        mockMvc.perform(get("/api/sync").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermark").exists())
+                .andExpect(jsonPath("$.goals.upserts[*].goalId").value(hasItem(goal.getGoalId().intValue())))
+                .andExpect(jsonPath("$.goals.upserts[?(@.goalId == " + goal.getGoalId() + ")].progress").value(hasItem(30)))
+                .andExpect(jsonPath("$.feedbacks.deleted").value(hasItem(feedback.getFeedbackId().intValue())))
+                .andExpect(jsonPath("$.users.upserts[*].userId").value(not(hasItem(user.getUserId().intValue()))))
+                .andExpect(jsonPath("$.employeeProfiles.upserts[*].employeeProfileId")
+                        .value(not(hasItem(profile.getEmployeeProfileId().intValue()))));
+        // One range scan per entity table; the tombstones are read with plain JDBC
+        assertEquals(6, stats.getPrepareStatementCount());
+
+        // Nothing changed after the sync's own read
+        mockMvc.perform(get("/api/sync").param("since", LocalDateTime.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.goals.upserts").isEmpty())
+                .andExpect(jsonPath("$.feedbacks.deleted").isEmpty());
+    }
+
+    @Test
+    void cascadedDeletesLeaveTombstones() throws Exception {
+        LocalDateTime since = LocalDateTime.now();
+        mockMvc.perform(delete("/api/employeeProfiles/" + profile.getEmployeeProfileId())).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/sync").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeProfiles.deleted").value(hasItem(profile.getEmployeeProfileId().intValue())))
+                .andExpect(jsonPath("$.goals.deleted").value(hasItem(goal.getGoalId().intValue())))
+                .andExpect(jsonPath("$.feedbacks.deleted").value(hasItem(feedback.getFeedbackId().intValue())));
+    }
+
+    @Test
+    void reportsAppearWhenTheirManagerIsAssignedOrDeleted() throws Exception {
+        String managerName = "Sync Manager " + System.nanoTime();
+        profile.setReportingManager(managerName);
+        profile = profileRepo.save(profile);
+        User managerUser = new User();
+        managerUser.setEmail("sync-manager" + System.nanoTime() + "@example.com");
+        managerUser.setFullName(managerName);
+        managerUser.setPassword("secret");
+        managerUser.setPhoneNumber("5550198");
+        managerUser.setRole("Employee");
+        EmployeeProfile manager = new EmployeeProfile();
+        manager.setUser(userRepo.save(managerUser));
+
+        // The waiting report is assigned its manager by a bulk update when the manager's profile is created
+        LocalDateTime since = LocalDateTime.now();
+        manager = profileService.createEmployeeProfile(manager);
+        mockMvc.perform(get("/api/sync").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeProfiles.upserts[*].employeeProfileId")
+                        .value(hasItem(profile.getEmployeeProfileId().intValue())));
+
+        since = LocalDateTime.now();
+        profileService.deleteEmployeeProfile(manager.getEmployeeProfileId());
+        mockMvc.perform(get("/api/sync").param("since", since.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeProfiles.upserts[*].employeeProfileId")
+                        .value(hasItem(profile.getEmployeeProfileId().intValue())));
+    }
+
+    @Test
+    void withoutAWatermarkEverythingIsReturned() throws Exception {
+        mockMvc.perform(get("/api/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.upserts[*].userId").value(hasItem(user.getUserId().intValue())))
+                .andExpect(jsonPath("$.goals.upserts[*].goalId").value(hasItem(goal.getGoalId().intValue())));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Login returns a signed token and a trimmed user; /me trusts the token and reads one projected row
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenAuthTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserService userService;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void loginIssuesTokenWithoutPasswordOrProfiles() throws Exception {
+        EmployeeProfile profile = employee("token@example.com", "555-0300");
+
+        JsonNode body = login("token@example.com", "token-pass");
+
+        assertNotNull(body.get("token"));
+        assertEquals("Bearer", body.get("tokenType").asText());
+        assertNotNull(body.get("expiresAt"));
+        assertEquals(profile.getUser().getUserId().longValue(), body.get("userId").asLong());
+        assertEquals("token@example.com", body.get("email").asText());
+        assertEquals(profile.getEmployeeProfileId().longValue(), body.get("employeeProfileId").asLong());
+        assertFalse(body.has("password"), "login response must not carry the password hash");
+        assertFalse(body.has("employeeProfiles"), "login response must not carry profile entities");
+    }
+
+    @Test
+    void meReadsOneRowAndRejectsMissingOrTamperedTokens() throws Exception {
+        EmployeeProfile profile = employee("me@example.com", "555-0400");
+        String token = login("me@example.com", "token-pass").get("token").asText();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        String json = mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(1, stats.getPrepareStatementCount(), "token verification must not query the database");
+        assertEquals(0, stats.getEntityLoadCount());
+
+        JsonNode me = objectMapper.readTree(json);
+        assertEquals("me@example.com", me.get("email").asText());
+        assertEquals("employee", me.get("role").asText());
+        assertEquals(profile.getEmployeeProfileId().longValue(), me.get("employeeProfileId").asLong());
+        assertFalse(me.has("password"));
+
+        mockMvc.perform(get("/api/users/me")).andExpect(status().isUnauthorized());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tokenFromAnotherKeyIsRejectedOnlyWhereATokenIsRequired() throws Exception {
+        // As after a restart with a fresh random key: the browser still holds a token that has not expired
+        byte[] otherKey = new byte[32];
+        new SecureRandom().nextBytes(otherKey);
+        JwtEncoder otherIssuer = new NimbusJwtEncoder(new ImmutableSecret<>(new SecretKeySpec(otherKey, "HmacSHA256")));
+        JwtClaimsSet claims = JwtClaimsSet.builder().subject("1").expiresAt(Instant.now().plusSeconds(3600)).build();
+        String stale = otherIssuer.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+
+        mockMvc.perform(get("/api/reviewCycles").header(HttpHeaders.AUTHORIZATION, "Bearer " + stale))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + stale))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode login(String email, String password) throws Exception {
+        MvcResult pending = mockMvc.perform(post("/api/users/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String json = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private EmployeeProfile employee(String email, String phone) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(email);
+        user.setPassword("token-pass");
+        user.setPhoneNumber(phone);
+        user.setRole("employee");
+        user = userService.createUser(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        return profileRepo.save(profile);
+    }
+}
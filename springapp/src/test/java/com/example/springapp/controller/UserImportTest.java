@@ -0,0 +1,178 @@
+package com.example.springapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.ImportRowError;
+import com.example.springapp.model.ProfileSearchSource;
+import com.example.springapp.model.User;
+import com.example.springapp.model.UserImportReport;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.UserRepository;
+import com.example.springapp.service.OrgHierarchyService;
+import com.example.springapp.service.PasswordService;
+import com.example.springapp.service.ProfileSearchService;
+import com.example.springapp.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// CSV onboarding: rows are validated and de-duplicated per chunk, inserted in batches, and reported on line by line
+@SpringBootTest(properties = "app.import.chunk-size=1000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserImportTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserImportService importService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private ProfileSearchService searchService;
+    @Autowired private OrgHierarchyService hierarchyService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void importsValidRowsAndReportsTheRest() throws Exception {
+        User existing = new User();
+        existing.setEmail("already.here@example.com");
+        existing.setFullName("Already Here");
+        existing.setPassword("secret");
+        existing.setPhoneNumber("+1-555-0100");
+        existing.setRole("Employee");
+        userRepo.save(existing);
+
+        String csv = "email,Full Name,phone_number,username,password,department,reportingManager,skills\r\n"
+                + "wren.importer@example.com,Wren Importer,+1-555-0101,wren,,Engineering,Yusuf Importhead,Java\r\n"
+                + "yusuf.importhead@example.com,Yusuf Importhead,+1-555-0102,,,Engineering,,\r\n"
+                + "not-an-email,Bad Email,+1-555-0103,,,Sales,,\r\n"
+                + "\r\n"
+                + "WREN.IMPORTER@example.com,Wren Again,+1-555-0104,,,Sales,,\r\n"
+                + "phone.taken@example.com,Phone Taken,+1-555-0100,,,Sales,,\r\n"
+                + "short.row@example.com,Short Row\r\n"
+                + "zelda.quoted@example.com,\"Zelda \"\"Z\"\" Quoted\",+1-555-0105,,,Design,,\"Figma, Sketch\nQuillometry\"\r\n"
+                + "xavi.passworded@example.com,Xavi Passworded,+1-555-0106,,s3cret-pass,Design,,\r\n";
+
+        String json = mockMvc.perform(post("/api/users/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        UserImportReport report = objectMapper.readValue(json, UserImportReport.class);
+
+        assertEquals(8, report.rows());
+        assertEquals(4, report.usersCreated());
+        assertEquals(4, report.profilesCreated());
+        assertEquals(4, report.failed());
+        assertFalse(report.errorsTruncated());
+        assertEquals(List.of(4L, 6L, 7L, 8L), report.errors().stream().map(ImportRowError::line).sorted().toList());
+        assertTrue(report.errors().stream().anyMatch(e -> e.line() == 6 && e.message().contains("more than once")));
+        assertTrue(report.errors().stream().anyMatch(e -> e.line() == 7 && e.message().equals("Phone number already registered")));
+
+        // Without a password the account waits for a reset; with one it is hashed
+        Long wrenId = userRepo.findIdentitiesByEmailIn(List.of("wren.importer@example.com")).get(0).getUserId();
+        assertEquals(PasswordService.NO_PASSWORD, userRepo.findPasswordById(wrenId).orElseThrow());
+        Long xaviId = userRepo.findIdentitiesByEmailIn(List.of("xavi.passworded@example.com")).get(0).getUserId();
+        assertTrue(userRepo.findPasswordById(xaviId).orElseThrow().startsWith("{bcrypt}$2"));
+
+        // Imported profiles are searchable and placed under their managers
+        assertEquals(1, searchService.search("quillometry", 10).size());
+        ProfileSearchSource wren = profileRepo.findSearchSourcesByUserId(wrenId).get(0);
+        Long yusufId = userRepo.findIdentitiesByEmailIn(List.of("yusuf.importhead@example.com")).get(0).getUserId();
+        Long yusufProfileId = profileRepo.findSearchSourcesByUserId(yusufId).get(0).employeeProfileId();
+        assertEquals(yusufProfileId, profileRepo.findSummaryById(wren.employeeProfileId()).orElseThrow().getManagerId());
+        assertEquals(List.of(wren.employeeProfileId()), hierarchyService.directReports(yusufProfileId));
+
+        mockMvc.perform(post("/api/users/import").contentType("text/csv").content("email,fullName,phone,nickname\r\n"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/users/import").contentType("text/csv").content("email,fullName\r\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void dateOfJoiningMustBeADate() throws Exception {
+        String csv = "email,fullName,phoneNumber,dateOfJoining\r\n"
+                + "iso.joiner@example.com,Iso Joiner,+1-555-0201,2026-03-02T09:30:00Z\r\n"
+                + "text.joiner@example.com,Text Joiner,+1-555-0202,March 2026\r\n";
+
+        UserImportReport report = importService.importCsv(new StringReader(csv));
+
+        assertEquals(1, report.profilesCreated());
+        assertEquals(List.of(3L), report.errors().stream().map(ImportRowError::line).toList());
+        assertEquals("dateOfJoining must be a date in yyyy-MM-dd format", report.errors().get(0).message());
+        Long isoId = userRepo.findIdentitiesByEmailIn(List.of("iso.joiner@example.com")).get(0).getUserId();
+        Long profileId = profileRepo.findSearchSourcesByUserId(isoId).get(0).employeeProfileId();
+        assertEquals("2026-03-02", profileRepo.findSummaryById(profileId).orElseThrow().getDateOfJoining());
+    }
+
+    @Test
+    void importsFiftyThousandRowsFromAStream() throws Exception {
+        int rows = 50_000;
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        UserImportReport report = importService.importCsv(new GeneratedCsv(rows));
+
+        assertEquals(rows, report.rows());
+        assertEquals(rows, report.usersCreated());
+        assertEquals(rows, report.profilesCreated());
+        assertEquals(0, report.failed());
+        // Per 1000-row chunk: one duplicate check, one ID lookup, one search-source load; the inserts are JDBC batches
+        long chunks = rows / 1000;
+        assertTrue(stats.getPrepareStatementCount() <= chunks * 3 + 10, "statements: " + stats.getPrepareStatementCount());
+
+        // Importing the same file again creates nothing
+        UserImportReport again = importService.importCsv(new GeneratedCsv(1_000));
+        assertEquals(0, again.usersCreated());
+        assertEquals(1_000, again.failed());
+        assertEquals(1_000, again.errors().size());
+    }
+
+    // Produces the CSV as it is read, so the test never holds the whole file either
+    private static final class GeneratedCsv extends Reader {
+        private final int rows;
+        private int next = -1;
+        private String pending = "";
+        private int offset;
+
+        GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            if (offset == pending.length()) {
+                if (next == rows) {
+                    return -1;
+                }
+                pending = next < 0
+                        ? "email,fullName,phoneNumber,department,designation\n"
+                        : "bulk" + next + "@example.com,Bulk Person " + next + ",+91-" + (9_000_000_000L + next)
+                                + ",Dept " + (next % 20) + ",Engineer\n";
+                next++;
+                offset = 0;
+            }
+            int count = Math.min(len, pending.length() - offset);
+            pending.getChars(offset, offset + count, buffer, off);
+            offset += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.springapp.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.springapp.model.ChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Subscribers get only the events their filter accepts; one that stops reading is evicted without holding up the rest
+class ChangeEventBusTest {
+
+    private static final int BUFFER = 4;
+    private static final int SENDER_THREADS = 2;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ChangeEventBus bus = new ChangeEventBus(new ObjectMapper().registerModule(new JavaTimeModule()),
+            registry, BUFFER, 100, Duration.ofMinutes(1), Duration.ofSeconds(30), SENDER_THREADS, Duration.ofMillis(200));
+
+    @AfterEach
+    void shutdown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void filtersByEmployeeManagerChainAndCycle() throws Exception {
+        RecordingEmitter byEmployee = subscribe(event -> event.matches(7L, null, null));
+        RecordingEmitter bySkipLevelManager = subscribe(event -> event.matches(null, 1L, null));
+        RecordingEmitter byCycle = subscribe(event -> event.matches(null, null, 3L));
+
+        bus.publish(new ChangeEvent(ChangeEvent.GOAL, ChangeEvent.SAVED, 10L, 7L, 3L, "PENDING", List.of(2L, 1L)));
+        bus.publish(new ChangeEvent(ChangeEvent.FEEDBACK, ChangeEvent.SAVED, 11L, 8L, null, null, List.of(1L)));
+        bus.publish(new ChangeEvent(ChangeEvent.APPRAISAL, ChangeEvent.DELETED, 12L, 9L, 4L, "Draft", List.of()));
+
+        byEmployee.awaitFrames(1);
+        bySkipLevelManager.awaitFrames(2);
+        byCycle.awaitFrames(1);
+        Thread.sleep(100);
+        assertEquals(1, byEmployee.frames.size());
+        assertEquals(2, bySkipLevelManager.frames.size());
+        assertEquals(1, byCycle.frames.size());
+        assertTrue(text(byEmployee.frames.get(0)).contains("\"managerId\":2"));
+        assertTrue(text(bySkipLevelManager.frames.get(1)).startsWith("event:feedback"));
+        // Serialized once for everyone it matched
+        assertSame(byEmployee.frames.get(0), bySkipLevelManager.frames.get(0));
+    }
+
+    @Test
+    void slowConsumerIsEvictedWhileOthersKeepReceiving() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter stuck = new RecordingEmitter(unblock);
+        bus.subscribe(stuck, event -> true);
+        RecordingEmitter healthy = subscribe(event -> true);
+
+        // Paced so the healthy client keeps up; a burst larger than the buffer would drop it as well
+        int events = BUFFER * 3;
+        for (int i = 0; i < events; i++) {
+            bus.publish(new ChangeEvent(ChangeEvent.GOAL, ChangeEvent.SAVED, (long) i, 7L, null, "PENDING", List.of()));
+            healthy.awaitFrames(i + 1);
+        }
+
+        assertEquals(1.0, registry.get("app.events.evicted").counter().count());
+        assertEquals(1, bus.subscriberCount());
+        assertEquals(1.0, registry.get("app.events.subscribers").gauge().value());
+
+        unblock.countDown();
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+        // One in the blocked send, at most BUFFER queued behind it, nothing after the eviction
+        assertTrue(stuck.frames.size() <= BUFFER + 1);
+    }
+
+    @Test
+    void moreStalledClientsThanSenderThreadsDoNotStopDelivery() throws Exception {
+        bus.start();
+        CountDownLatch unblock = new CountDownLatch(1);
+        List<RecordingEmitter> stuck = new ArrayList<>();
+        for (int i = 0; i < SENDER_THREADS + 1; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(unblock);
+            bus.subscribe(emitter, event -> true);
+            stuck.add(emitter);
+        }
+        RecordingEmitter healthy = subscribe(event -> true);
+
+        // Every sender thread is soon blocked in a write; the healthy stream still gets each event within seconds
+        int events = BUFFER * 3;
+        for (int i = 0; i < events; i++) {
+            bus.publish(new ChangeEvent(ChangeEvent.GOAL, ChangeEvent.SAVED, (long) i, 7L, null, "PENDING", List.of()));
+            healthy.awaitFrames(i + 1);
+        }
+
+        assertEquals(SENDER_THREADS + 1.0, registry.get("app.events.evicted").counter().count());
+        assertEquals(1, bus.subscriberCount());
+
+        // Each stalled stream is completed by its own sender once the write returns, never ahead of it
+        unblock.countDown();
+        for (RecordingEmitter emitter : stuck) {
+            assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void heartbeatsReachIdleSubscribers() throws Exception {
+        RecordingEmitter idle = subscribe(event -> false);
+        bus.sendHeartbeats();
+        idle.awaitFrames(1);
+        assertTrue(text(idle.frames.get(0)).startsWith(":heartbeat"));
+    }
+
+    private RecordingEmitter subscribe(Predicate<ChangeEvent> filter) {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        bus.subscribe(emitter, filter);
+        return emitter;
+    }
+
+    private static String text(Set<SseEmitter.DataWithMediaType> frame) {
+        StringBuilder text = new StringBuilder();
+        frame.forEach(part -> text.append(part.getData()));
+        return text.toString();
+    }
+
+    // Records frames instead of writing them; optionally blocks every send like a client that stopped reading. The send
+    // holds the emitter's write lock, which the real complete() also takes, as a blocked servlet write does
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final List<Set<DataWithMediaType>> frames = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch unblock;
+
+        RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> frame) throws IOException {
+            writeLock.lock();
+            try {
+                frames.add(frame);
+                if (unblock != null) {
+                    unblock.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            completed.countDown();
+        }
+
+        void awaitFrames(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (frames.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(frames.size() >= count, "expected " + count + " frames, got " + frames.size());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.springapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Every query a repository method issues is EXPLAINed on the migrated schema; a table read without an index
+// condition fails the test unless the method is listed below as reading the whole table on purpose.
+// A new finder therefore needs an index in db/migration (or an entry here) before it can ship.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.springapp.repository.RepositoryQueryPlanTest$RecordingInspector")
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(AppraisalRepository.class, EmployeeProfileRepository.class,
+            FeedbackRepository.class, GoalRepository.class, ReviewCycleRepository.class, UserRepository.class);
+
+    private static final Map<String, String> WHOLE_TABLE_READS = Map.ofEntries(
+            Map.entry("AppraisalRepository.findAll", "admin listing"),
+            Map.entry("AppraisalRepository.countGroupedByStatus", "dashboard totals"),
+            Map.entry("AppraisalRepository.findAllRollupSources", "cycle rollup rebuild"),
+            Map.entry("EmployeeProfileRepository.findAll", "admin listing"),
+            Map.entry("EmployeeProfileRepository.findAllSummaries", "admin listing"),
+            Map.entry("EmployeeProfileRepository.findAllSearchSources", "search index rebuild"),
+            Map.entry("EmployeeProfileRepository.findAllOrgTreeSources", "org tree rebuild"),
+            Map.entry("EmployeeProfileRepository.summarizeEmployeeHeadcount", "dashboard totals"),
+            Map.entry("EmployeeProfileRepository.countTeamSizesByManager", "dashboard totals"),
+            Map.entry("EmployeeProfileRepository.findLaunchCandidateIds", "a cycle launch covers every employee"),
+            Map.entry("EmployeeProfileRepository.findByUserFullNameContainingIgnoreCase",
+                    "substring match; searches are served by ProfileSearchService"),
+            Map.entry("EmployeeProfileRepository.findIdsByUserFullName",
+                    "case- and space-insensitive name match, no portable index; only when a manager name changes"),
+            Map.entry("FeedbackRepository.findAll", "admin listing"),
+            Map.entry("FeedbackRepository.summarizeRatings", "dashboard totals"),
+            Map.entry("GoalRepository.findAll", "admin listing"),
+            Map.entry("GoalRepository.countGroupedByStatus", "dashboard totals"),
+            Map.entry("ReviewCycleRepository.findAll", "cycle listing, query-cached"),
+            Map.entry("UserRepository.findAll", "admin listing"),
+            Map.entry("UserRepository.findAllProjectedByOrderByUserIdAsc", "admin listing"));
+
+    // H2 names the access path of each table in a plan comment: "/* public.goals.tableScan */" for a full scan,
+    // "/* public.idx_goals_status: status = ?1 */" for an index lookup, and an index name alone for a full index scan
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\* ([\\w.]+?)(\\.tableScan)?(: [^*]*)? \\*/");
+
+    private static final List<String> RECORDED = new ArrayList<>();
+
+    @Autowired private ApplicationContext context;
+    @Autowired private DataSource dataSource;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        List<String> failures = new ArrayList<>();
+        int explained = 0;
+        for (Class<?> repository : REPOSITORIES) {
+            Object bean = context.getBean(repository);
+            Method[] methods = repository.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount));
+            for (Method method : methods) {
+                if (method.isDefault() || java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                List<String> statements = run(bean, method);
+                assertTrue(!statements.isEmpty(), name + " issued no SQL");
+                for (String sql : statements) {
+                    String plan = explain(sql);
+                    explained++;
+                    List<String> scans = fullScans(plan);
+                    if (!scans.isEmpty() && !WHOLE_TABLE_READS.containsKey(name)) {
+                        failures.add(name + " scans " + scans + "\n    " + plan.replace('\n', ' '));
+                    }
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail("Repository queries without an index:\n" + String.join("\n", failures));
+        }
+        assertTrue(explained > 50, "explained " + explained + " statements");
+    }
+
+    // Invokes the method with sample arguments in a rolled-back transaction and returns the SQL it issued
+    private List<String> run(Object bean, Method method) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        synchronized (RECORDED) {
+            RECORDED.clear();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                Object result = method.invoke(bean, sampleArguments(method));
+                if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                        stream.count();
+                    }
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(method.getName(), e);
+            }
+        });
+        synchronized (RECORDED) {
+            return new ArrayList<>(RECORDED);
+        }
+    }
+
+    private static Object[] sampleArguments(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arguments[i] = sample(types[i]);
+        }
+        return arguments;
+    }
+
+    private static Object sample(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            Object element = sample(parameterized.getActualTypeArguments()[0]);
+            return List.of(element, element instanceof Long id ? id + 1 : element + "-2");
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == String.class) {
+            return "sample";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2026, 1, 1, 0, 0);
+        }
+        if (type == Limit.class) {
+            return Limit.of(10);
+        }
+        // Entity references (assignManager): a null reference binds as NULL
+        return null;
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    // Access paths that read every row: table scans, and index scans without a condition
+    private static List<String> fullScans(String plan) {
+        List<String> scans = new ArrayList<>();
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        while (matcher.find()) {
+            if (matcher.group(2) != null || matcher.group(3) == null) {
+                scans.add(matcher.group(1));
+            }
+        }
+        return scans;
+    }
+
+    // Registered through hibernate.session_factory.statement_inspector; records the SQL, leaves it unchanged
+    public static class RecordingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            synchronized (RECORDED) {
+                RECORDED.add(sql);
+            }
+            return sql;
+        }
+    }
+}
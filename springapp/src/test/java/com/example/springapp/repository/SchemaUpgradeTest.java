@@ -0,0 +1,108 @@
+package com.example.springapp.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+// A database built by ddl-auto before the migrations existed, already carrying some of what the later migrations add
+// (the manager column, an index from a former @Index annotation, a sequence), is baselined at V1 and upgraded cleanly
+class SchemaUpgradeTest {
+
+    @Test
+    void partlyUpdatedPreMigrationDatabaseIsBaselinedAndUpgraded() throws Exception {
+        String url = "jdbc:h2:mem:upgrade-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        Flyway preMigration = Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/common")
+                .target("1")
+                .load();
+        preMigration.migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Drop Flyway's history so the schema looks like one ddl-auto built, then add what ddl-auto had added
+            statement.execute("DROP TABLE \"flyway_schema_history\"");
+            statement.execute("ALTER TABLE employee_profiles ADD COLUMN manager_id BIGINT");
+            statement.execute("ALTER TABLE employee_profiles ADD CONSTRAINT fk_ddl_auto_manager "
+                    + "FOREIGN KEY (manager_id) REFERENCES employee_profiles (employee_profile_id)");
+            statement.execute("CREATE INDEX idx_users_username ON users (username)");
+            statement.execute("CREATE SEQUENCE goals_seq START WITH 1 INCREMENT BY 50");
+        }
+
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            assertEquals(1, count(statement, "SELECT COUNT(*) FROM information_schema.indexes "
+                    + "WHERE table_name = 'users' AND index_name = 'idx_users_username'"));
+            assertEquals(1, count(statement, "SELECT COUNT(*) FROM information_schema.indexes "
+                    + "WHERE table_name = 'employee_profiles' AND index_name = 'idx_employee_profiles_manager'"));
+            assertEquals(1, count(statement, "SELECT COUNT(*) FROM information_schema.sequences "
+                    + "WHERE sequence_name = 'appraisals_seq'"));
+            assertEquals(1, count(statement, "SELECT COUNT(*) FROM information_schema.columns "
+                    + "WHERE table_name = 'employee_profiles' AND column_name = 'average_appraisal_rating'"));
+        }
+    }
+
+    @Test
+    void duplicateLaunchDraftsAreRemovedBeforeTheCycleEmployeeIndexBecomesUnique() throws Exception {
+        String url = "jdbc:h2:mem:duplicates-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE";
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .target("5")
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (user_id, email, full_name, phone_number, password) "
+                    + "VALUES (1, 'a@example.com', 'A', '1', 'x'), (2, 'b@example.com', 'B', '2', 'x'), "
+                    + "(3, 'c@example.com', 'C', '3', 'x')");
+            statement.execute("INSERT INTO employee_profiles (employee_profile_id, user_id) VALUES (1, 1), (2, 2), (3, 3)");
+            statement.execute("INSERT INTO review_cycles (cycle_id, cycle_name, start_date, end_date, status) "
+                    + "VALUES (1, 'FY26', DATE '2026-01-01', DATE '2026-12-31', 'Active')");
+            // Employee 1: two launches raced; employee 2: the launch raced with a submitted appraisal;
+            // employee 3: a blank draft that already has a goal linked to it is kept for an administrator to resolve
+            statement.execute("INSERT INTO appraisals (appraisal_id, employee_id, cycle_id, status, self_rating, manager_rating) VALUES "
+                    + "(10, 1, 1, 'Draft', 0, 0), (11, 1, 1, 'Draft', 0, 0), "
+                    + "(20, 2, 1, 'Draft', 0, 0), (21, 2, 1, 'Submitted', 4, 0), "
+                    + "(30, 3, 1, 'Submitted', 3, 0), (31, 3, 1, 'Draft', 0, 0)");
+            statement.execute("INSERT INTO goals (goal_id, title, status, appraisal_id) VALUES (1, 'Goal', 'Pending', 31)");
+        }
+
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .target("6")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            assertEquals(4, count(statement, "SELECT COUNT(*) FROM appraisals WHERE appraisal_id IN (10, 21, 30, 31)"));
+            assertEquals(4, count(statement, "SELECT COUNT(*) FROM appraisals"));
+            assertEquals(2, count(statement, "SELECT COUNT(*) FROM sync_tombstones "
+                    + "WHERE table_name = 'appraisals' AND entity_id IN (11, 20)"));
+            assertEquals(1, count(statement, "SELECT version FROM table_versions WHERE table_name = 'appraisals'"));
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws Exception {
+        try (ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+}
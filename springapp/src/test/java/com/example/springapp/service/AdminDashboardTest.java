@@ -0,0 +1,154 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.springapp.model.AdminDashboardSummary;
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.UserRepository;
+
+// The admin dashboard's aggregates move by exactly what a known set of rows adds; the database is shared with other
+// tests, so each figure is compared with its value before the rows were added
+@SpringBootTest
+@ActiveProfiles("test")
+class AdminDashboardTest {
+
+    @Autowired private DashboardService dashboardService;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+
+    @Test
+    void aggregatesCountTheSeededRows() {
+        AdminDashboardSummary before = dashboardService.getAdminSummary();
+        LocalDate today = LocalDate.now();
+        String suffix = Long.toString(System.nanoTime());
+        String platform = "Platform " + suffix;
+        String payroll = "Payroll " + suffix;
+        String lead = "Headcount Lead " + suffix;
+
+        EmployeeProfile recent = seedProfile("Employee", platform, lead, today.minusDays(5).toString());
+        seedProfile("Employee", platform, lead, today.minusDays(DashboardService.NEWLY_JOINED_DAYS + 70).toString());
+        seedProfile("Employee", payroll, null, null);
+        seedProfile("Employee", payroll, null, today.plusDays(10).toString());
+        // Saved before the format was enforced; lexically after any ISO date, but not a recent joiner
+        seedProfile("Employee", payroll, null, "Jan " + today.getYear());
+        // Only Employee-role profiles are counted
+        seedProfile("Manager", platform, null, today.minusDays(1).toString());
+
+        goalRepo.save(goal(recent, "Completed"));
+        goalRepo.save(goal(recent, "Completed"));
+        goalRepo.save(goal(recent, "Pending"));
+        feedbackRepo.save(feedback(recent, 5));
+        feedbackRepo.save(feedback(recent, 2));
+        appraisalRepo.save(appraisal(recent, "Completed"));
+        appraisalRepo.save(appraisal(recent, "Submitted"));
+
+        AdminDashboardSummary after = dashboardService.getAdminSummary();
+        assertEquals(before.getTotalEmployees() + 5, after.getTotalEmployees());
+        assertEquals(before.getNewlyJoined() + 1, after.getNewlyJoined());
+        assertEquals(before.getTotalDepartments() + 2, after.getTotalDepartments());
+        assertEquals(2L, after.getTeamSizes().get(lead));
+
+        assertEquals(before.getTotalGoals() + 3, after.getTotalGoals());
+        assertEquals(count(before.getGoalsByStatus(), "Completed") + 2, count(after.getGoalsByStatus(), "Completed"));
+        assertEquals(count(before.getGoalsByStatus(), "Pending") + 1, count(after.getGoalsByStatus(), "Pending"));
+        assertEquals(100.0 * count(after.getGoalsByStatus(), "Completed") / after.getTotalGoals(),
+                after.getGoalCompletionRate(), 0.01);
+
+        assertEquals(before.getTotalFeedbacks() + 2, after.getTotalFeedbacks());
+        assertEquals((before.getAverageFeedbackRating() * before.getTotalFeedbacks() + 7) / after.getTotalFeedbacks(),
+                after.getAverageFeedbackRating(), 0.01);
+
+        assertEquals(before.getTotalAppraisals() + 2, after.getTotalAppraisals());
+        assertEquals(count(before.getAppraisalsByStatus(), "Completed") + 1, count(after.getAppraisalsByStatus(), "Completed"));
+        assertEquals(100.0 * count(after.getAppraisalsByStatus(), "Completed") / after.getTotalAppraisals(),
+                after.getAppraisalCompletionRate(), 0.01);
+    }
+
+    @Test
+    void dateOfJoiningIsStoredAsAnIsoDate() {
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(seedUser("Employee"));
+        profile.setDateOfJoining("2026-01-15T00:00:00.000Z");
+        profile = profileService.createEmployeeProfile(profile);
+        assertEquals("2026-01-15", profileRepo.findById(profile.getEmployeeProfileId()).orElseThrow().getDateOfJoining());
+
+        EmployeeProfile edit = profileRepo.findById(profile.getEmployeeProfileId()).orElseThrow();
+        edit.setDateOfJoining(" ");
+        assertNull(profileService.updateEmployeeProfile(edit).getDateOfJoining());
+
+        for (String invalid : new String[] {"15/01/2026", "Jan 2026", "2026-02-30"}) {
+            EmployeeProfile rejected = profileRepo.findById(profile.getEmployeeProfileId()).orElseThrow();
+            rejected.setDateOfJoining(invalid);
+            assertThrows(IllegalArgumentException.class, () -> profileService.updateEmployeeProfile(rejected), invalid);
+        }
+    }
+
+    private static long count(Map<String, Long> byStatus, String status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+
+    private User seedUser(String role) {
+        User user = new User();
+        user.setEmail("headcount" + System.nanoTime() + "@example.com");
+        user.setFullName("Headcount " + role);
+        user.setPassword("secret");
+        user.setPhoneNumber("5550166");
+        user.setRole(role);
+        return userRepo.save(user);
+    }
+
+    // Saved through the repository, so the joining date is stored exactly as given
+    private EmployeeProfile seedProfile(String role, String department, String reportingManager, String dateOfJoining) {
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(seedUser(role));
+        profile.setDepartment(department);
+        profile.setReportingManager(reportingManager);
+        profile.setDateOfJoining(dateOfJoining);
+        return profileRepo.save(profile);
+    }
+
+    private static Goal goal(EmployeeProfile employee, String status) {
+        Goal goal = new Goal();
+        goal.setTitle("Headcount goal");
+        goal.setStatus(status);
+        goal.setEmployee(employee);
+        return goal;
+    }
+
+    private static Feedback feedback(EmployeeProfile employee, int rating) {
+        Feedback feedback = new Feedback();
+        feedback.setEmployee(employee);
+        feedback.setFeedbackType("Peer");
+        feedback.setRating(rating);
+        return feedback;
+    }
+
+    private static Appraisal appraisal(EmployeeProfile employee, String status) {
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setStatus(status);
+        return appraisal;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Many threads completing, re-rating and reopening appraisals at once still leave every profile's last and average
+// rating equal to what its Completed appraisals say, and the queued recomputes coalesce into far fewer writes
+@SpringBootTest(properties = {"app.appraisal-ratings.delay=100ms", "app.appraisal-ratings.window=3"})
+@ActiveProfiles("test")
+class AppraisalRatingTest {
+
+    private static final int EMPLOYEES = 4;
+    private static final int APPRAISALS_PER_EMPLOYEE = 8;
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired private AppraisalService appraisalService;
+    @Autowired private AppraisalRatingService ratingService;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private MeterRegistry registry;
+
+    @Test
+    void parallelUpdatesLeaveTheDerivedRatingsConsistent() throws Exception {
+        List<EmployeeProfile> employees = new ArrayList<>();
+        List<Long> appraisalIds = new ArrayList<>();
+        for (int e = 0; e < EMPLOYEES; e++) {
+            EmployeeProfile employee = seedProfile("Rating Employee " + e);
+            employees.add(employee);
+            for (int a = 0; a < APPRAISALS_PER_EMPLOYEE; a++) {
+                Appraisal appraisal = new Appraisal();
+                appraisal.setEmployee(employee);
+                appraisal.setStatus("Submitted");
+                appraisal.setSelfRating(3);
+                appraisal.setManagerRating(0);
+                appraisalIds.add(appraisalRepo.save(appraisal).getAppraisalId());
+            }
+        }
+        double recomputesBefore = registry.get("app.appraisal-ratings.recomputes").counter().count();
+
+        // Each thread owns two appraisals, so the updates race on the profiles rather than on appraisal versions
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> done = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            List<Long> owned = appraisalIds.subList(t * 2, t * 2 + 2);
+            done.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    Appraisal appraisal = appraisalRepo.findById(owned.get(i % owned.size())).orElseThrow();
+                    appraisal.setStatus(random.nextInt(4) == 0 ? "In Review" : "Completed");
+                    appraisal.setManagerRating(random.nextInt(6));
+                    appraisalService.updateAppraisal(appraisal);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : done) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        awaitIdle();
+
+        for (EmployeeProfile employee : employees) {
+            List<Appraisal> rated = appraisalRepo.findByEmployee_EmployeeProfileId(employee.getEmployeeProfileId()).stream()
+                    .filter(a -> "Completed".equals(a.getStatus()) && a.getManagerRating() > 0)
+                    .sorted(Comparator.comparing(Appraisal::getAppraisalId).reversed())
+                    .toList();
+            EmployeeProfile profile = profileRepo.findById(employee.getEmployeeProfileId()).orElseThrow();
+            if (rated.isEmpty()) {
+                assertNull(profile.getLastAppraisalRating());
+                assertNull(profile.getAverageAppraisalRating());
+                continue;
+            }
+            double expectedAverage = rated.stream().limit(3).mapToInt(Appraisal::getManagerRating).average().orElseThrow();
+            assertEquals(rated.get(0).getManagerRating().doubleValue(), profile.getLastAppraisalRating(), 1e-9);
+            assertEquals(expectedAverage, profile.getAverageAppraisalRating(), 1e-9);
+        }
+
+        int updates = THREADS * UPDATES_PER_THREAD;
+        double recomputes = registry.get("app.appraisal-ratings.recomputes").counter().count() - recomputesBefore;
+        assertTrue(recomputes >= EMPLOYEES && recomputes < updates / 2.0,
+                "expected coalesced writes, got " + recomputes + " for " + updates + " updates");
+    }
+
+    @Test
+    void completingAnAppraisalSetsTheRatingsAndDeletingItClearsThem() throws Exception {
+        EmployeeProfile employee = seedProfile("Rating Single");
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setStatus("Completed");
+        appraisal.setManagerRating(4);
+        appraisal = appraisalService.createAppraisal(appraisal);
+        awaitIdle();
+        EmployeeProfile profile = profileRepo.findById(employee.getEmployeeProfileId()).orElseThrow();
+        assertEquals(4.0, profile.getLastAppraisalRating());
+        assertEquals(4.0, profile.getAverageAppraisalRating());
+
+        appraisalService.deleteAppraisal(appraisal.getAppraisalId());
+        awaitIdle();
+        profile = profileRepo.findById(employee.getEmployeeProfileId()).orElseThrow();
+        assertNull(profile.getLastAppraisalRating());
+        assertNull(profile.getAverageAppraisalRating());
+    }
+
+    @Test
+    void profileSaveDoesNotOverwriteTheDerivedRatings() throws Exception {
+        EmployeeProfile employee = seedProfile("Rating Stale Edit");
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setStatus("Completed");
+        appraisal.setManagerRating(4);
+        appraisalService.createAppraisal(appraisal);
+        awaitIdle();
+
+        // A client edits the profile it read before the recompute, sending the old rating back
+        EmployeeProfile edit = profileRepo.findById(employee.getEmployeeProfileId()).orElseThrow();
+        edit.setLastAppraisalRating(1.0);
+        edit.setAverageAppraisalRating(null);
+        edit.setDesignation("Senior Engineer");
+        EmployeeProfile saved = profileService.updateEmployeeProfile(edit);
+
+        assertEquals(4.0, saved.getLastAppraisalRating());
+        EmployeeProfile profile = profileRepo.findById(employee.getEmployeeProfileId()).orElseThrow();
+        assertEquals("Senior Engineer", profile.getDesignation());
+        assertEquals(4.0, profile.getLastAppraisalRating());
+        assertEquals(4.0, profile.getAverageAppraisalRating());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!ratingService.isIdle() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(ratingService.isIdle(), "rating recomputes still queued");
+    }
+
+    private EmployeeProfile seedProfile(String name) {
+        User user = new User();
+        user.setEmail("rating" + System.nanoTime() + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber("5550188");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        return profileRepo.save(profile);
+    }
+}
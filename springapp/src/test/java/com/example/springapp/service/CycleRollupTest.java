@@ -0,0 +1,166 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.CycleRollup;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Rollups follow every create, update and delete exactly as a full recount would, with the same statements per write
+// however many appraisals the cycle already has; CycleRollupBenchmark times the in-memory part
+@SpringBootTest
+@ActiveProfiles("test")
+class CycleRollupTest {
+
+    @Autowired private CycleRollupService rollupService;
+    @Autowired private AppraisalService appraisalService;
+    @Autowired private OrgHierarchyService hierarchyService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void incrementalUpdatesMatchARebuild() {
+        ReviewCycle cycle = seedCycle();
+        EmployeeProfile manager = seedProfile("Rollup Manager", "Engineering", null);
+        EmployeeProfile dev = seedProfile("Rollup Dev", "Engineering", manager);
+        EmployeeProfile otherDev = seedProfile("Rollup Other Dev", "Engineering", manager);
+        EmployeeProfile seller = seedProfile("Rollup Seller", "Sales", manager);
+        hierarchyService.rebuild();
+
+        Appraisal first = appraisalService.createAppraisal(appraisal(dev, cycle, "Submitted", 4, 0));
+        Appraisal second = appraisalService.createAppraisal(appraisal(otherDev, cycle, "Submitted", 3, 0));
+        Appraisal third = appraisalService.createAppraisal(appraisal(seller, cycle, "Submitted", 5, 0));
+        first.setStatus("Completed");
+        first.setManagerRating(5);
+        appraisalService.updateAppraisal(first);
+        appraisalService.deleteAppraisal(second.getAppraisalId());
+        third.setSelfRating(2);
+        appraisalService.updateAppraisal(third);
+
+        CycleRollup engineering = rollupService.getRollups(cycle.getCycleId(), "Engineering", manager.getEmployeeProfileId()).get(0);
+        assertEquals(1, engineering.appraisals());
+        assertEquals(Map.of("Completed", 1L), engineering.statusCounts());
+        assertEquals(4.0, engineering.averageSelfRating());
+        assertEquals(5.0, engineering.averageManagerRating());
+        assertEquals(Map.of(5, 1L), engineering.managerRatingHistogram());
+        CycleRollup sales = rollupService.getRollups(cycle.getCycleId(), "Sales", null).get(0);
+        assertEquals(Map.of(2, 1L), sales.selfRatingHistogram());
+        assertNull(sales.averageManagerRating());
+        assertEquals(2, rollupService.getRollups(cycle.getCycleId(), null, manager.getEmployeeProfileId()).size());
+
+        List<CycleRollup> incremental = rollupService.getRollups(cycle.getCycleId(), null, null);
+        rollupService.rebuild();
+        assertEquals(new ArrayList<>(incremental), new ArrayList<>(rollupService.getRollups(cycle.getCycleId(), null, null)));
+    }
+
+    @Test
+    void updateIssuesTheSameStatementsInASmallAndALargeCycle() {
+        ReviewCycle cycle = seedCycle();
+        EmployeeProfile employee = seedProfile("Rollup Large", "Engineering", null);
+        hierarchyService.rebuild();
+        Appraisal appraisal = appraisalService.createAppraisal(appraisal(employee, cycle, "Submitted", 3, 0));
+
+        long small = statementsForUpdate(appraisal, 4);
+
+        // One appraisal per employee and cycle, so the large group needs as many colleagues
+        List<EmployeeProfile> colleagues = seedProfiles("Rollup Colleague", "Engineering", 2_000);
+        List<Appraisal> filler = new ArrayList<>();
+        for (int i = 0; i < colleagues.size(); i++) {
+            filler.add(appraisal(colleagues.get(i), cycle, "Submitted", 1 + i % 5, 1 + i % 5));
+        }
+        appraisalRepo.saveAll(filler);
+        rollupService.rebuild();
+        assertEquals(2_001, rollupService.getRollups(cycle.getCycleId(), "Engineering", null).get(0).appraisals());
+
+        appraisal = appraisalRepo.findById(appraisal.getAppraisalId()).orElseThrow();
+        assertEquals(small, statementsForUpdate(appraisal, 5));
+    }
+
+    private long statementsForUpdate(Appraisal appraisal, int managerRating) {
+        appraisal.setManagerRating(managerRating);
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        appraisalService.updateAppraisal(appraisal);
+        return stats.getPrepareStatementCount();
+    }
+
+    private ReviewCycle seedCycle() {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName("Rollups " + System.nanoTime());
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        return cycleRepo.save(cycle);
+    }
+
+    private EmployeeProfile seedProfile(String name, String department, EmployeeProfile manager) {
+        User user = new User();
+        user.setEmail("rollup" + System.nanoTime() + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber("5550177");
+        user.setRole("Employee");
+        user = userRepo.save(user);
+
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment(department);
+        profile.setManager(manager);
+        return profileRepo.save(profile);
+    }
+
+    private List<EmployeeProfile> seedProfiles(String name, String department, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail("rollup" + System.nanoTime() + "-" + i + "@example.com");
+            user.setFullName(name + " " + i);
+            user.setPassword("secret");
+            user.setPhoneNumber("5550177");
+            user.setRole("Employee");
+            users.add(user);
+        }
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        for (User user : userRepo.saveAll(users)) {
+            EmployeeProfile profile = new EmployeeProfile();
+            profile.setUser(user);
+            profile.setDepartment(department);
+            profiles.add(profile);
+        }
+        return profileRepo.saveAll(profiles);
+    }
+
+    private static Appraisal appraisal(EmployeeProfile employee, ReviewCycle cycle, String status, int selfRating, int managerRating) {
+        Appraisal appraisal = new Appraisal();
+        appraisal.setEmployee(employee);
+        appraisal.setReviewCycle(cycle);
+        appraisal.setStatus(status);
+        appraisal.setSelfRating(selfRating);
+        appraisal.setManagerRating(managerRating);
+        return appraisal;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.EmployeeDashboardSummary;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Feedback;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.FeedbackRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Benchmark for the employee dashboard: the number of SQL statements must not grow with the employee's history
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeDashboardQueryCountTest {
+
+    @Autowired private DashboardService dashboardService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private FeedbackRepository feedbackRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void queryCountIsConstantRegardlessOfDataVolume() throws Exception {
+        EmployeeProfile small = seedEmployee("small", 5, 2);
+        EmployeeProfile large = seedEmployee("large", 1_000, 40);
+
+        long smallStatements = countStatements(small.getEmployeeProfileId());
+        long largeStatements = countStatements(large.getEmployeeProfileId());
+
+        assertEquals(smallStatements, largeStatements, "statement count must not depend on data volume");
+        assertTrue(largeStatements <= 4, "expected at most 4 statements but got " + largeStatements);
+    }
+
+    private long countStatements(Long employeeProfileId) throws Exception {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        EmployeeDashboardSummary summary = dashboardService.getEmployeeSummary(employeeProfileId, 10);
+        // Serializing must not trigger lazy loading either
+        objectMapper.writeValueAsString(summary);
+        return stats.getPrepareStatementCount();
+    }
+
+    private EmployeeProfile seedEmployee(String name, int rows, int reviewers) {
+        User user = userRepo.save(user(name));
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Engineering");
+        profile.setReportingManager("Manager " + name);
+        profile = profileRepo.save(profile);
+
+        List<User> reviewerUsers = new ArrayList<>();
+        for (int i = 0; i < reviewers; i++) {
+            reviewerUsers.add(user(name + "-reviewer-" + i));
+        }
+        reviewerUsers = userRepo.saveAll(reviewerUsers);
+
+        List<ReviewCycle> cycles = new ArrayList<>();
+        List<Appraisal> appraisals = new ArrayList<>();
+        List<Goal> goals = new ArrayList<>();
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            // An employee has at most one appraisal per cycle
+            ReviewCycle cycle = new ReviewCycle();
+            cycle.setCycleName(name + " cycle " + i);
+            cycle.setStartDate(java.time.LocalDate.of(2020, 1, 1));
+            cycle.setEndDate(java.time.LocalDate.of(2020, 12, 31));
+            cycle.setStatus("Inactive");
+            cycles.add(cycle);
+            Appraisal appraisal = new Appraisal();
+            appraisal.setEmployee(profile);
+            appraisal.setReviewCycle(cycle);
+            appraisal.setStatus(i % 3 == 0 ? "Completed" : "Submitted");
+            appraisal.setManagerRating(i % 5 + 1);
+            appraisals.add(appraisal);
+
+            Goal goal = new Goal();
+            goal.setTitle("Goal " + i);
+            goal.setStatus(i % 2 == 0 ? "Completed" : "Pending");
+            goal.setEmployee(profile);
+            goals.add(goal);
+
+            Feedback feedback = new Feedback();
+            feedback.setEmployee(profile);
+            feedback.setReviewer(reviewerUsers.get(i % reviewers));
+            feedback.setFeedbackType("Peer");
+            feedback.setRating(i % 5 + 1);
+            feedbacks.add(feedback);
+        }
+        cycleRepo.saveAll(cycles);
+        appraisalRepo.saveAll(appraisals);
+        goalRepo.saveAll(goals);
+        feedbackRepo.saveAll(feedbacks);
+        return profile;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setEmail(name + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber(name + "-phone");
+        user.setRole("Employee");
+        return user;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.springapp.model.BulkGoalRequest;
+import com.example.springapp.model.BulkGoalResult;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.Goal;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.GoalRepository;
+import com.example.springapp.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+
+// Bulk assignment must check employees with one query and send the inserts in JDBC batches
+@SpringBootTest
+@ActiveProfiles("test")
+class GoalBulkInsertTest {
+
+    private static final int EMPLOYEES = 5_000;
+
+    @Autowired private GoalService goalService;
+    @Autowired private GoalRepository goalRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void fiveThousandGoalsAreInsertedInBatches() {
+        List<Long> employeeIds = seedEmployees(EMPLOYEES);
+
+        Goal template = new Goal();
+        template.setTitle("Complete security training");
+        template.setCategory("Learning & Development");
+        BulkGoalRequest request = new BulkGoalRequest();
+        request.setTemplate(template);
+        request.setEmployeeIds(employeeIds);
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        BulkGoalResult result = goalService.createGoalsBulk(request);
+
+        assertEquals(EMPLOYEES, result.getCreated());
+        assertEquals(EMPLOYEES, goalRepo.count());
+        // One existence check, one sequence call per 50 ids and one prepared insert per 50-row batch
+        assertTrue(stats.getPrepareStatementCount() <= 1 + 2 * (EMPLOYEES / 50 + 1),
+                "expected batched inserts but got " + stats.getPrepareStatementCount() + " statements");
+
+        Goal saved = goalRepo.findById(result.getGoalIds().get(0)).orElseThrow();
+        assertEquals("PENDING", saved.getStatus());
+        assertEquals(0, saved.getProgress());
+    }
+
+    @Test
+    void unknownEmployeeRejectsWholeRequest() {
+        Long existing = seedEmployees(1).get(0);
+        long before = goalRepo.count();
+
+        Goal template = new Goal();
+        template.setTitle("Orphan goal");
+        BulkGoalRequest request = new BulkGoalRequest();
+        request.setTemplate(template);
+        request.setEmployeeIds(List.of(existing, Long.MAX_VALUE));
+
+        assertThrows(EntityNotFoundException.class, () -> goalService.createGoalsBulk(request));
+        assertEquals(before, goalRepo.count());
+    }
+
+    @Test
+    void invalidGoalIsRejectedByPositionBeforeAnythingIsSaved() {
+        Long employeeId = seedEmployees(1).get(0);
+        long before = goalRepo.count();
+
+        Goal titled = goal(employeeId, "Ship the release");
+        Goal untitled = goal(employeeId, " ");
+        BulkGoalRequest request = new BulkGoalRequest();
+        request.setGoals(List.of(titled, untitled));
+        IllegalArgumentException missingTitle = assertThrows(IllegalArgumentException.class,
+                () -> goalService.createGoalsBulk(request));
+        assertEquals("goals[1]: title is required", missingTitle.getMessage());
+
+        Goal overdone = goal(employeeId, "Overdone");
+        overdone.setProgress(101);
+        request.setGoals(List.of(overdone));
+        assertEquals("goals[0]: progress must be between 0 and 100",
+                assertThrows(IllegalArgumentException.class, () -> goalService.createGoalsBulk(request)).getMessage());
+
+        // Checked before the employees are looked up, so an unknown id does not mask it
+        BulkGoalRequest fromTemplate = new BulkGoalRequest();
+        fromTemplate.setTemplate(new Goal());
+        fromTemplate.setEmployeeIds(List.of(Long.MAX_VALUE));
+        assertEquals("template: title is required",
+                assertThrows(IllegalArgumentException.class, () -> goalService.createGoalsBulk(fromTemplate)).getMessage());
+
+        assertEquals(before, goalRepo.count());
+    }
+
+    private static Goal goal(Long employeeId, String title) {
+        EmployeeProfile employee = new EmployeeProfile();
+        employee.setEmployeeProfileId(employeeId);
+        Goal goal = new Goal();
+        goal.setTitle(title);
+        goal.setEmployee(employee);
+        return goal;
+    }
+
+    private List<Long> seedEmployees(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            String name = "bulk" + System.nanoTime() + "-" + i;
+            user.setEmail(name + "@example.com");
+            user.setFullName(name);
+            user.setPassword("secret");
+            user.setPhoneNumber(name);
+            user.setRole("Employee");
+            users.add(user);
+        }
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        for (User user : userRepo.saveAll(users)) {
+            EmployeeProfile profile = new EmployeeProfile();
+            profile.setUser(user);
+            profile.setDepartment("Engineering");
+            profiles.add(profile);
+        }
+        return profileRepo.saveAll(profiles).stream().map(EmployeeProfile::getEmployeeProfileId).toList();
+    }
+}
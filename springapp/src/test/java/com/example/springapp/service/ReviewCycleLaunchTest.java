@@ -0,0 +1,140 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.Appraisal;
+import com.example.springapp.model.CycleLaunchJob;
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+import com.example.springapp.repository.AppraisalRepository;
+import com.example.springapp.repository.EmployeeProfileRepository;
+import com.example.springapp.repository.ReviewCycleRepository;
+import com.example.springapp.repository.UserRepository;
+
+// Launching a cycle creates exactly one Draft per eligible employee, however often it is run
+@SpringBootTest(properties = "app.cycle-launch.chunk-size=100")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReviewCycleLaunchTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ReviewCycleLaunchService launchService;
+    @Autowired private AppraisalService appraisalService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private EmployeeProfileRepository profileRepo;
+    @Autowired private AppraisalRepository appraisalRepo;
+    @Autowired private ReviewCycleRepository cycleRepo;
+
+    @Test
+    void launchIsIdempotentAndHonoursDepartmentFilter() throws Exception {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName("FY26 H1");
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        cycle = cycleRepo.save(cycle);
+
+        List<EmployeeProfile> engineering = seed("eng", "Engineering", "Employee", 1_200);
+        seed("sales", "Sales", "Employee", 300);
+        seed("mgr", "Engineering", "Manager", 5);
+
+        // One engineer was already appraised through the single-employee endpoint
+        Appraisal existing = new Appraisal();
+        existing.setEmployee(engineering.get(0));
+        existing.setReviewCycle(cycle);
+        existing.setStatus("Submitted");
+        appraisalRepo.save(existing);
+
+        CycleLaunchJob first = await(launchService.launch(cycle.getCycleId(), "Engineering"));
+        assertEquals(CycleLaunchJob.COMPLETED, first.getStatus());
+        assertEquals(1_199, first.getTotalEmployees());
+        assertEquals(1_199, first.getCreated());
+
+        CycleLaunchJob second = await(launchService.launch(cycle.getCycleId(), null));
+        assertEquals(300, second.getCreated());
+
+        CycleLaunchJob third = await(launchService.launch(cycle.getCycleId(), ""));
+        assertEquals(0, third.getTotalEmployees());
+        assertEquals(CycleLaunchJob.COMPLETED, third.getStatus());
+
+        List<Appraisal> appraisals = appraisalRepo.findByReviewCycle_CycleId(cycle.getCycleId());
+        assertEquals(1_500, appraisals.size());
+        assertEquals(1_500, appraisals.stream().map(a -> a.getEmployee().getEmployeeProfileId()).distinct().count());
+        assertEquals(1_499, appraisals.stream().filter(a -> "Draft".equals(a.getStatus())).count());
+
+        // A chunk racing with another writer skips employees that gained an appraisal after the job started
+        assertEquals(0, appraisalService.createDraftAppraisals(cycle, List.of(engineering.get(1).getEmployeeProfileId())));
+    }
+
+    @Test
+    void secondAppraisalOfAnEmployeeInACycleIsAConflict() throws Exception {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName("FY26 H2");
+        cycle.setStartDate(LocalDate.of(2026, 7, 1));
+        cycle.setEndDate(LocalDate.of(2026, 12, 31));
+        cycle.setStatus("Active");
+        cycle = cycleRepo.save(cycle);
+        EmployeeProfile employee = seed("dup", "Support", "Employee", 1).get(0);
+        await(launchService.launch(cycle.getCycleId(), "Support"));
+
+        // The unique (cycle, employee) index holds across instances, where the launch's own check cannot
+        Appraisal duplicate = new Appraisal();
+        duplicate.setEmployee(employee);
+        duplicate.setReviewCycle(cycle);
+        duplicate.setStatus("Draft");
+        assertThrows(DataIntegrityViolationException.class, () -> appraisalService.createAppraisal(duplicate));
+        mockMvc.perform(post("/api/appraisals/employee/" + employee.getEmployeeProfileId() + "/cycle/" + cycle.getCycleId())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"Submitted\"}"))
+                .andExpect(status().isConflict());
+        assertEquals(1, appraisalRepo.findByReviewCycle_CycleId(cycle.getCycleId()).stream()
+                .filter(a -> a.getEmployee().getEmployeeProfileId().equals(employee.getEmployeeProfileId())).count());
+    }
+
+    private CycleLaunchJob await(CycleLaunchJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!job.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(job.isDone(), "launch job did not finish");
+        return job;
+    }
+
+    private List<EmployeeProfile> seed(String prefix, String department, String role, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(prefix + i + "@example.com");
+            user.setFullName(prefix + " " + i);
+            user.setPassword("secret");
+            user.setPhoneNumber(prefix + "-" + i);
+            user.setRole(role);
+            users.add(user);
+        }
+        List<EmployeeProfile> profiles = new ArrayList<>();
+        for (User user : userRepo.saveAll(users)) {
+            EmployeeProfile profile = new EmployeeProfile();
+            profile.setUser(user);
+            profile.setDepartment(department);
+            profiles.add(profile);
+        }
+        return profileRepo.saveAll(profiles);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.springapp.model.EmployeeProfile;
+import com.example.springapp.model.ReviewCycle;
+import com.example.springapp.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Cached lookups must skip the database, and every service write must be visible to the next read
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired private ReviewCycleService reviewCycleService;
+    @Autowired private UserService userService;
+    @Autowired private EmployeeProfileService profileService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void reviewCycleLookupsAreCachedAndInvalidatedOnWrite() {
+        ReviewCycle cycle = reviewCycleService.createReviewCycle(cycle("FY26 H1"));
+        Long id = cycle.getCycleId();
+
+        reviewCycleService.getReviewCycleById(id);
+        assertEquals(0, statementsFor(() -> reviewCycleService.getReviewCycleById(id)));
+
+        reviewCycleService.getAllReviewCycles();
+        assertEquals(0, statementsFor(reviewCycleService::getAllReviewCycles));
+
+        cycle.setCycleName("FY26 H1 (extended)");
+        reviewCycleService.updateReviewCycle(cycle);
+        assertEquals("FY26 H1 (extended)", reviewCycleService.getReviewCycleById(id).orElseThrow().getCycleName());
+
+        reviewCycleService.createReviewCycle(cycle("FY26 H2"));
+        assertEquals(2, reviewCycleService.getAllReviewCycles().size());
+
+        reviewCycleService.deleteReviewCycle(id);
+        assertTrue(reviewCycleService.getReviewCycleById(id).isEmpty());
+        assertEquals(1, reviewCycleService.getAllReviewCycles().size());
+    }
+
+    @Test
+    void usersByRoleAreCachedWithTheirProfiles() throws Exception {
+        User user = userService.createUser(user("cache-reviewer"));
+        user.setRole("Reviewer");
+        userService.updateUser(user);
+        EmployeeProfile profile = new EmployeeProfile();
+        profile.setUser(user);
+        profile.setDepartment("Quality");
+        profileService.createEmployeeProfile(profile);
+
+        assertEquals(1, userService.getUsersByRole("Reviewer").get(0).getEmployeeProfiles().size());
+        assertEquals(0, statementsFor(() -> userService.getUsersByRole("Reviewer").get(0).getEmployeeProfiles().size()));
+        assertEquals(0, statementsFor(() -> userService.getUserById(user.getUserId())));
+
+        User reloaded = userService.getUserById(user.getUserId()).orElseThrow();
+        reloaded.setRole("Employee");
+        userService.updateUser(reloaded);
+        assertTrue(userService.getUsersByRole("Reviewer").isEmpty());
+        List<User> employees = userService.getUsersByRole("Employee");
+        assertTrue(employees.stream().anyMatch(u -> u.getUserId().equals(user.getUserId())));
+
+        mockMvc.perform(get("/api/admin/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.region == 'com.example.springapp.model.User')].hits").isNotEmpty());
+    }
+
+    private long statementsFor(Supplier<?> lookup) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        lookup.get();
+        return stats.getPrepareStatementCount();
+    }
+
+    private static ReviewCycle cycle(String name) {
+        ReviewCycle cycle = new ReviewCycle();
+        cycle.setCycleName(name);
+        cycle.setStartDate(LocalDate.of(2026, 1, 1));
+        cycle.setEndDate(LocalDate.of(2026, 6, 30));
+        cycle.setStatus("Active");
+        return cycle;
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setEmail(name + "@example.com");
+        user.setFullName(name);
+        user.setPassword("secret");
+        user.setPhoneNumber(name + "-phone");
+        return user;
+    }
+}